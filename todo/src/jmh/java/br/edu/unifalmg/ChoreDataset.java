@@ -0,0 +1,68 @@
+package br.edu.unifalmg;
+
+import br.edu.unifalmg.domain.Chore;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic chores for the benchmarks: every (description, deadline)
+ * pair is unique and one chore in three is completed. generate gives every
+ * chore its own description, recurring draws descriptions from a small set.
+ */
+public final class ChoreDataset {
+
+    private ChoreDataset() {
+    }
+
+    public static List<Chore> generate(int size) {
+        List<Chore> chores = new ArrayList<>(size);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < size; i++) {
+            chores.add(new Chore("Chore #" + i, i % 3 == 0, today.plusDays(i % 365)));
+        }
+        return chores;
+    }
+
+    /**
+     * Chores that recur, like real chore lists do: descriptions are drawn
+     * from {@code distinct} ones with a Zipf(1) skew, so the most common
+     * description is used about twice as often as the second one. Each
+     * description gets its deadlines on consecutive days.
+     */
+    public static List<Chore> recurring(int size, int distinct) {
+        int[] ranks = zipf(size, distinct, 42);
+        int[] occurrences = new int[distinct];
+        List<Chore> chores = new ArrayList<>(size);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < size; i++) {
+            int rank = ranks[i];
+            chores.add(new Chore("Recurring chore #" + rank, i % 3 == 0, today.plusDays(occurrences[rank]++)));
+        }
+        return chores;
+    }
+
+    /**
+     * {@code count} ranks between 0 and {@code distinct - 1} with a Zipf(1)
+     * skew, rank 0 the most common. Used as access patterns, where a few
+     * chores are asked for most of the time.
+     */
+    public static int[] zipf(int count, int distinct, long seed) {
+        double[] cumulative = new double[distinct];
+        double total = 0;
+        for (int rank = 0; rank < distinct; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulative[rank] = total;
+        }
+        Random random = new Random(seed);
+        int[] ranks = new int[count];
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            ranks[i] = Math.min(rank < 0 ? -rank - 1 : rank, distinct - 1);
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,95 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.Repository.Chores.impl.CachingChoreRepository;
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking chores up by description and deadline on the in-process H2
+ * database, where a few chores are asked for most of the time (Zipf), with
+ * no cache, an LRU cache and a W-TinyLFU cache holding 1% or 10% of the
+ * table. Popular chores are spread over the table, since H2 finds the
+ * first rows of a scan much sooner than the last ones.
+ * Each cache is warmed with the first accesses before measuring, and its
+ * hit rate is printed at the end of the trial.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar CachingChoreRepositoryBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class CachingChoreRepositoryBenchmark {
+
+    private static final int ACCESSES = 1 << 20;
+    private static final int WARM_UP_ACCESSES = 20_000;
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"1000", "10000"})
+    private int cacheSize;
+
+    @Param({"NONE", "LRU", "TINY_LFU"})
+    private String cache;
+
+    private EmbeddedChoreDatabase database;
+    private MySQLChoreRepository mysql;
+    private ChoresRepository repository;
+    private String[] descriptions;
+    private LocalDate[] deadlines;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        database = new EmbeddedChoreDatabase();
+        database.insertGenerated(size);
+        mysql = new MySQLChoreRepository(database.getUrl());
+        repository = switch (cache) {
+            case "LRU" -> new CachingChoreRepository(mysql, cacheSize, false);
+            case "TINY_LFU" -> new CachingChoreRepository(mysql, cacheSize, true);
+            default -> mysql;
+        };
+        // Matches the rows insertGenerated writes, from chore 1 to chore size.
+        // 7919 shares no factor with the sizes used, so ranks map to
+        // distinct chores.
+        LocalDate today = LocalDate.now();
+        int[] ranks = ChoreDataset.zipf(ACCESSES, size, 7);
+        descriptions = new String[ACCESSES];
+        deadlines = new LocalDate[ACCESSES];
+        for (int i = 0; i < ACCESSES; i++) {
+            int n = (int) ((ranks[i] * 7919L) % size) + 1;
+            descriptions[i] = "Chore #" + n;
+            deadlines[i] = today.plusDays(n % 365);
+        }
+        while (next < WARM_UP_ACCESSES) {
+            find();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (repository instanceof CachingChoreRepository caching) {
+            long lookups = caching.getHits() + caching.getMisses();
+            System.out.printf("%n%s: %.1f%% hits, %,d evictions%n",
+                    cache, 100.0 * caching.getHits() / lookups, caching.getEvictions());
+        }
+        mysql.close();
+        database.close();
+    }
+
+    @Benchmark
+    public Chore find() {
+        int i = next++ & (ACCESSES - 1);
+        return repository.find(descriptions[i], deadlines[i]);
+    }
+}
@@ -0,0 +1,66 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.Repository.Chores.impl.JsonChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.DescriptionDictionary;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a JSON file of recurring chores with and without the description
+ * dictionary. The retained size of the loaded list, as walked by JOL, is
+ * printed during setup; the benchmark measures load, whose allocation is
+ * reported by the gc profiler.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar DescriptionDictionaryBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class DescriptionDictionaryBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"1000"})
+    private int distinct;
+
+    @Param({"true", "false"})
+    private boolean interned;
+
+    private JsonChoreRepository repository;
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("chores", ".json").toFile();
+        repository = new JsonChoreRepository();
+        repository.setFile(file);
+        repository.setDurable(false);
+        repository.saveAll(ChoreDataset.recurring(size, distinct));
+        repository.setDictionary(interned ? new DescriptionDictionary(100_000) : new DescriptionDictionary(0));
+
+        long retained = GraphLayout.parseInstance(repository.load()).totalSize();
+        System.out.printf("%ninterned=%s: %,d bytes (%d per chore)%n", interned, retained, retained / size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public List<Chore> load() {
+        return repository.load();
+    }
+}
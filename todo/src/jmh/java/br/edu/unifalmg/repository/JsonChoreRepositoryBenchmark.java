@@ -0,0 +1,70 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.Repository.Chores.impl.JsonChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of reading and writing the JSON chores file.
+ *
+ * Run with: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonChoreRepositoryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    // Only affects saveAll
+    @Param({"true", "false"})
+    private boolean durable;
+
+    private JsonChoreRepository repository;
+    private List<Chore> chores;
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("chores", ".json").toFile();
+        repository = new JsonChoreRepository();
+        repository.setFile(file);
+        repository.setDurable(durable);
+        chores = ChoreDataset.generate(size);
+        repository.saveAll(chores);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public List<Chore> load() {
+        return repository.load();
+    }
+
+    @Benchmark
+    public long streamCompleted() {
+        try (Stream<Chore> chores = repository.stream()) {
+            return chores.filter(Chore::getIsCompleted).count();
+        }
+    }
+
+    @Benchmark
+    public boolean saveAll() {
+        return repository.saveAll(chores);
+    }
+}
@@ -0,0 +1,57 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of MySQLChoreRepository against an in-process H2 database in
+ * MySQL mode, so the suite runs without a MySQL server. The size is the
+ * number of rows already in the table.
+ *
+ * Run with: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MySQLChoreRepositoryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private EmbeddedChoreDatabase database;
+    private MySQLChoreRepository repository;
+    private Chore chore;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        database = new EmbeddedChoreDatabase();
+        database.insert(ChoreDataset.generate(size));
+        repository = new MySQLChoreRepository(database.getUrl());
+        chore = new Chore("Saved chore", Boolean.FALSE, LocalDate.now());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Chore> load() {
+        return repository.load();
+    }
+
+    @Benchmark
+    public boolean save() {
+        return repository.save(chore);
+    }
+}
@@ -0,0 +1,72 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Reading a large chore table at once against page by page, on the
+ * in-process H2 database. firstPage is how long a caller waits before it
+ * has chores to work with; lastPage shows that keyset pages cost the same
+ * at any depth.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar MySQLPagedLoadBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class MySQLPagedLoadBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"1000"})
+    private int pageSize;
+
+    private EmbeddedChoreDatabase database;
+    private MySQLChoreRepository repository;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        database = new EmbeddedChoreDatabase();
+        database.insertGenerated(size);
+        repository = new MySQLChoreRepository(database.getUrl());
+        repository.setPageSize(pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        repository.close();
+        database.close();
+    }
+
+    @Benchmark
+    public List<Chore> load() {
+        return repository.load();
+    }
+
+    @Benchmark
+    public List<Chore> firstPage() {
+        return repository.loadPage(0, pageSize);
+    }
+
+    @Benchmark
+    public List<Chore> lastPage() {
+        return repository.loadPage(size - pageSize, pageSize);
+    }
+
+    @Benchmark
+    public long streamCompleted() {
+        try (Stream<Chore> chores = repository.stream()) {
+            return chores.filter(Chore::getIsCompleted).count();
+        }
+    }
+}
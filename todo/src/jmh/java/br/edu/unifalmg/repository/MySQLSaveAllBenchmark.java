@@ -0,0 +1,69 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock time to persist a batch of new chores with one saveAll call
+ * versus one save call per chore, against an in-process H2 database in
+ * MySQL mode.
+ *
+ * Run with: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MySQLSaveAllBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private EmbeddedChoreDatabase database;
+    private MySQLChoreRepository repository;
+    private List<Chore> chores;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        database = new EmbeddedChoreDatabase();
+        repository = new MySQLChoreRepository(database.getUrl());
+        repository.setBatchSize(batchSize);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepare() throws SQLException {
+        database.truncate();
+        chores = ChoreDataset.generate(size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        repository.close();
+        database.close();
+    }
+
+    @Benchmark
+    public boolean saveAll() {
+        return repository.saveAll(chores);
+    }
+
+    @Benchmark
+    public boolean saveOneByOne() {
+        boolean saved = true;
+        for (Chore chore : chores) {
+            saved &= repository.save(chore);
+        }
+        return saved;
+    }
+}
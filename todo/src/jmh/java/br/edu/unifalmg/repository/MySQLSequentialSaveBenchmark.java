@@ -0,0 +1,58 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock time of 10k sequential MySQLChoreRepository.save calls against
+ * an in-process H2 database in MySQL mode.
+ *
+ * Run with: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MySQLSequentialSaveBenchmark {
+
+    private static final int SAVES = 10_000;
+
+    private EmbeddedChoreDatabase database;
+    private MySQLChoreRepository repository;
+    private Chore chore;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        database = new EmbeddedChoreDatabase();
+        repository = new MySQLChoreRepository(database.getUrl());
+        chore = new Chore("Saved chore", Boolean.FALSE, LocalDate.now());
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        database.truncate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public int save10k() {
+        int saved = 0;
+        for (int i = 0; i < SAVES; i++) {
+            if (repository.save(chore)) {
+                saved++;
+            }
+        }
+        return saved;
+    }
+}
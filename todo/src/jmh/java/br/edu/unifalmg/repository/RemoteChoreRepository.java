@@ -0,0 +1,78 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.domain.Chore;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Waits roundTripMicros before every write, like a repository talking to a
+ * database over the network. The benchmarks run H2 in process, where a
+ * write costs a few microseconds of CPU and no waiting.
+ */
+public final class RemoteChoreRepository implements ChoresRepository, AutoCloseable {
+
+    private final ChoresRepository repository;
+    private final long roundTripNanos;
+
+    public RemoteChoreRepository(ChoresRepository repository, int roundTripMicros) {
+        this.repository = repository;
+        this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+    }
+
+    @Override
+    public List<Chore> load() {
+        return repository.load();
+    }
+
+    @Override
+    public boolean saveAll(List<Chore> chores) {
+        roundTrip();
+        return repository.saveAll(chores);
+    }
+
+    @Override
+    public boolean save(Chore chore) {
+        roundTrip();
+        return repository.save(chore);
+    }
+
+    @Override
+    public boolean update(Chore chore) {
+        roundTrip();
+        return repository.update(chore);
+    }
+
+    @Override
+    public boolean saveChanges(List<Chore> chores) {
+        roundTrip();
+        return repository.saveChanges(chores);
+    }
+
+    @Override
+    public boolean delete(Chore chore) {
+        roundTrip();
+        return repository.delete(chore);
+    }
+
+    @Override
+    public boolean deleteAll(List<Chore> chores) {
+        roundTrip();
+        return repository.deleteAll(chores);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (repository instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void roundTrip() {
+        if (roundTripNanos > 0) {
+            LockSupport.parkNanos(roundTripNanos);
+        }
+    }
+}
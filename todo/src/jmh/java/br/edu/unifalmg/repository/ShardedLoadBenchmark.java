@@ -0,0 +1,82 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.Repository.Chores.impl.ShardedJsonChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreSharding;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to load every chore from ShardedJsonChoreRepository with a pool of
+ * 1 to 16 threads, so the speedup over one thread can be read off the
+ * threads parameter. saveOne measures a saveAll where a single chore
+ * changed, which writes one shard.
+ *
+ * The files are written once per trial and are in the page cache when
+ * measured. The 5M-chore run needs about 4 GB of heap:
+ * java -Xmx6g -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar ShardedLoadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ShardedLoadBenchmark {
+
+    @Param({"5000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int threads;
+
+    @Param({"64"})
+    private int shards;
+
+    private Path directory;
+    private ForkJoinPool pool;
+    private ShardedJsonChoreRepository repository;
+    private List<Chore> chores;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("chores");
+        pool = new ForkJoinPool(threads);
+        repository = new ShardedJsonChoreRepository(directory, ChoreSharding.DESCRIPTION_HASH, shards);
+        repository.setPool(pool);
+        repository.setDurable(false);
+        chores = ChoreDataset.generate(size);
+        repository.saveAll(chores);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Chore> load() {
+        return repository.load();
+    }
+
+    @Benchmark
+    public boolean saveOne() {
+        Chore chore = chores.get(0);
+        chore.setIsCompleted(!chore.getIsCompleted());
+        return repository.saveAll(chores);
+    }
+}
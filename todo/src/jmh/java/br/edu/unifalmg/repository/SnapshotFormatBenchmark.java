@@ -0,0 +1,66 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.Repository.Chores.impl.BinaryChoreRepository;
+import br.edu.unifalmg.Repository.Chores.impl.JsonChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load time of the JSON snapshot versus the binary one for the same chores.
+ * The file size of each format is printed during setup.
+ *
+ * Run with: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotFormatBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"json", "binary"})
+    private String format;
+
+    private ChoresRepository repository;
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        List<Chore> chores = ChoreDataset.generate(size);
+        if ("json".equals(format)) {
+            file = Files.createTempFile("chores", ".json").toFile();
+            JsonChoreRepository json = new JsonChoreRepository();
+            json.setFile(file);
+            repository = json;
+        } else {
+            file = Files.createTempFile("chores", ".bin").toFile();
+            BinaryChoreRepository binary = new BinaryChoreRepository();
+            binary.setFile(file);
+            repository = binary;
+        }
+        repository.saveAll(chores);
+        System.out.println("\n" + format + " snapshot of " + size + " chores: " + file.length() + " bytes");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public List<Chore> load() {
+        return repository.load();
+    }
+}
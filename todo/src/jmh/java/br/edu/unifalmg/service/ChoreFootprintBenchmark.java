@@ -0,0 +1,77 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap footprint of the chores kept by ChoreService in each store mode,
+ * next to a plain ArrayList of the same chores. The retained size, as
+ * walked by JOL, is printed during setup; the benchmark itself measures
+ * loadChores, whose allocation is reported by the gc profiler.
+ *
+ * JOL needs -Djol.magicFieldOffset=true to read the record fields, which the
+ * fork adds.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar ChoreFootprintBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djol.magicFieldOffset=true")
+public class ChoreFootprintBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"DEFAULT", "COLUMNAR"})
+    private ChoreStoreMode mode;
+
+    private ChoreService service;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Chore> chores = ChoreDataset.generate(size);
+        service = new ChoreService(new LoadedRepository(chores), mode);
+        service.loadChores();
+
+        // Build the store again from fresh chores, and let the repository
+        // drop them, so only what the store keeps is measured
+        LoadedRepository repository = new LoadedRepository(ChoreDataset.generate(size));
+        ChoreService measured = new ChoreService(repository, mode);
+        measured.loadChores();
+        repository.chores = null;
+        long store = GraphLayout.parseInstance(measured).totalSize();
+        long list = GraphLayout.parseInstance(new ArrayList<>(ChoreDataset.generate(size))).totalSize();
+        System.out.printf("%n%s: %,d bytes (%d per chore), ArrayList<Chore>: %,d bytes (%d per chore)%n",
+                mode, store, store / size, list, list / size);
+    }
+
+    @Benchmark
+    public ChoreService loadChores() {
+        service.loadChores();
+        return service;
+    }
+
+    private static class LoadedRepository extends ChoreServiceBenchmark.NoOpRepository {
+
+        private List<Chore> chores;
+
+        private LoadedRepository(List<Chore> chores) {
+            this.chores = chores;
+        }
+
+        @Override
+        public List<Chore> load() {
+            return chores;
+        }
+    }
+}
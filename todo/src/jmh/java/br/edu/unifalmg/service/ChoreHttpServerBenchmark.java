@@ -0,0 +1,93 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import br.edu.unifalmg.server.ChoreHttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of ChoreHttpServer over loopback, with eight client threads
+ * sharing one HttpClient as the load generator. list reads every chore,
+ * listNotModified sends the ETag of the last list and gets a 304, toggle
+ * posts a toggle of a random chore. Run them one at a time: a toggle
+ * changes the ETag.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar ChoreHttpServerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ChoreHttpServerBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ChoreHttpServer server;
+    private HttpClient client;
+    private HttpRequest list;
+    private HttpRequest listNotModified;
+    private List<Chore> stored;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ChoreService service = new ChoreService(new ChoreServiceBenchmark.NoOpRepository(), ChoreStoreMode.CONCURRENT);
+        for (Chore chore : ChoreDataset.generate(size)) {
+            service.addChore(chore.getDescription(), chore.getDeadline());
+        }
+        stored = List.copyOf(service.getChores());
+        server = new ChoreHttpServer(service, new InetSocketAddress("localhost", 0), 64);
+        server.start();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        list = HttpRequest.newBuilder(uri("/chores")).build();
+        String etag = client.send(list, HttpResponse.BodyHandlers.discarding()).headers().firstValue("ETag").orElseThrow();
+        listNotModified = HttpRequest.newBuilder(uri("/chores")).header("If-None-Match", etag).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public long list() throws IOException, InterruptedException {
+        try (InputStream body = client.send(list, HttpResponse.BodyHandlers.ofInputStream()).body()) {
+            return body.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    @Benchmark
+    public int listNotModified() throws IOException, InterruptedException {
+        return client.send(listNotModified, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int toggle() throws IOException, InterruptedException {
+        Chore chore = stored.get(ThreadLocalRandom.current().nextInt(stored.size()));
+        String body = "{\"description\":\"" + chore.getDescription() + "\",\"deadline\":\"" + chore.getDeadline() + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(uri("/chores/toggle"))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
@@ -0,0 +1,90 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares deleteChore and toggleChore with the stream based versions they
+ * replaced. Every chore has its own description and deadline, so the old
+ * predicates touch the same single chore as the new ones.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar ChoreMutationBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChoreMutationBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private ChoreService service;
+    private List<Chore> legacyChores;
+    private Chore target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Chore> chores = new ArrayList<>(size);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < size; i++) {
+            chores.add(new Chore("Chore #" + i, Boolean.FALSE, today.plusDays(i)));
+        }
+        service = new ChoreService();
+        service.getChores().addAll(chores);
+        legacyChores = new ArrayList<>(chores);
+        target = chores.get(size / 2);
+    }
+
+    @Benchmark
+    public List<Chore> deleteChore() {
+        service.deleteChore(target.getDescription(), target.getDeadline());
+        service.getChores().add(target);
+        return service.getChores();
+    }
+
+    @Benchmark
+    public List<Chore> legacyDeleteChore() {
+        String description = target.getDescription();
+        LocalDate deadline = target.getDeadline();
+        boolean isChoreExist = legacyChores.stream().anyMatch((chore -> chore.getDescription().equals(description)
+                && chore.getDeadline().isEqual(deadline)));
+        if (isChoreExist) {
+            legacyChores = legacyChores.stream().filter(chore -> !chore.getDescription().equals(description)
+                    && !chore.getDeadline().isEqual(deadline)).collect(Collectors.toList());
+        }
+        legacyChores.add(target);
+        return legacyChores;
+    }
+
+    @Benchmark
+    public Chore toggleChore() {
+        service.toggleChore(target.getDescription(), target.getDeadline());
+        return target;
+    }
+
+    @Benchmark
+    public List<Chore> legacyToggleChore() {
+        String description = target.getDescription();
+        LocalDate deadline = target.getDeadline();
+        boolean isChoreExist = legacyChores.stream().anyMatch((chore) -> chore.getDescription().equals(description) && chore.getDeadline().isEqual(deadline));
+        if (isChoreExist) {
+            legacyChores = legacyChores.stream().map(chore -> {
+                if (!chore.getDescription().equals(description) && !chore.getDeadline().isEqual(deadline)) {
+                    return chore;
+                }
+                chore.setIsCompleted(!chore.getIsCompleted());
+                return chore;
+            }).collect(Collectors.toList());
+        }
+        return legacyChores;
+    }
+}
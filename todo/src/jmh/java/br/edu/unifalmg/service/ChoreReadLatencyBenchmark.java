@@ -0,0 +1,98 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of getChores and filterChores while another thread keeps
+ * toggling chores. Three readers share the service with one writer; JMH
+ * reports the percentiles of each method.
+ *
+ * DEFAULT is not thread-safe, so there readers copy the list and writers
+ * toggle behind one lock around the whole service.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar ChoreReadLatencyBenchmark
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChoreReadLatencyBenchmark {
+
+    @Param({"DEFAULT", "CONCURRENT", "COPY_ON_WRITE"})
+    private ChoreStoreMode mode;
+
+    @Param({"10000"})
+    private int size;
+
+    private ChoreService service;
+    private List<Chore> stored;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        service = new ChoreService(new ChoreServiceBenchmark.NoOpRepository(), mode);
+        for (Chore chore : ChoreDataset.generate(size)) {
+            service.addChore(chore.getDescription(), chore.getDeadline());
+        }
+        stored = List.copyOf(service.getChores());
+    }
+
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(3)
+    public int getChores() {
+        if (mode == ChoreStoreMode.DEFAULT) {
+            synchronized (service) {
+                return new ArrayList<>(service.getChores()).size();
+            }
+        }
+        return service.getChores().size();
+    }
+
+    @Benchmark
+    @Group("filterWhileWriting")
+    @GroupThreads(3)
+    public int filterCompleted() {
+        if (mode == ChoreStoreMode.DEFAULT) {
+            synchronized (service) {
+                return service.filterChores(ChoreFilter.COMPLETED).size();
+            }
+        }
+        return service.filterChores(ChoreFilter.COMPLETED).size();
+    }
+
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(1)
+    public void toggleWhileReading() {
+        toggleRandomChore();
+    }
+
+    @Benchmark
+    @Group("filterWhileWriting")
+    @GroupThreads(1)
+    public void toggleWhileFiltering() {
+        toggleRandomChore();
+    }
+
+    private void toggleRandomChore() {
+        Chore chore = stored.get(ThreadLocalRandom.current().nextInt(stored.size()));
+        if (mode == ChoreStoreMode.DEFAULT) {
+            synchronized (service) {
+                service.toggleChore(chore.getDescription(), chore.getDeadline());
+            }
+        } else {
+            service.toggleChore(chore.getDescription(), chore.getDeadline());
+        }
+    }
+}
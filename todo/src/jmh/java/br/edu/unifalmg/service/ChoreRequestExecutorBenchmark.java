@@ -0,0 +1,98 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.domain.ChoreRequest;
+import br.edu.unifalmg.enumerator.ChoreCommand;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import br.edu.unifalmg.repository.EmbeddedChoreDatabase;
+import br.edu.unifalmg.repository.RemoteChoreRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load generator for ChoreRequestExecutor: {@code clients} clients each
+ * keep one request in flight against a CONCURRENT service on the
+ * in-process H2 database, adding a chore and then toggling it, until
+ * REQUESTS requests are done. Every write waits roundTripMicros, as it
+ * would for a database server, so throughput depends on how many requests
+ * wait at the same time.
+ *
+ * The requests run on virtual threads, so the clients waiting on the
+ * database hold no platform thread.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar ChoreRequestExecutorBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ChoreRequestExecutorBenchmark {
+
+    private static final int REQUESTS = 20_000;
+
+    @Param({"1", "100", "10000"})
+    private int clients;
+
+    @Param({"256"})
+    private int maxConcurrentRequests;
+
+    @Param({"1000"})
+    private int roundTripMicros;
+
+    private EmbeddedChoreDatabase database;
+    private RemoteChoreRepository repository;
+    private ChoreRequestExecutor executor;
+    private LocalDate deadline;
+    private int round;
+
+    @Setup(Level.Iteration)
+    public void setup() throws Exception {
+        database = new EmbeddedChoreDatabase();
+        repository = new RemoteChoreRepository(new MySQLChoreRepository(database.getUrl()), roundTripMicros);
+        executor = new ChoreRequestExecutor(new ChoreService(repository, ChoreStoreMode.CONCURRENT),
+                maxConcurrentRequests);
+        deadline = LocalDate.now().plusDays(1);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        executor.close();
+        repository.close();
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void requests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        AtomicInteger started = new AtomicInteger();
+        int invocation = round++;
+        for (int client = 0; client < clients; client++) {
+            next(client, invocation, 0, started, done);
+        }
+        done.await();
+    }
+
+    // Sends the client's next request once the previous one is done, while
+    // fewer than REQUESTS were started
+    private void next(int client, int invocation, int sent, AtomicInteger started, CountDownLatch done) {
+        if (started.incrementAndGet() > REQUESTS) {
+            return;
+        }
+        ChoreRequest request = ChoreRequest.builder()
+                .command(sent % 2 == 0 ? ChoreCommand.ADD : ChoreCommand.TOGGLE)
+                .description("Chore #" + invocation + "-" + client + "-" + sent / 2)
+                .deadline(deadline)
+                .build();
+        executor.submit(request).whenComplete((chores, exception) -> {
+            done.countDown();
+            next(client, invocation, sent + 1, started, done);
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.domain.Chore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of ChoreService.search against a scan of getChores. Every chore
+ * of the dataset has its own description ("Chore #i"), so "12345" matches
+ * 11 descriptions by prefix, "chore 4321" 111 and "chore" all of them.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar ChoreSearchBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChoreSearchBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"12345", "chore 4321", "chore"})
+    private String query;
+
+    private ChoreService service;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Chore> chores = ChoreDataset.generate(size);
+        service = new ChoreService(new ChoreServiceBenchmark.NoOpRepository() {
+            @Override
+            public List<Chore> load() {
+                return chores;
+            }
+        });
+        service.loadChores();
+    }
+
+    @Benchmark
+    public List<Chore> search() {
+        return service.search(query, 20);
+    }
+
+    // What callers did before: a case-insensitive substring scan
+    @Benchmark
+    public List<Chore> scan() {
+        String needle = query.toLowerCase(Locale.ROOT);
+        return service.getChores().stream()
+                .filter(chore -> chore.getDescription().toLowerCase(Locale.ROOT).contains(needle))
+                .limit(20)
+                .toList();
+    }
+}
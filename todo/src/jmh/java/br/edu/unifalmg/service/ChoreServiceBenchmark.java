@@ -0,0 +1,114 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the in-memory ChoreService operations. The repository is a
+ * no-op so only the service itself is measured.
+ *
+ * Run with: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChoreServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private ChoreService service;
+    private Chore target;
+    private LocalDate deadline;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        service = new ChoreService(new NoOpRepository());
+        service.getChores().addAll(ChoreDataset.generate(size));
+        target = service.getChores().get(size / 2);
+        deadline = LocalDate.now().plusYears(2);
+    }
+
+    @Benchmark
+    public Chore addChore() {
+        Chore chore = service.addChore("Added chore #" + counter++, deadline);
+        // Drop it again from the tail so the list keeps its size
+        List<Chore> chores = service.getChores();
+        chores.remove(chores.size() - 1);
+        return chore;
+    }
+
+    @Benchmark
+    public List<Chore> filterAll() {
+        return service.filterChores(ChoreFilter.ALL);
+    }
+
+    @Benchmark
+    public List<Chore> filterCompleted() {
+        return service.filterChores(ChoreFilter.COMPLETED);
+    }
+
+    @Benchmark
+    public List<Chore> filterUncompleted() {
+        return service.filterChores(ChoreFilter.UNCOMPLETED);
+    }
+
+    @Benchmark
+    public int countCompleted() {
+        return service.countChores(ChoreFilter.COMPLETED);
+    }
+
+    @Benchmark
+    public List<Chore> findDueThisWeek() {
+        return service.findDueBetween(LocalDate.now(), LocalDate.now().plusDays(6));
+    }
+
+    @Benchmark
+    public List<Chore> scanDueThisWeek() {
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(6);
+        return service.getChores().stream()
+                .filter(chore -> !chore.getDeadline().isBefore(from) && !chore.getDeadline().isAfter(to))
+                .toList();
+    }
+
+    @Benchmark
+    public Chore toggleChore() {
+        service.toggleChore(target.getDescription(), target.getDeadline());
+        return target;
+    }
+
+    static class NoOpRepository implements ChoresRepository {
+
+        @Override
+        public List<Chore> load() {
+            return List.of();
+        }
+
+        @Override
+        public boolean saveAll(List<Chore> chores) {
+            return true;
+        }
+
+        @Override
+        public boolean save(Chore chore) {
+            return true;
+        }
+
+        @Override
+        public boolean update(Chore chore) {
+            return true;
+        }
+    }
+}
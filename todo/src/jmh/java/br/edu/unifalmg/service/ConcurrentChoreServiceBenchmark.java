@@ -0,0 +1,91 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.ChoreDataset;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one ChoreService shared by many threads. Each operation is
+ * a toggle of a random stored chore, or an add followed by a delete of a
+ * chore private to the thread.
+ *
+ * DEFAULT is not thread-safe, so it is measured behind one lock around the
+ * whole service, which is what a caller had to do before CONCURRENT mode.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar ConcurrentChoreServiceBenchmark -t 1
+ * and again with -t 2, 4, 8, 16 and 32.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentChoreServiceBenchmark {
+
+    @Param({"DEFAULT", "CONCURRENT"})
+    private ChoreStoreMode mode;
+
+    @Param({"10000"})
+    private int size;
+
+    private ChoreService service;
+    private List<Chore> stored;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private String prefix;
+        private LocalDate deadline;
+        private long counter;
+
+        @Setup(Level.Trial)
+        public void setup(ThreadParams params) {
+            prefix = "Thread #" + params.getThreadIndex() + " chore #";
+            deadline = LocalDate.now().plusYears(2);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        service = new ChoreService(new ChoreServiceBenchmark.NoOpRepository(), mode);
+        for (Chore chore : ChoreDataset.generate(size)) {
+            // Toggling needs deadlines that are not in the past
+            service.addChore(chore.getDescription(), chore.getDeadline());
+        }
+        stored = List.copyOf(service.getChores());
+    }
+
+    @Benchmark
+    public void toggleChore() {
+        Chore chore = stored.get(ThreadLocalRandom.current().nextInt(stored.size()));
+        if (mode == ChoreStoreMode.CONCURRENT) {
+            service.toggleChore(chore.getDescription(), chore.getDeadline());
+        } else {
+            synchronized (service) {
+                service.toggleChore(chore.getDescription(), chore.getDeadline());
+            }
+        }
+    }
+
+    @Benchmark
+    public Chore addAndDeleteChore(ThreadState state) {
+        String description = state.prefix + state.counter++;
+        if (mode == ChoreStoreMode.CONCURRENT) {
+            Chore chore = service.addChore(description, state.deadline);
+            service.deleteChore(description, state.deadline);
+            return chore;
+        }
+        synchronized (service) {
+            Chore chore = service.addChore(description, state.deadline);
+            service.deleteChore(description, state.deadline);
+            return chore;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import br.edu.unifalmg.repository.EmbeddedChoreDatabase;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What TodoApplication does at startup, load the chores and read the
+ * first one, against a large table on the in-process H2 database, in the
+ * eager DEFAULT mode and in LAZY mode. The heap still in use after
+ * startup and a full collection is printed during setup; walking a
+ * million chores with JOL takes far longer than the benchmark itself.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar LazyStartupBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class LazyStartupBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"DEFAULT", "LAZY"})
+    private ChoreStoreMode mode;
+
+    private EmbeddedChoreDatabase database;
+    private MySQLChoreRepository repository;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        database = new EmbeddedChoreDatabase();
+        database.insertGenerated(size);
+        repository = new MySQLChoreRepository(database.getUrl());
+
+        long before = usedHeap();
+        ChoreService service = new ChoreService(repository, mode);
+        service.loadChores();
+        service.getChores().get(0);
+        long retained = usedHeap() - before;
+        System.out.printf("%n%s: %,d bytes kept after reading the first chore%n", mode, retained);
+        // Keeps the service reachable until it has been measured
+        System.out.println(service.getChores().size() > 0 ? "" : "no chores");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        repository.close();
+        database.close();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    public Chore startup() {
+        ChoreService service = new ChoreService(repository, mode);
+        service.loadChores();
+        return service.getChores().get(0);
+    }
+}
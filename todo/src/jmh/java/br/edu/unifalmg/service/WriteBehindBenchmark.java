@@ -0,0 +1,74 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.Repository.Chores.impl.WriteBehindChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.repository.EmbeddedChoreDatabase;
+import br.edu.unifalmg.repository.RemoteChoreRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChoreService.addChore on the in-process H2 database, saving each chore
+ * on the caller's thread against writing behind. add is what a caller
+ * waits for while the queue has room; addAndFlush includes persisting
+ * every chore, so it shows what batching saves once the queue is full.
+ * H2 runs in process, so roundTrip adds the wait for a database server to
+ * every call that writes.
+ *
+ * Run with: ./gradlew jmhJar && java -jar build/libs/todo-1.0-SNAPSHOT-jmh.jar WriteBehindBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class WriteBehindBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Param({"false", "true"})
+    private boolean writeBehind;
+
+    @Param({"0", "200"})
+    private int roundTripMicros;
+
+    private EmbeddedChoreDatabase database;
+    private ChoreService service;
+    private LocalDate deadline;
+    private long next;
+
+    @Setup(Level.Iteration)
+    public void setup() throws SQLException {
+        database = new EmbeddedChoreDatabase();
+        ChoresRepository mysql = new RemoteChoreRepository(new MySQLChoreRepository(database.getUrl()), roundTripMicros);
+        // Room for every add of an iteration, so add never waits
+        service = new ChoreService(writeBehind ? new WriteBehindChoreRepository(mysql, 1 << 22, BATCH) : mysql);
+        deadline = LocalDate.now().plusDays(1);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        service.close();
+        database.close();
+    }
+
+    @Benchmark
+    public Chore add() {
+        return service.addChore("Chore #" + next++, deadline);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Boolean addAndFlush() {
+        for (int i = 0; i < BATCH; i++) {
+            service.addChore("Chore #" + next++, deadline);
+        }
+        return service.flush();
+    }
+}
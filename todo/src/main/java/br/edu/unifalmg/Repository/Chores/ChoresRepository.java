@@ -2,14 +2,145 @@ package br.edu.unifalmg.Repository.Chores;
 
 import br.edu.unifalmg.domain.Chore;
 
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 public interface ChoresRepository {
     public List<Chore> load();
 
+    /**
+     * Read the stored chores one at a time. Implementations that can read
+     * incrementally override this so callers never hold every chore in
+     * memory; the stream must be closed after use.
+     *
+     * @return Stream<Chore> The stored chores
+     */
+    default Stream<Chore> stream() {
+        List<Chore> chores = load();
+        return Objects.isNull(chores) ? Stream.empty() : chores.stream();
+    }
+
+    /**
+     * Read one page of the stored chores, in id order. The next page starts
+     * after the last id of this one, so pages stay consistent while chores
+     * are added or removed. Repositories that can query by id override
+     * this; the default reads every chore and skips those without an id.
+     *
+     * @param afterId Only chores with a greater id are returned, 0 for the
+     *                first page
+     * @param size The maximum number of chores to return
+     * @return List<Chore> The page, shorter than size on the last page, or
+     * null when the chores cannot be read
+     */
+    default List<Chore> loadPage(long afterId, int size) {
+        List<Chore> chores = load();
+        if (Objects.isNull(chores)) {
+            return null;
+        }
+        return chores.stream()
+                .filter(chore -> Objects.nonNull(chore.getId()) && chore.getId() > afterId)
+                .sorted(Comparator.comparing(Chore::getId))
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * Read the stored chore with the given description and deadline.
+     * Repositories that can query by them override this; the default
+     * streams every chore.
+     *
+     * @return Chore The stored chore, or null when there is none
+     */
+    default Chore find(String description, LocalDate deadline) {
+        try (Stream<Chore> chores = stream()) {
+            return chores.filter(chore -> Objects.equals(chore.getDescription(), description)
+                            && Objects.equals(chore.getDeadline(), deadline))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * @return long How many chores are stored
+     */
+    default long count() {
+        try (Stream<Chore> chores = stream()) {
+            return chores.count();
+        }
+    }
+
     boolean saveAll(List<Chore> chores);
 
     boolean save(Chore chore);
 
     boolean update(Chore chore);
+
+    /**
+     * Persist a batch of added and changed chores, leaving the other stored
+     * chores alone. Chores without an id are saved, the others updated.
+     * Repositories that can write many chores at once override this; the
+     * default writes them one by one and goes on after a failure.
+     *
+     * @param chores The chores to persist
+     * @return boolean True when every chore was persisted
+     */
+    default boolean saveChanges(List<Chore> chores) {
+        boolean saved = true;
+        for (Chore chore : chores) {
+            saved &= Objects.isNull(chore.getId()) ? save(chore) : update(chore);
+        }
+        return saved;
+    }
+
+    /**
+     * Wait until the writes accepted so far are persisted. Repositories
+     * that write in the background override this; the others persist
+     * every write before returning.
+     *
+     * @return boolean True when no accepted write is left unpersisted
+     */
+    default boolean flush() {
+        return true;
+    }
+
+    /**
+     * Repositories that persist writes in the background override this, so
+     * callers forward every change, even to chores whose id is not known
+     * yet because their save is still queued.
+     *
+     * @return boolean True when writes are persisted after they return
+     */
+    default boolean writesBehind() {
+        return false;
+    }
+
+    /**
+     * Remove a stored chore. Repositories that cannot delete single chores
+     * keep the default, which reports that nothing was removed.
+     *
+     * @param chore The chore to remove, identified by its id
+     * @return boolean True when the chore was removed
+     */
+    default boolean delete(Chore chore) {
+        return false;
+    }
+
+    /**
+     * Remove many stored chores at once. Repositories that can delete in
+     * batches override this; the default deletes them one by one and goes
+     * on after a failure.
+     *
+     * @param chores The chores to remove, identified by their ids
+     * @return boolean True when every chore was removed
+     */
+    default boolean deleteAll(List<Chore> chores) {
+        boolean deleted = true;
+        for (Chore chore : chores) {
+            deleted &= delete(chore);
+        }
+        return deleted;
+    }
 }
\ No newline at end of file
@@ -1,10 +1,22 @@
 package br.edu.unifalmg.Repository.Chores.book;
 
 public class ChoreBook {
-    public static final String FIND_ALL_CHORES = "SELECT * FROM tododb.chore";
+    private static final String CHORE_COLUMNS = "`choreID`, `description`, `isCompleted`, `deadline`";
+
+    public static final String FIND_ALL_CHORES = "SELECT " + CHORE_COLUMNS + " FROM tododb.chore";
+
+    public static final String FIND_CHORES_AFTER_ID = "SELECT " + CHORE_COLUMNS + " FROM tododb.chore" +
+            " WHERE tododb.chore.choreID > ? ORDER BY tododb.chore.choreID LIMIT ?";
+
+    public static final String FIND_CHORE = "SELECT " + CHORE_COLUMNS + " FROM tododb.chore" +
+            " WHERE `description` = ? AND `deadline` = ? ORDER BY tododb.chore.choreID LIMIT 1";
+
+    public static final String COUNT_CHORES = "SELECT COUNT(*) FROM tododb.chore";
 
     public static final String INSERT_CHORE = "INSERT INTO tododb.chore (`description`, `isCompleted`, `deadline`) VALUES (?,?,?)";
 
-    public static final String UPDATE_CHORE = "UPDATE tododb.chore SET" +
-            " `description` = ?, `deadline` = ? WHERE tododb.chore.choreID = ?";
+    public static final String UPDATE_CHORE_WITH_STATUS = "UPDATE tododb.chore SET" +
+            " `description` = ?, `isCompleted` = ?, `deadline` = ? WHERE tododb.chore.choreID = ?";
+
+    public static final String DELETE_CHORE = "DELETE FROM tododb.chore WHERE tododb.chore.choreID = ?";
 }
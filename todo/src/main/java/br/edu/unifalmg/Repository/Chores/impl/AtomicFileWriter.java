@@ -0,0 +1,94 @@
+package br.edu.unifalmg.Repository.Chores.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replaces a file in one atomic step: the content goes to a temporary file
+ * in the same directory, which is then renamed over the target. A crash in
+ * the middle of a write leaves the previous file intact.
+ *
+ * When durable, the temporary file is forced to disk before the rename and
+ * the directory after it.
+ */
+final class AtomicFileWriter {
+
+    interface Content {
+        /**
+         * @param output Buffered stream over the temporary file
+         * @param channel The channel under the stream, for positioned writes
+         *                after flushing the stream
+         */
+        void writeTo(OutputStream output, FileChannel channel) throws IOException;
+    }
+
+    private AtomicFileWriter() {
+    }
+
+    static void write(Path target, boolean durable, Content content) throws IOException {
+        target = target.toAbsolutePath();
+        Path temporary = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE);
+                 OutputStream output = new SyncingOutputStream(channel, durable)) {
+                content.writeTo(output, channel);
+            }
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        if (durable) {
+            syncDirectory(target.getParent());
+        }
+    }
+
+    // Makes the rename itself durable. Not every platform can open a directory.
+    static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // Best effort
+        }
+    }
+
+    /**
+     * Buffered stream over a file channel that flushes, and optionally forces
+     * the channel to disk, before closing it. Jackson closes the stream it
+     * writes to, so the sync has to happen in close.
+     */
+    private static class SyncingOutputStream extends BufferedOutputStream {
+
+        private final FileChannel channel;
+        private final boolean force;
+
+        SyncingOutputStream(FileChannel channel, boolean force) {
+            super(Channels.newOutputStream(channel), 64 * 1024);
+            this.channel = channel;
+            this.force = force;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!channel.isOpen()) {
+                return;
+            }
+            flush();
+            if (force) {
+                channel.force(true);
+            }
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package br.edu.unifalmg.Repository.Chores.impl;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.exception.InvalidDeadlineException;
+import br.edu.unifalmg.exception.InvalidDescriptionException;
+import lombok.Setter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Stores the chores in a compact, versioned binary snapshot that is read
+ * through a memory-mapped buffer.
+ *
+ * Layout, big-endian:
+ * <pre>
+ * header: int magic "CHOR", int version, int chore count
+ * chore:  byte flags (bit 0 completed, bit 1 has id), long id,
+ *         int deadline as epoch day, int description length, UTF-8 bytes
+ * </pre>
+ *
+ * Besides whole-file writes, single chores can be saved and updated: a
+ * new chore is appended after the last one, and a changed chore whose
+ * record keeps its size, like a toggle, is rewritten in place. The count in
+ * the header is written last, so a crash in the middle of an append leaves
+ * the previous chores as they were. A record that changes size, or a
+ * deleted one, shifts every record after it, so those rewrite the file.
+ */
+public class BinaryChoreRepository implements ChoresRepository {
+
+    private static final int MAGIC = 0x43484F52;
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 12;
+    private static final int MIN_CHORE_SIZE = 17;
+    private static final int COUNT_POSITION = 8;
+    private static final byte COMPLETED = 1;
+    private static final byte HAS_ID = 1 << 1;
+
+    @Setter
+    private File file = new File("chores.bin");
+
+    @Setter
+    private boolean durable = true;
+
+    @Override
+    public synchronized List<Chore> load() {
+        try {
+            return read();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException exception) {
+            System.out.println("Unable to convert the content of the file into Chores!");
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to open file.");
+        }
+        return new ArrayList<>();
+    }
+
+    private List<Chore> read() throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int count = readHeader(buffer);
+            List<Chore> chores = new ArrayList<>(count);
+            byte[] scratch = new byte[256];
+            for (int i = 0; i < count; i++) {
+                byte flags = buffer.get();
+                long id = buffer.getLong();
+                int epochDay = buffer.getInt();
+                int length = buffer.getInt();
+                if (scratch.length < length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                buffer.get(scratch, 0, length);
+                chores.add(Chore.builder()
+                        .id((flags & HAS_ID) != 0 ? id : null)
+                        .isCompleted((flags & COMPLETED) != 0)
+                        .deadline(LocalDate.ofEpochDay(epochDay))
+                        .description(new String(scratch, 0, length, StandardCharsets.UTF_8))
+                        .build());
+            }
+            return chores;
+        }
+    }
+
+    /**
+     * @throws InvalidDescriptionException When a description is null
+     * @throws InvalidDeadlineException When a deadline is null
+     */
+    @Override
+    public synchronized boolean saveAll(List<Chore> chores) {
+        chores.forEach(BinaryChoreRepository::validate);
+        return write(chores.iterator());
+    }
+
+    /**
+     * Convert the chores of another repository, e.g. a JsonChoreRepository,
+     * into this binary file. The chores are streamed from the source, so
+     * they never have to fit in memory at once.
+     *
+     * @param source The repository to read from
+     * @return boolean True when the file was written
+     */
+    public synchronized boolean importFrom(ChoresRepository source) {
+        try (Stream<Chore> chores = source.stream()) {
+            return write(chores.iterator());
+        }
+    }
+
+    /**
+     * Append the chore after the last one, giving it an id when it has none.
+     *
+     * @throws InvalidDescriptionException When the description is null
+     * @throws InvalidDeadlineException When the deadline is null
+     */
+    @Override
+    public synchronized boolean save(Chore chore) {
+        validate(chore);
+        if (!file.exists() && !write(Collections.emptyIterator())) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int count = readHeader(buffer);
+            long maxId = 0;
+            for (int i = 0; i < count; i++) {
+                maxId = Math.max(maxId, skipChore(buffer));
+            }
+            if (Objects.isNull(chore.getId())) {
+                chore.setId(maxId + 1);
+            }
+            // Anything after the last chore is left over from a crash
+            writeAt(channel, encode(chore), buffer.position());
+            writeAt(channel, ByteBuffer.allocate(Integer.BYTES).putInt(0, count + 1).array(), COUNT_POSITION);
+            return true;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException exception) {
+            System.out.println("Unable to convert the content of the file into Chores!");
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to write the chore on the file.");
+        }
+        return false;
+    }
+
+    /**
+     * Write the new state of the chore over its record, or rewrite the file
+     * when the record changes size.
+     *
+     * @throws InvalidDescriptionException When the description is null
+     * @throws InvalidDeadlineException When the deadline is null
+     */
+    @Override
+    public synchronized boolean update(Chore chore) {
+        validate(chore);
+        if (Objects.isNull(chore.getId())) {
+            return false;
+        }
+        byte[] record = encode(chore);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int count = readHeader(buffer);
+            for (int i = 0; i < count; i++) {
+                int position = buffer.position();
+                if (skipChore(buffer) == chore.getId() && (buffer.get(position) & HAS_ID) != 0) {
+                    if (buffer.position() - position != record.length) {
+                        break;
+                    }
+                    writeAt(channel, record, position);
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException exception) {
+            System.out.println("Unable to convert the content of the file into Chores!");
+            return false;
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to write the chore on the file.");
+            return false;
+        }
+        return rewrite(chore.getId(), chore);
+    }
+
+    /**
+     * Rewrite the file without the chore.
+     */
+    @Override
+    public synchronized boolean delete(Chore chore) {
+        if (Objects.isNull(chore.getId())) {
+            return false;
+        }
+        return rewrite(chore.getId(), null);
+    }
+
+    // Rewrite the file with the chore of the given id replaced, or dropped
+    // when the replacement is null. False when there is no such chore.
+    private boolean rewrite(long id, Chore replacement) {
+        List<Chore> chores;
+        try {
+            chores = read();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException exception) {
+            System.out.println("Unable to convert the content of the file into Chores!");
+            return false;
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to open file.");
+            return false;
+        }
+        for (int i = 0; i < chores.size(); i++) {
+            if (Objects.equals(chores.get(i).getId(), id)) {
+                if (Objects.isNull(replacement)) {
+                    chores.remove(i);
+                } else {
+                    chores.set(i, replacement);
+                }
+                return write(chores.iterator());
+            }
+        }
+        return false;
+    }
+
+    private void writeAt(FileChannel channel, byte[] content, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        if (durable) {
+            channel.force(false);
+        }
+    }
+
+    private boolean write(Iterator<Chore> chores) {
+        try {
+            AtomicFileWriter.write(file.toPath(), durable, (output, channel) -> {
+                DataOutputStream data = new DataOutputStream(output);
+                data.writeInt(MAGIC);
+                data.writeInt(VERSION);
+                // The count is patched in once every chore has been written
+                data.writeInt(0);
+                int count = 0;
+                while (chores.hasNext()) {
+                    writeChore(data, chores.next());
+                    count++;
+                }
+                data.flush();
+                channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, count), COUNT_POSITION);
+            });
+            return true;
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to write the chores on the file.");
+        }
+        return false;
+    }
+
+    private static byte[] encode(Chore chore) {
+        ByteArrayOutputStream record = new ByteArrayOutputStream(MIN_CHORE_SIZE + chore.getDescription().length());
+        try {
+            writeChore(new DataOutputStream(record), chore);
+        } catch (IOException exception) {
+            // Not thrown by an in-memory stream
+            throw new IllegalStateException(exception);
+        }
+        return record.toByteArray();
+    }
+
+    private static void writeChore(DataOutputStream data, Chore chore) throws IOException {
+        validate(chore);
+        byte flags = 0;
+        if (Boolean.TRUE.equals(chore.getIsCompleted())) {
+            flags |= COMPLETED;
+        }
+        if (Objects.nonNull(chore.getId())) {
+            flags |= HAS_ID;
+        }
+        byte[] description = chore.getDescription().getBytes(StandardCharsets.UTF_8);
+        data.writeByte(flags);
+        data.writeLong(Objects.nonNull(chore.getId()) ? chore.getId() : 0L);
+        data.writeInt(Math.toIntExact(chore.getDeadline().toEpochDay()));
+        data.writeInt(description.length);
+        data.write(description);
+    }
+
+    private static void validate(Chore chore) {
+        if (Objects.isNull(chore.getDescription())) {
+            throw new InvalidDescriptionException("The description cannot be null");
+        }
+        if (Objects.isNull(chore.getDeadline())) {
+            throw new InvalidDeadlineException("The deadline cannot be null");
+        }
+    }
+
+    // Move past the chore at the position of the buffer and return its id,
+    // or 0 when it has none
+    private static long skipChore(ByteBuffer buffer) {
+        byte flags = buffer.get();
+        long id = buffer.getLong();
+        buffer.getInt();
+        int length = buffer.getInt();
+        buffer.position(buffer.position() + length);
+        return (flags & HAS_ID) != 0 ? id : 0L;
+    }
+
+    private static int readHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a chores snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported chores snapshot version " + version);
+        }
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / MIN_CHORE_SIZE) {
+            throw new IllegalArgumentException("Invalid chore count " + count);
+        }
+        return count;
+    }
+}
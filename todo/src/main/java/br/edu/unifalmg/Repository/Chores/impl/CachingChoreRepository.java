@@ -0,0 +1,431 @@
+package br.edu.unifalmg.Repository.Chores.impl;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.domain.Chore;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the most used chores of another repository in memory, by id and by
+ * (description, deadline).
+ *
+ * Lookups with {@link #find} read through the cache. Writes, including
+ * {@link #saveChanges}, go to the wrapped repository first and reach the
+ * cache only when they succeed; an update that would not change the cached
+ * chore is skipped. This assumes nothing else writes to the wrapped
+ * repository.
+ *
+ * The cache holds at most maxSize chores, following W-TinyLFU: new chores
+ * enter a small LRU window, and a chore leaving the window only takes the
+ * place of the least recently used chore of the main area when it has been
+ * asked for more often, as counted by a frequency sketch. One-off lookups
+ * so pass through without pushing hot chores out. Without frequency
+ * admission the whole cache is a plain LRU.
+ *
+ * Cached chores are copies, so changing a returned chore does not change
+ * the cache. Thread-safe when the wrapped repository is: writes to the same
+ * id take the same lock around both the wrapped repository and the cache,
+ * so they reach both in the same order, and a lookup that missed only
+ * caches what it read when no write ran while it read it. Otherwise a
+ * lookup racing a delete could cache the deleted chore again.
+ */
+public class CachingChoreRepository implements ChoresRepository, AutoCloseable {
+
+    private static final int STRIPES = 64;
+
+    private final ChoresRepository repository;
+    private final int windowSize;
+    private final int mainSize;
+
+    // Both in access order, the least recently used first
+    private final LinkedHashMap<Long, Chore> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Long, Chore> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<ChoreKey, Long> ids = new HashMap<>();
+    private final FrequencySketch sketch;
+
+    // Writes lock the stripes of the ids they change, taken in stripe order
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    // Writes that started and finished, so a lookup can tell whether one
+    // ran while it read the wrapped repository
+    private final AtomicLong writesStarted = new AtomicLong();
+    private final AtomicLong writesFinished = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingChoreRepository(ChoresRepository repository, int maxSize) {
+        this(repository, maxSize, true);
+    }
+
+    /**
+     * @param repository The repository to cache
+     * @param maxSize How many chores to keep at most
+     * @param frequencyAdmission False for a plain LRU cache
+     */
+    public CachingChoreRepository(ChoresRepository repository, int maxSize, boolean frequencyAdmission) {
+        this.repository = repository;
+        this.windowSize = frequencyAdmission ? Math.max(1, maxSize / 100) : maxSize;
+        this.mainSize = Math.max(0, maxSize - windowSize);
+        this.sketch = new FrequencySketch(maxSize);
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public List<Chore> load() {
+        return repository.load();
+    }
+
+    @Override
+    public Stream<Chore> stream() {
+        return repository.stream();
+    }
+
+    @Override
+    public List<Chore> loadPage(long afterId, int size) {
+        return repository.loadPage(afterId, size);
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public Chore find(String description, LocalDate deadline) {
+        ChoreKey key = new ChoreKey(description, deadline);
+        synchronized (this) {
+            Long id = ids.get(key);
+            if (Objects.nonNull(id)) {
+                sketch.increment(id);
+                hits.increment();
+                return copyOf(cached(id));
+            }
+        }
+        misses.increment();
+        long started = writesStarted.get();
+        boolean quiet = writesFinished.get() == started;
+        Chore chore = repository.find(description, deadline);
+        if (Objects.nonNull(chore) && quiet) {
+            cacheUnlessWritten(chore, started);
+        }
+        return chore;
+    }
+
+    /**
+     * The wrapped repository may rewrite every chore, so the cache starts
+     * over.
+     */
+    @Override
+    public boolean saveAll(List<Chore> chores) {
+        return write(IntStream.range(0, STRIPES).toArray(), () -> {
+            boolean saved = repository.saveAll(chores);
+            clear();
+            return saved;
+        });
+    }
+
+    @Override
+    public boolean save(Chore chore) {
+        return write(stripesOf(List.of(chore)), () -> {
+            if (!repository.save(chore)) {
+                return false;
+            }
+            cache(chore);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean saveChanges(List<Chore> chores) {
+        return write(stripesOf(chores), () -> {
+            boolean saved = repository.saveChanges(chores);
+            // Some chores may have been written before a failure, so none of
+            // their cached copies can be trusted
+            for (Chore chore : chores) {
+                if (saved) {
+                    cache(chore);
+                } else if (Objects.nonNull(chore.getId())) {
+                    synchronized (this) {
+                        uncache(chore.getId());
+                    }
+                }
+            }
+            return saved;
+        });
+    }
+
+    @Override
+    public boolean update(Chore chore) {
+        return write(stripesOf(List.of(chore)), () -> {
+            if (Objects.nonNull(chore.getId())) {
+                synchronized (this) {
+                    if (sameAs(cached(chore.getId()), chore)) {
+                        hits.increment();
+                        return true;
+                    }
+                }
+            }
+            if (!repository.update(chore)) {
+                return false;
+            }
+            cache(chore);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean delete(Chore chore) {
+        Long id = idOf(chore);
+        return write(stripesOf(List.of(chore)), () -> {
+            if (!repository.delete(chore)) {
+                return false;
+            }
+            synchronized (this) {
+                uncache(id);
+            }
+            return true;
+        });
+    }
+
+    @Override
+    public boolean deleteAll(List<Chore> chores) {
+        List<Long> deletedIds = chores.stream().map(this::idOf).toList();
+        return write(stripesOf(chores), () -> {
+            boolean deleted = repository.deleteAll(chores);
+            // Some may be gone even when others failed
+            synchronized (this) {
+                deletedIds.forEach(this::uncache);
+            }
+            return deleted;
+        });
+    }
+
+    @Override
+    public boolean flush() {
+        return repository.flush();
+    }
+
+    @Override
+    public boolean writesBehind() {
+        return repository.writesBehind();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (repository instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public synchronized int size() {
+        return window.size() + main.size();
+    }
+
+    public synchronized void clear() {
+        window.clear();
+        main.clear();
+        ids.clear();
+    }
+
+    // Run a write with the stripes of its ids locked, counting it in and out
+    // so lookups that read the wrapped repository meanwhile do not cache
+    // what they read
+    private boolean write(int[] stripes, BooleanSupplier write) {
+        for (int stripe : stripes) {
+            locks[stripe].lock();
+        }
+        writesStarted.incrementAndGet();
+        try {
+            return write.getAsBoolean();
+        } finally {
+            writesFinished.incrementAndGet();
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    // The distinct stripes of the chores' ids in the order they are locked
+    private int[] stripesOf(List<Chore> chores) {
+        return chores.stream()
+                .map(this::idOf)
+                .filter(Objects::nonNull)
+                .mapToInt(CachingChoreRepository::stripe)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    // The id of the chore, or of the cached chore with its key when it has
+    // none, as copies built from a description and deadline do
+    private synchronized Long idOf(Chore chore) {
+        return Objects.nonNull(chore.getId()) ? chore.getId() : ids.get(ChoreKey.of(chore));
+    }
+
+    private static int stripe(long id) {
+        int hash = Long.hashCode(id);
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private synchronized void cacheUnlessWritten(Chore chore, long started) {
+        if (writesStarted.get() == started) {
+            cache(chore);
+        }
+    }
+
+    private synchronized void cache(Chore chore) {
+        if (Objects.isNull(chore.getId())) {
+            return;
+        }
+        Long id = chore.getId();
+        sketch.increment(id);
+        uncache(id);
+        window.put(id, copyOf(chore));
+        ids.put(ChoreKey.of(chore), id);
+        if (window.size() <= windowSize) {
+            return;
+        }
+        // The window is full, its eldest chore competes for the main area
+        Iterator<Map.Entry<Long, Chore>> eldest = window.entrySet().iterator();
+        Map.Entry<Long, Chore> candidate = eldest.next();
+        eldest.remove();
+        if (main.size() < mainSize) {
+            main.put(candidate.getKey(), candidate.getValue());
+            return;
+        }
+        if (mainSize == 0) {
+            evict(candidate.getValue());
+            return;
+        }
+        Iterator<Map.Entry<Long, Chore>> victims = main.entrySet().iterator();
+        Map.Entry<Long, Chore> victim = victims.next();
+        if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+            victims.remove();
+            evict(victim.getValue());
+            main.put(candidate.getKey(), candidate.getValue());
+        } else {
+            evict(candidate.getValue());
+        }
+    }
+
+    private void evict(Chore chore) {
+        ids.remove(ChoreKey.of(chore));
+        evictions.increment();
+    }
+
+    private void uncache(Long id) {
+        Chore chore = window.remove(id);
+        if (Objects.isNull(chore)) {
+            chore = main.remove(id);
+        }
+        if (Objects.nonNull(chore)) {
+            ids.remove(ChoreKey.of(chore));
+        }
+    }
+
+    private Chore cached(Long id) {
+        Chore chore = window.get(id);
+        return Objects.nonNull(chore) ? chore : main.get(id);
+    }
+
+    private static boolean sameAs(Chore cached, Chore chore) {
+        return Objects.nonNull(cached)
+                && Objects.equals(cached.getDescription(), chore.getDescription())
+                && Objects.equals(cached.getIsCompleted(), chore.getIsCompleted())
+                && Objects.equals(cached.getDeadline(), chore.getDeadline());
+    }
+
+    private static Chore copyOf(Chore chore) {
+        return new Chore(chore.getId(), chore.getDescription(), chore.getIsCompleted(), chore.getDeadline());
+    }
+
+    /**
+     * Count-min sketch of how often each id was used, with four 4-bit
+     * counters per id. The counters are halved after 10 uses per cached
+     * chore, so old popularity fades.
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long HALF = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int counterMask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int maxSize) {
+            int length = Integer.highestOneBit(Math.max(2, maxSize) - 1) << 1;
+            table = new long[length];
+            counterMask = length * 16 - 1;
+            sampleSize = 10 * Math.max(1, maxSize);
+        }
+
+        private int frequency(long id) {
+            int frequency = 15;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int counter = counterOf(id, i);
+                frequency = Math.min(frequency, (int) (table[counter >>> 4] >>> ((counter & 15) << 2)) & 15);
+            }
+            return frequency;
+        }
+
+        private void increment(long id) {
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int counter = counterOf(id, i);
+                int shift = (counter & 15) << 2;
+                if (((table[counter >>> 4] >>> shift) & 15) < 15) {
+                    table[counter >>> 4] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & HALF;
+                }
+                additions /= 2;
+            }
+        }
+
+        private int counterOf(long id, int i) {
+            long hash = (id + SEEDS[i]) * SEEDS[i];
+            hash += hash >>> 32;
+            return (int) hash & counterMask;
+        }
+    }
+
+    private record ChoreKey(String description, LocalDate deadline) {
+        static ChoreKey of(Chore chore) {
+            return new ChoreKey(chore.getDescription(), chore.getDeadline());
+        }
+    }
+}
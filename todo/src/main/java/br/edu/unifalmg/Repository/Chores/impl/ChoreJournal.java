@@ -0,0 +1,187 @@
+package br.edu.unifalmg.Repository.Chores.impl;
+
+import br.edu.unifalmg.domain.Chore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of single-chore changes kept next to a JSON snapshot.
+ *
+ * Every entry is one JSON object on its own line, so writing a change costs
+ * one append no matter how many chores the snapshot holds. Replaying the
+ * entries on top of the snapshot rebuilds the current chores. Entries are
+ * keyed by chore id and replaying one twice gives the same result, so a
+ * journal left over from a crash during compaction is harmless.
+ *
+ * When durable, every append is forced to disk before it returns, like
+ * the snapshot written by {@link AtomicFileWriter}.
+ */
+class ChoreJournal {
+
+    enum Operation {
+        ADD, UPDATE, DELETE
+    }
+
+    record Entry(Operation operation, Chore chore) {
+    }
+
+    private final ObjectMapper mapper;
+    private final Path path;
+
+    // Entries written since the last snapshot, counted from the file the
+    // first time it is needed when nothing was replayed yet
+    private int size = -1;
+
+    ChoreJournal(ObjectMapper mapper, Path path) {
+        this.mapper = mapper;
+        this.path = path;
+    }
+
+    void append(Operation operation, Chore chore, boolean durable) throws IOException {
+        byte[] entry = mapper.writeValueAsBytes(new Entry(operation, chore));
+        byte[] line = Arrays.copyOf(entry, entry.length + 1);
+        line[entry.length] = '\n';
+        int entries = size();
+        boolean created = !Files.exists(path);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (durable) {
+                channel.force(false);
+            }
+        }
+        if (durable && created) {
+            AtomicFileWriter.syncDirectory(path.toAbsolutePath().getParent());
+        }
+        size = entries + 1;
+    }
+
+    /**
+     * Apply every complete entry to the given chores, keyed by id.
+     *
+     * Replay stops at the first entry that is cut short or cannot be parsed,
+     * which is what a crash in the middle of an append leaves behind. The
+     * journal is then truncated after the last good entry, so the next append
+     * does not end up glued to the garbage.
+     *
+     * @param chores The snapshot chores by id, changed in place
+     * @return long The highest chore id found in the journal, or 0
+     */
+    long replay(Map<Long, Chore> chores) throws IOException {
+        size = 0;
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        byte[] content = Files.readAllBytes(path);
+        long[] maxId = {0};
+        int start = read(content, entry -> {
+            Long id = entry.chore().getId();
+            if (entry.operation() == Operation.DELETE) {
+                chores.remove(id);
+            } else {
+                chores.put(id, entry.chore());
+            }
+            maxId[0] = Math.max(maxId[0], id);
+            size++;
+        });
+        if (start < content.length) {
+            System.out.println("Discarding an incomplete entry at the end of the chores journal.");
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(start);
+            }
+        }
+        return maxId[0];
+    }
+
+    /**
+     * The last complete entry of every chore in the journal, in the order
+     * the chores first show up. Unlike {@link #replay}, deletes are kept as
+     * entries, so they can be laid over a snapshot that is read later, and
+     * the journal is left as it is.
+     *
+     * @return Map<Long, Entry> The entries by chore id
+     */
+    Map<Long, Entry> latest() throws IOException {
+        Map<Long, Entry> entries = new LinkedHashMap<>();
+        if (Files.exists(path)) {
+            read(Files.readAllBytes(path), entry -> entries.put(entry.chore().getId(), entry));
+        }
+        return entries;
+    }
+
+    void clear() throws IOException {
+        Files.deleteIfExists(path);
+        size = 0;
+    }
+
+    boolean isEmpty() throws IOException {
+        return !Files.exists(path) || Files.size(path) == 0;
+    }
+
+    int size() throws IOException {
+        if (size < 0) {
+            size = Files.exists(path) ? count(Files.readAllBytes(path), (byte) '\n') : 0;
+        }
+        return size;
+    }
+
+    // Hand every complete entry to the consumer and return where the first
+    // entry that is cut short or cannot be parsed starts
+    private int read(byte[] content, Consumer<Entry> consumer) {
+        int start = 0;
+        while (start < content.length) {
+            int end = indexOf(content, (byte) '\n', start);
+            if (end < 0) {
+                break;
+            }
+            Entry entry = parse(content, start, end);
+            if (Objects.isNull(entry) || Objects.isNull(entry.chore()) || Objects.isNull(entry.chore().getId())) {
+                break;
+            }
+            consumer.accept(entry);
+            start = end + 1;
+        }
+        return start;
+    }
+
+    private Entry parse(byte[] content, int start, int end) {
+        try {
+            return mapper.readValue(content, start, end - start, Entry.class);
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    private static int count(byte[] content, byte value) {
+        int count = 0;
+        for (byte b : content) {
+            if (b == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int indexOf(byte[] content, byte value, int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
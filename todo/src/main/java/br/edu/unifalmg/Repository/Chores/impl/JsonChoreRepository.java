@@ -3,34 +3,109 @@ package br.edu.unifalmg.Repository.Chores.impl;
 
 import br.edu.unifalmg.Repository.Chores.ChoresRepository;
 import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.DescriptionDictionary;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import lombok.Setter;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class JsonChoreRepository implements ChoresRepository {
 
     private ObjectMapper mapper;
 
+    private File file = new File("chores.json");
+
+    // Single-chore changes are appended here and folded into the file on compaction
+    private ChoreJournal journal;
+
+    // Journal entries that trigger a compaction into the file
+    @Setter
+    private int compactionThreshold = 1000;
+
+    // Next id to hand out, unknown until the chores are loaded once
+    private Long nextId;
+
+    // Highest id stored in the file, which the chores stored without one
+    // count up from, unknown until the file is read once
+    private Long snapshotMaxId;
+
+    // Whether saveAll forces the file to disk before renaming it into place,
+    // and save, update and delete force their journal entry to disk.
+    // Turning it off is faster, but a power loss may then lose the last save.
+    @Setter
+    private boolean durable = true;
+
+    // Shares the repeated descriptions of the loaded chores
+    @Setter
+    private DescriptionDictionary dictionary = new DescriptionDictionary();
+
     public JsonChoreRepository() {
         mapper = new ObjectMapper().findAndRegisterModules();
     }
 
+    public void setFile(File file) {
+        this.file = file;
+        this.journal = null;
+        this.nextId = null;
+        this.snapshotMaxId = null;
+    }
+
+    /**
+     * Load the chores of the file and replay the journal on top of them.
+     * Chores stored without an id get one, in file order.
+     *
+     * @return List<Chore> The current chores
+     */
     @Override
     public List<Chore> load() {
+        List<Chore> chores = replayJournal(loadSnapshot());
+        chores.forEach(this::internDescription);
+        return chores;
+    }
+
+    private List<Chore> replayJournal(List<Chore> snapshot) {
         try {
-            return new ArrayList<>(
-                    Arrays.asList(
-                            mapper.readValue(new File("chores.json"), Chore[].class)
-                    )
-            );
+            return readJournal(snapshot);
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to read the chores journal.");
+        }
+        nextId = assignIds(snapshot) + 1;
+        return snapshot;
+    }
 
+    private List<Chore> readJournal(List<Chore> snapshot) throws IOException {
+        snapshotMaxId = highestId(snapshot.stream());
+        long maxId = assignIds(snapshot);
+        if (journal().isEmpty()) {
+            journal().clear();
+            nextId = maxId + 1;
+            return snapshot;
+        }
+        Map<Long, Chore> chores = new LinkedHashMap<>();
+        snapshot.forEach(chore -> chores.put(chore.getId(), chore));
+        maxId = Math.max(maxId, journal().replay(chores));
+        nextId = maxId + 1;
+        return new ArrayList<>(chores.values());
+    }
 
+    private List<Chore> loadSnapshot() {
+        try {
+            return readSnapshot();
         } catch(MismatchedInputException exception) {
             System.out.println("Unable to convert the content of the file into Chores!");
         } catch(IOException exception) {
@@ -39,10 +114,109 @@ public class JsonChoreRepository implements ChoresRepository {
         return new ArrayList<>();
     }
 
+    private List<Chore> readSnapshot() throws IOException {
+        return new ArrayList<>(
+                Arrays.asList(
+                        mapper.readValue(file, Chore[].class)
+                )
+        );
+    }
+
+    /**
+     * Stream the chores of the file one at a time with Jackson's
+     * MappingIterator, so only the chore being read is kept in memory.
+     * The file stays open until the stream is closed.
+     *
+     * The journal is read first and laid over the file as it streams by:
+     * changed chores are replaced, deleted ones skipped, and added ones
+     * follow the chores of the file. Only the journal, which compaction
+     * keeps small, is held in memory. Chores stored without an id get the
+     * same one {@link #load()} gives them.
+     *
+     * @return Stream<Chore> The current chores, or only those of the journal
+     * when the file cannot be opened
+     */
+    @Override
+    public Stream<Chore> stream() {
+        Map<Long, ChoreJournal.Entry> pending;
+        try {
+            pending = journal().latest();
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to read the chores journal.");
+            pending = new LinkedHashMap<>();
+        }
+        Stream<Chore> snapshot = Stream.empty();
+        try {
+            long[] lastId = {snapshotMaxId()};
+            snapshot = streamSnapshot().map(chore -> assignId(chore, lastId));
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to open file.");
+        }
+        return overlay(snapshot, pending).map(this::internDescription);
+    }
+
+    private Stream<Chore> streamSnapshot() throws IOException {
+        MappingIterator<Chore> iterator = mapper.readerFor(Chore.class).readValues(file);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(() -> {
+            try {
+                iterator.close();
+            } catch (IOException exception) {
+                System.out.println("ERROR: Unable to close the file.");
+            }
+        });
+    }
+
+    // Reads the whole file once, one chore at a time, when it was not read yet
+    private long snapshotMaxId() throws IOException {
+        if (Objects.isNull(snapshotMaxId)) {
+            try (Stream<Chore> chores = streamSnapshot()) {
+                snapshotMaxId = highestId(chores);
+            }
+        }
+        return snapshotMaxId;
+    }
+
+    // Replace or skip the snapshot chores the journal changed, then add the
+    // chores the journal added. The added ones are only looked at once the
+    // snapshot is done, so the entries the snapshot used are gone by then.
+    private static Stream<Chore> overlay(Stream<Chore> snapshot, Map<Long, ChoreJournal.Entry> pending) {
+        if (pending.isEmpty()) {
+            return snapshot;
+        }
+        Stream<Chore> changed = snapshot
+                .map(chore -> {
+                    ChoreJournal.Entry entry = Objects.isNull(chore.getId()) ? null : pending.remove(chore.getId());
+                    if (Objects.isNull(entry)) {
+                        return chore;
+                    }
+                    return entry.operation() == ChoreJournal.Operation.DELETE ? null : entry.chore();
+                })
+                .filter(Objects::nonNull);
+        Stream<Chore> added = Stream.of(pending).flatMap(entries -> entries.values().stream()
+                .filter(entry -> entry.operation() != ChoreJournal.Operation.DELETE)
+                .map(ChoreJournal.Entry::chore));
+        return Stream.concat(changed, added);
+    }
+
+    /**
+     * Write every chore to the file, replacing its content and the journal.
+     * Chores without an id get one before being written.
+     *
+     * The chores are written to a temporary file in the same directory, which
+     * is then renamed over the file in one atomic step, so a crash in the
+     * middle of a save leaves the previous file intact.
+     */
     @Override
     public boolean saveAll(List<Chore> chores) {
         try {
-            mapper.writeValue(new File("chores.json"), chores);
+            long maxId = assignIds(chores);
+            writeSnapshot(chores);
+            snapshotMaxId = maxId;
+            journal().clear();
+            nextId = maxId + 1;
             return true;
         } catch (IOException exception) {
             System.out.println("ERROR: Unable to write the chores on the file.");
@@ -50,13 +224,116 @@ public class JsonChoreRepository implements ChoresRepository {
         return false;
     }
 
+    /**
+     * Append the new chore to the journal, giving it an id when it has none.
+     */
     @Override
     public boolean save(Chore chore){
-        throw new RuntimeException("Operation not supported yet");
+        if (Objects.isNull(nextId)) {
+            load();
+        }
+        if (Objects.isNull(chore.getId())) {
+            chore.setId(nextId++);
+        } else {
+            nextId = Math.max(nextId, chore.getId() + 1);
+        }
+        return appendToJournal(ChoreJournal.Operation.ADD, chore);
     }
 
+    /**
+     * Append the new state of the chore to the journal. Covers both edits and
+     * toggles, since the whole chore is written.
+     */
     @Override
     public boolean update(Chore chore){
-        throw new RuntimeException("Operation not supported yet");
+        if (Objects.isNull(chore.getId())) {
+            return false;
+        }
+        return appendToJournal(ChoreJournal.Operation.UPDATE, chore);
+    }
+
+    @Override
+    public boolean delete(Chore chore) {
+        if (Objects.isNull(chore.getId())) {
+            return false;
+        }
+        return appendToJournal(ChoreJournal.Operation.DELETE, Chore.builder().id(chore.getId()).build());
+    }
+
+    /**
+     * Fold the journal into the file. Runs on its own once the journal holds
+     * compactionThreshold entries.
+     *
+     * Unlike load, a file or journal that cannot be read fails the
+     * compaction, so the journal is kept instead of being folded into an
+     * incomplete file.
+     */
+    public boolean compact() {
+        List<Chore> chores;
+        try {
+            chores = readJournal(file.exists() ? readSnapshot() : new ArrayList<>());
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to read the chores, keeping the journal.");
+            return false;
+        }
+        return saveAll(chores);
+    }
+
+    private void writeSnapshot(List<Chore> chores) throws IOException {
+        AtomicFileWriter.write(file.toPath(), durable, (output, channel) -> mapper.writeValue(output, chores));
+    }
+
+    private boolean appendToJournal(ChoreJournal.Operation operation, Chore chore) {
+        int size;
+        try {
+            journal().append(operation, chore, durable);
+            size = journal().size();
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to write the chore on the journal.");
+            return false;
+        }
+        if (size >= compactionThreshold) {
+            // The change is in the journal either way, a failed compaction
+            // is tried again on the next append
+            compact();
+        }
+        return true;
+    }
+
+    private ChoreJournal journal() {
+        if (Objects.isNull(journal)) {
+            journal = new ChoreJournal(mapper, Path.of(file.getPath() + ".journal"));
+        }
+        return journal;
+    }
+
+    private Chore internDescription(Chore chore) {
+        chore.setDescription(dictionary.intern(chore.getDescription()));
+        return chore;
+    }
+
+    // Give an id to the chores that have none and return the highest id
+    private static long assignIds(List<Chore> chores) {
+        long[] lastId = {highestId(chores.stream())};
+        for (Chore chore : chores) {
+            assignId(chore, lastId);
+        }
+        return lastId[0];
+    }
+
+    private static long highestId(Stream<Chore> chores) {
+        return chores.map(Chore::getId)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0);
+    }
+
+    // Give the chore the id after the last one handed out when it has none
+    private static Chore assignId(Chore chore, long[] lastId) {
+        if (Objects.isNull(chore.getId())) {
+            chore.setId(++lastId[0]);
+        }
+        return chore;
     }
 }
\ No newline at end of file
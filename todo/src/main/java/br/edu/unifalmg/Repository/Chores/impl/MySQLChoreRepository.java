@@ -2,100 +2,261 @@ package br.edu.unifalmg.Repository.Chores.impl;
 
 import br.edu.unifalmg.Repository.Chores.ChoresRepository;
 import br.edu.unifalmg.Repository.Chores.book.ChoreBook;
+import br.edu.unifalmg.Repository.Chores.pool.ConnectionPool;
+import br.edu.unifalmg.Repository.Chores.pool.ConnectionPoolSettings;
+import br.edu.unifalmg.Repository.Chores.pool.PooledConnection;
 import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.DescriptionDictionary;
+import br.edu.unifalmg.exception.ChorePersistenceException;
+import lombok.Setter;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class MySQLChoreRepository implements ChoresRepository {
-    // Estabelecer uma conexão com o banco de dados
-    private Connection connection;
+public class MySQLChoreRepository implements ChoresRepository, AutoCloseable {
 
-    // Realizar operações no banco de dados
-    // Executam em tempo de COMPILAÇÃO
-    // Quando a consulta é executada uma única vez
-    private Statement statement;
+    // rewriteBatchedStatements faz o driver enviar um batch de INSERTs
+    // como um único INSERT com várias linhas
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/tododb?"
+            + "user=root&password=123456&rewriteBatchedStatements=true";
 
-    // Realizar operações no banco de dados
-    // Executar queries dinâmicas em tempo de execução
-    // Ideal para quando vamos executar a query múltiplas vezes
-    // Possui melhor perfomance quando comparado ao statement
-    private PreparedStatement preparedStatement;
+    // Mantém as conexões abertas entre as operações.
+    // Cada operação empresta sua própria conexão e usa apenas variáveis
+    // locais, então o repositório pode ser compartilhado entre threads.
+    private final ConnectionPool pool;
 
-    // Utilizado para capturar o retorno de uma consulta
-    // e.g.: Utilizei o statement para fazer uma consulta de todas as chores.
-    // Eu uso o result set para capturar o resultado desta consulta
-    private ResultSet resultSet;
+    // Quantidade de linhas enviadas por executeBatch em saveAll
+    @Setter
+    private int batchSize = 1000;
+
+    // Quantidade de linhas que o driver traz do servidor por vez. O
+    // Connector/J só respeita o valor com useCursorFetch=true na URL; sem
+    // isso ele lê o resultado inteiro antes da primeira linha
+    @Setter
+    private int fetchSize = 1000;
+
+    // Quantidade de linhas de cada página lida por stream
+    @Setter
+    private int pageSize = 1000;
+
+    // Compartilha as descrições repetidas entre as linhas carregadas
+    @Setter
+    private DescriptionDictionary dictionary = new DescriptionDictionary();
+
+    public MySQLChoreRepository() {
+        this(DEFAULT_URL);
+    }
+
+    public MySQLChoreRepository(String url) {
+        this(url, ConnectionPoolSettings.defaults());
+    }
+
+    public MySQLChoreRepository(String url, ConnectionPoolSettings settings) {
+        this.pool = new ConnectionPool(url, settings);
+    }
 
     @Override
     public List<Chore> load() {
-        if (!connectToMySQL()) {
+        PooledConnection connection = connectToMySQL();
+        if (Objects.isNull(connection)) {
             return new ArrayList<>();
         }
 
-        try {
-            statement = connection.createStatement();
-            resultSet = statement.executeQuery(ChoreBook.FIND_ALL_CHORES);
-
-            List<Chore> chores = new ArrayList<>();
-            while(resultSet.next()) {
-                Chore chore = Chore.builder()
-                        .id(resultSet.getLong("choreID"))
-                        .description(resultSet.getString("description"))
-                        .isCompleted(resultSet.getBoolean("isCompleted"))
-                        .deadline(resultSet.getDate("deadline").toLocalDate())
-                        .build();
-                chores.add(chore);
-            }
-            return chores;
+        // Statement: executa a consulta uma única vez
+        // ResultSet: captura o retorno da consulta
+        try (connection;
+             Statement statement = connection.createStatement()) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet resultSet = statement.executeQuery(ChoreBook.FIND_ALL_CHORES)) {
+                List<Chore> chores = new ArrayList<>();
+                while(resultSet.next()) {
+                    chores.add(readChore(resultSet));
+                }
+                return chores;
+            }
         } catch (SQLException exception) {
             System.out.println("Error when consulting the database.");
-        } finally {
-            closeConnections();
         }
         return null;
     }
 
+    /**
+     * Lê as chores com id maior que afterId, em ordem de id. A consulta
+     * percorre a chave primária a partir de afterId, então toda página
+     * custa o mesmo, não importa a profundidade.
+     */
+    @Override
+    public List<Chore> loadPage(long afterId, int size) {
+        PooledConnection connection = connectToMySQL();
+        if (Objects.isNull(connection)) {
+            return null;
+        }
+        // PreparedStatement: cacheado pela conexão do pool, não deve ser fechado aqui
+        try (connection) {
+            PreparedStatement preparedStatement = connection.prepareStatement(ChoreBook.FIND_CHORES_AFTER_ID);
+            preparedStatement.setLong(1, afterId);
+            preparedStatement.setInt(2, size);
+            preparedStatement.setFetchSize(Math.min(size, fetchSize));
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                List<Chore> chores = new ArrayList<>(Math.min(size, fetchSize));
+                while (resultSet.next()) {
+                    chores.add(readChore(resultSet));
+                }
+                return chores;
+            }
+        } catch (SQLException exception) {
+            System.out.println("Error when consulting the database.");
+        }
+        return null;
+    }
+
+    @Override
+    public Chore find(String description, LocalDate deadline) {
+        if (Objects.isNull(description) || Objects.isNull(deadline)) {
+            return null;
+        }
+        PooledConnection connection = connectToMySQL();
+        if (Objects.isNull(connection)) {
+            return null;
+        }
+        // PreparedStatement: cacheado pela conexão do pool, não deve ser fechado aqui
+        try (connection) {
+            PreparedStatement preparedStatement = connection.prepareStatement(ChoreBook.FIND_CHORE);
+            preparedStatement.setString(1, description);
+            preparedStatement.setDate(2, Date.valueOf(deadline));
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? readChore(resultSet) : null;
+            }
+        } catch (SQLException exception) {
+            System.out.println("Error when consulting the database.");
+        }
+        return null;
+    }
+
+    /**
+     * @throws ChorePersistenceException Quando o banco não pode ser
+     * consultado, em vez de responder que não há chores
+     */
+    @Override
+    public long count() {
+        PooledConnection connection = connectToMySQL();
+        if (Objects.isNull(connection)) {
+            throw new ChorePersistenceException("Unable to count the chores on the database");
+        }
+        try (connection;
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(ChoreBook.COUNT_CHORES)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException exception) {
+            System.out.println("Error when consulting the database.");
+        }
+        throw new ChorePersistenceException("Unable to count the chores on the database");
+    }
+
+    /**
+     * Lê as chores página por página, em ordem de id. Cada página empresta
+     * uma conexão só enquanto é lida, então um consumidor lento não segura
+     * nem uma conexão nem mais de uma página. Uma página que não pode ser
+     * lida lança ChorePersistenceException, em vez de encerrar o stream como
+     * se as chores tivessem acabado.
+     */
+    @Override
+    public Stream<Chore> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(new PageIterator(), Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Grava todas as chores numa única transação. As chores sem id são
+     * inseridas e recebem o id gerado; as demais são atualizadas.
+     *
+     * @param chores As chores a gravar
+     * @return boolean True quando todas foram gravadas, false quando a
+     * transação foi desfeita
+     */
     @Override
     public boolean saveAll(List<Chore> chores) {
+        PooledConnection connection = connectToMySQL();
+        if (Objects.isNull(connection)) {
+            return Boolean.FALSE;
+        }
+        try (connection) {
+            List<Chore> newChores = chores.stream().filter(chore -> Objects.isNull(chore.getId())).toList();
+            connection.getConnection().setAutoCommit(false);
+            try {
+                insertAll(connection, newChores);
+                updateAll(connection, chores.stream().filter(chore -> Objects.nonNull(chore.getId())).toList());
+                connection.getConnection().commit();
+                return Boolean.TRUE;
+            } catch (SQLException exception) {
+                connection.getConnection().rollback();
+                // As linhas desses ids não existem mais
+                newChores.forEach(chore -> chore.setId(null));
+                System.out.println("Error when saving the chores on database");
+            } finally {
+                connection.getConnection().setAutoCommit(true);
+            }
+        } catch (SQLException exception) {
+            System.out.println("Error when rolling back the chores on database");
+        }
         return false;
     }
 
+    // saveAll já insere as novas e atualiza as demais numa única transação
+    @Override
+    public boolean saveChanges(List<Chore> chores) {
+        return saveAll(chores);
+    }
+
     @Override
     public boolean save(Chore chore) {
-        if (!connectToMySQL()) {
+        PooledConnection connection = connectToMySQL();
+        if (Objects.isNull(connection)) {
             return Boolean.FALSE;
         }
-        try {
-            preparedStatement = connection.prepareStatement(ChoreBook.INSERT_CHORE);
+        // PreparedStatement: cacheado pela conexão do pool, não deve ser fechado aqui
+        try (connection) {
+            PreparedStatement preparedStatement = connection.prepareStatement(
+                    ChoreBook.INSERT_CHORE, Statement.RETURN_GENERATED_KEYS);
             preparedStatement.setString(1, chore.getDescription());
             preparedStatement.setBoolean(2, chore.getIsCompleted());
             preparedStatement.setDate(3, Date.valueOf(chore.getDeadline()));
             int affectedRows = preparedStatement.executeUpdate();
             if (affectedRows > 0) {
+                readGeneratedIds(preparedStatement, List.of(chore));
                 return Boolean.TRUE;
             }
             return Boolean.FALSE;
         } catch (SQLException exception) {
             System.out.println("Error when inserting a new chore on database");
-        } finally {
-            closeConnections();
         }
         return false;
     }
 
+    // Grava a chore inteira, inclusive o status, como o JsonChoreRepository
     @Override
     public boolean update(Chore chore){
-        if(!connectToMySQL()){
+        PooledConnection connection = connectToMySQL();
+        if(Objects.isNull(connection)){
             return Boolean.FALSE;
         }
-        try {
-            preparedStatement = connection.prepareStatement(ChoreBook.UPDATE_CHORE);
+        try (connection) {
+            PreparedStatement preparedStatement = connection.prepareStatement(ChoreBook.UPDATE_CHORE_WITH_STATUS);
             preparedStatement.setString(1, chore.getDescription());
-            preparedStatement.setDate(2, Date.valueOf(chore.getDeadline()));
-            preparedStatement.setLong(3, chore.getId());
+            preparedStatement.setBoolean(2, chore.getIsCompleted());
+            preparedStatement.setDate(3, Date.valueOf(chore.getDeadline()));
+            preparedStatement.setLong(4, chore.getId());
             int affectedRows = preparedStatement.executeUpdate();
             if (affectedRows > 0){
                 return Boolean.TRUE;
@@ -103,42 +264,185 @@ public class MySQLChoreRepository implements ChoresRepository {
             return Boolean.FALSE;
         }catch (SQLException exception){
             System.out.println(("Error when updating a chore on database"));
-        }finally {
-            closeConnections();
         }
         return false;
     }
 
+    @Override
+    public boolean delete(Chore chore) {
+        if (Objects.isNull(chore.getId())) {
+            return Boolean.FALSE;
+        }
+        PooledConnection connection = connectToMySQL();
+        if (Objects.isNull(connection)) {
+            return Boolean.FALSE;
+        }
+        try (connection) {
+            PreparedStatement preparedStatement = connection.prepareStatement(ChoreBook.DELETE_CHORE);
+            preparedStatement.setLong(1, chore.getId());
+            return preparedStatement.executeUpdate() > 0;
+        } catch (SQLException exception) {
+            System.out.println("Error when deleting a chore on database");
+        }
+        return false;
+    }
 
-    private boolean connectToMySQL() {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            connection = DriverManager
-                    .getConnection("jdbc:mysql://localhost:3306/tododb?"
-                            + "user=root&password=123456");
-            return Boolean.TRUE;
-        } catch (ClassNotFoundException | SQLException exception) {
-            System.out.println("Error when connecting to database. Try again later");
+    @Override
+    public boolean deleteAll(List<Chore> chores) {
+        List<Chore> stored = chores.stream().filter(chore -> Objects.nonNull(chore.getId())).toList();
+        PooledConnection connection = connectToMySQL();
+        if (Objects.isNull(connection)) {
+            return Boolean.FALSE;
         }
-        return Boolean.FALSE;
+        try (connection) {
+            connection.getConnection().setAutoCommit(false);
+            try {
+                boolean deleted = deleteBatches(connection, stored);
+                connection.getConnection().commit();
+                // Chores sem id nunca foram gravadas
+                return deleted && stored.size() == chores.size();
+            } catch (SQLException exception) {
+                connection.getConnection().rollback();
+                System.out.println("Error when deleting the chores on database");
+            } finally {
+                connection.getConnection().setAutoCommit(true);
+            }
+        } catch (SQLException exception) {
+            System.out.println("Error when rolling back the chores on database");
+        }
+        return false;
     }
 
-    private void closeConnections() {
-        try {
-            if (Objects.nonNull(connection) && !connection.isClosed()) {
-                connection.close();
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    private void insertAll(PooledConnection connection, List<Chore> chores) throws SQLException {
+        PreparedStatement preparedStatement = connection.prepareStatement(
+                ChoreBook.INSERT_CHORE, Statement.RETURN_GENERATED_KEYS);
+        for (int from = 0; from < chores.size(); from += batchSize) {
+            List<Chore> batch = chores.subList(from, Math.min(from + batchSize, chores.size()));
+            for (Chore chore : batch) {
+                preparedStatement.setString(1, chore.getDescription());
+                preparedStatement.setBoolean(2, chore.getIsCompleted());
+                preparedStatement.setDate(3, Date.valueOf(chore.getDeadline()));
+                preparedStatement.addBatch();
             }
-            if (Objects.nonNull(statement) && !statement.isClosed()) {
-                statement.close();
+            preparedStatement.executeBatch();
+            readGeneratedIds(preparedStatement, batch);
+        }
+    }
+
+    // Uma chore cuja linha não existe mais desfaz a transação inteira, como
+    // o update de uma só chore, que retorna false nesse caso
+    private void updateAll(PooledConnection connection, List<Chore> chores) throws SQLException {
+        PreparedStatement preparedStatement = connection.prepareStatement(ChoreBook.UPDATE_CHORE_WITH_STATUS);
+        for (int from = 0; from < chores.size(); from += batchSize) {
+            List<Chore> batch = chores.subList(from, Math.min(from + batchSize, chores.size()));
+            for (Chore chore : batch) {
+                preparedStatement.setString(1, chore.getDescription());
+                preparedStatement.setBoolean(2, chore.getIsCompleted());
+                preparedStatement.setDate(3, Date.valueOf(chore.getDeadline()));
+                preparedStatement.setLong(4, chore.getId());
+                preparedStatement.addBatch();
             }
-            if (Objects.nonNull(preparedStatement) && !preparedStatement.isClosed()) {
-                preparedStatement.close();
+            int[] updatedRows = preparedStatement.executeBatch();
+            if (updatedRows.length != batch.size()) {
+                throw new SQLException("The database did not report every chore update");
             }
-            if (Objects.nonNull(resultSet) && !resultSet.isClosed()) {
-                resultSet.close();
+            // SUCCESS_NO_INFO não diz quantas linhas mudaram, só que não houve erro
+            for (int i = 0; i < updatedRows.length; i++) {
+                if (updatedRows[i] == 0 || updatedRows[i] == Statement.EXECUTE_FAILED) {
+                    throw new SQLException("The chore " + batch.get(i).getId() + " is not stored on database");
+                }
             }
+        }
+    }
+
+    private boolean deleteBatches(PooledConnection connection, List<Chore> chores) throws SQLException {
+        PreparedStatement preparedStatement = connection.prepareStatement(ChoreBook.DELETE_CHORE);
+        boolean deleted = true;
+        for (int from = 0; from < chores.size(); from += batchSize) {
+            for (Chore chore : chores.subList(from, Math.min(from + batchSize, chores.size()))) {
+                preparedStatement.setLong(1, chore.getId());
+                preparedStatement.addBatch();
+            }
+            // Um batch reescrito retorna SUCCESS_NO_INFO em vez da quantidade de linhas
+            for (int affectedRows : preparedStatement.executeBatch()) {
+                deleted &= affectedRows != 0;
+            }
+        }
+        return deleted;
+    }
+
+    // Só é chamado depois de um insert bem-sucedido, então faltar uma chave é erro
+    private void readGeneratedIds(PreparedStatement preparedStatement, List<Chore> chores) throws SQLException {
+        try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+            for (Chore chore : chores) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("The database did not return the generated chore ids");
+                }
+                chore.setId(generatedKeys.getLong(1));
+            }
+        }
+    }
+
+    private Chore readChore(ResultSet resultSet) throws SQLException {
+        return Chore.builder()
+                .id(resultSet.getLong("choreID"))
+                .description(dictionary.intern(resultSet.getString("description")))
+                .isCompleted(resultSet.getBoolean("isCompleted"))
+                .deadline(resultSet.getDate("deadline").toLocalDate())
+                .build();
+    }
+
+    // Busca a próxima página quando a atual termina
+    private class PageIterator implements Iterator<Chore> {
+
+        private List<Chore> page = List.of();
+        private int position;
+        private long lastId;
+        private boolean lastPage;
+
+        @Override
+        public boolean hasNext() {
+            if (position < page.size()) {
+                return true;
+            }
+            if (lastPage) {
+                return false;
+            }
+            List<Chore> next = loadPage(lastId, pageSize);
+            if (Objects.isNull(next)) {
+                throw new ChorePersistenceException("Unable to read the chores after " + lastId + " from the database");
+            }
+            if (next.isEmpty()) {
+                lastPage = true;
+                return false;
+            }
+            lastPage = next.size() < pageSize;
+            lastId = next.get(next.size() - 1).getId();
+            page = next;
+            position = 0;
+            return true;
+        }
+
+        @Override
+        public Chore next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.get(position++);
+        }
+    }
+
+    private PooledConnection connectToMySQL() {
+        try {
+            return pool.borrow();
         } catch (SQLException exception) {
-            System.out.println("Error when closing database connections.");
+            System.out.println("Error when connecting to database. Try again later");
         }
+        return null;
     }
 }
@@ -0,0 +1,483 @@
+package br.edu.unifalmg.Repository.Chores.impl;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.DescriptionDictionary;
+import br.edu.unifalmg.enumerator.ChoreSharding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Chore repository that splits the chores across many JSON files in one
+ * directory, one per deadline month or one per hash bucket of the
+ * description. Each shard is a JSON array of chores, like the file of
+ * {@link JsonChoreRepository}, and is replaced atomically when written.
+ *
+ * The shards are read and parsed in parallel on a fork-join pool, so load
+ * time goes down with the number of cores. Their descriptions are passed
+ * through the dictionary once every shard is parsed, so the readers never
+ * wait on it. Saves only write the shards whose content changed: the
+ * repository keeps a copy of the values each shard file held when last
+ * read or written, and a shard whose chores still match it is neither
+ * serialized nor written.
+ *
+ * saveChanges and deleteAll first write the whole batch to a pending file,
+ * and delete it once every shard is written. A batch cut short, e.g. by a
+ * crash between writing a moved chore to its new shard and removing it
+ * from the old one, is replayed from that file before the next load or
+ * write, so it is applied either fully or not at all. saveAll is atomic
+ * per shard only; a chore left in two shards is loaded once, from the
+ * first shard holding it.
+ *
+ * Single changes rewrite the shard they touch, so batch them through
+ * saveChanges. An update that moves a chore to another shard, e.g. an edit
+ * of its deadline month, has to look for the old copy in every shard. Not
+ * thread-safe.
+ */
+public class ShardedJsonChoreRepository implements ChoresRepository {
+
+    public static final int DEFAULT_SHARDS = 64;
+
+    private static final String PREFIX = "chores-";
+    private static final String SUFFIX = ".json";
+    // Does not match the shard names
+    private static final String PENDING = "pending-changes.json";
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    private final Path directory;
+    private final ChoreSharding sharding;
+    // File names of the DESCRIPTION_HASH buckets
+    private final String[] buckets;
+
+    // Values of the chores in each shard file as last read or written
+    private final Map<String, List<StoredChore>> stored = new ConcurrentHashMap<>();
+
+    // Next id to hand out, unknown until the chores are loaded once
+    private Long nextId;
+
+    // Where the shards are read and written
+    @Setter
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    // Whether each shard is forced to disk before it is renamed into place
+    @Setter
+    private boolean durable = true;
+
+    // Shares the repeated descriptions of the loaded chores
+    @Setter
+    private DescriptionDictionary dictionary = new DescriptionDictionary();
+
+    public ShardedJsonChoreRepository(Path directory) {
+        this(directory, ChoreSharding.DESCRIPTION_HASH, DEFAULT_SHARDS);
+    }
+
+    /**
+     * @param directory Where the shard files are kept
+     * @param sharding How the chores are split into shards
+     * @param shards How many shards DESCRIPTION_HASH spreads the chores
+     *               over. DEADLINE_MONTH makes as many as there are months.
+     */
+    public ShardedJsonChoreRepository(Path directory, ChoreSharding sharding, int shards) {
+        this.directory = directory;
+        this.sharding = Objects.requireNonNullElse(sharding, ChoreSharding.DESCRIPTION_HASH);
+        this.buckets = new String[Math.max(1, shards)];
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            buckets[bucket] = PREFIX + String.format("%03d", bucket) + SUFFIX;
+        }
+    }
+
+    /**
+     * Read and parse every shard in parallel. Chores stored without an id
+     * get one, in shard order.
+     *
+     * @return List<Chore> The chores of every shard, shard by shard
+     */
+    @Override
+    public List<Chore> load() {
+        try {
+            recover();
+            List<String> names = shardNames();
+            List<List<Chore>> shards = inParallel(names, this::parseShard);
+            List<Chore> chores = new ArrayList<>(shards.stream().mapToInt(List::size).sum());
+            Set<Long> ids = new HashSet<>();
+            for (int shard = 0; shard < shards.size(); shard++) {
+                for (Chore chore : shards.get(shard)) {
+                    chore.setDescription(dictionary.intern(chore.getDescription()));
+                    if (Objects.isNull(chore.getId()) || ids.add(chore.getId())) {
+                        chores.add(chore);
+                    } else {
+                        System.out.println("ERROR: The chore " + chore.getId() + " is stored in more than one shard.");
+                    }
+                }
+                // After interning, so the copies share the descriptions
+                remember(names.get(shard), shards.get(shard));
+            }
+            nextId = assignIds(chores) + 1;
+            return chores;
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to read the chore shards.");
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Reads only the shard the chore would be in.
+     */
+    @Override
+    public Chore find(String description, LocalDate deadline) {
+        try {
+            for (Chore chore : readShard(shardOf(description, deadline))) {
+                if (Objects.equals(chore.getDescription(), description)
+                        && Objects.equals(chore.getDeadline(), deadline)) {
+                    chore.setDescription(dictionary.intern(chore.getDescription()));
+                    return chore;
+                }
+            }
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to read the chore shard.");
+        }
+        return null;
+    }
+
+    /**
+     * Replace the stored chores with the given ones. Chores without an id
+     * get one. Only the shards whose content changed are written, and the
+     * files of the shards left without chores are deleted.
+     */
+    @Override
+    public boolean saveAll(List<Chore> chores) {
+        try {
+            // Otherwise a later load would replay it over these chores
+            recover();
+            long maxId = assignIds(chores);
+            Map<String, List<Chore>> shards = groupByShard(chores);
+            for (String name : shardNames()) {
+                shards.putIfAbsent(name, List.of());
+            }
+            inParallel(shards.entrySet(), shard -> writeShard(shard.getKey(), shard.getValue()));
+            nextId = maxId + 1;
+            return true;
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to write the chore shards.");
+        }
+        return false;
+    }
+
+    @Override
+    public boolean save(Chore chore) {
+        return saveChanges(List.of(chore));
+    }
+
+    @Override
+    public boolean update(Chore chore) {
+        if (Objects.isNull(chore.getId())) {
+            return false;
+        }
+        return saveChanges(List.of(chore));
+    }
+
+    /**
+     * Read the shards the chores belong in, put each chore in place of the
+     * stored one with its id or after the others, and write those shards
+     * back, all in parallel. Chores without an id get one.
+     */
+    @Override
+    public boolean saveChanges(List<Chore> chores) {
+        if (chores.isEmpty()) {
+            return true;
+        }
+        if (Objects.isNull(nextId)) {
+            load();
+            if (Objects.isNull(nextId)) {
+                // The shards could not be read
+                return false;
+            }
+        }
+        Map<Long, String> updated = new HashMap<>();
+        for (Chore chore : chores) {
+            if (Objects.isNull(chore.getId())) {
+                chore.setId(nextId++);
+            } else {
+                nextId = Math.max(nextId, chore.getId() + 1);
+                updated.put(chore.getId(), shardOf(chore.getDescription(), chore.getDeadline()));
+            }
+        }
+        try {
+            recover();
+            writePending(new PendingBatch(chores, List.of()));
+            // The others were stored under another key, or never stored
+            updated.keySet().removeAll(upsert(chores));
+            if (!updated.isEmpty()) {
+                removeFromShards(shardNames(), updated);
+            }
+            clearPending();
+            return true;
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to write the chore shards.");
+        }
+        return false;
+    }
+
+    @Override
+    public boolean delete(Chore chore) {
+        return deleteAll(List.of(chore));
+    }
+
+    /**
+     * Remove the chores from the shards of their keys, in parallel. Chores
+     * not found there are looked for in every shard.
+     */
+    @Override
+    public boolean deleteAll(List<Chore> chores) {
+        Map<Long, String> ids = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        for (Chore chore : chores) {
+            if (Objects.nonNull(chore.getId())) {
+                // Removed from whichever shard holds it
+                ids.put(chore.getId(), null);
+                names.add(shardOf(chore.getDescription(), chore.getDeadline()));
+            }
+        }
+        try {
+            recover();
+            if (!ids.isEmpty()) {
+                writePending(new PendingBatch(List.of(), List.copyOf(ids.keySet())));
+            }
+            ids.keySet().removeAll(removeFromShards(names.stream().distinct().toList(), ids));
+            if (!ids.isEmpty()) {
+                ids.keySet().removeAll(removeFromShards(shardNames(), ids));
+            }
+            clearPending();
+            return ids.isEmpty() && chores.stream().allMatch(chore -> Objects.nonNull(chore.getId()));
+        } catch (IOException exception) {
+            System.out.println("ERROR: Unable to write the chore shards.");
+        }
+        return false;
+    }
+
+    // Put the chores in the shards of their keys, in parallel, and return
+    // the ids that were already stored there
+    private Set<Long> upsert(List<Chore> chores) throws IOException {
+        Set<Long> inPlace = ConcurrentHashMap.newKeySet();
+        inParallel(groupByShard(chores).entrySet(), shard -> {
+            List<Chore> stored = readShard(shard.getKey());
+            inPlace.addAll(replaceOrAppend(stored, shard.getValue()));
+            return writeShard(shard.getKey(), stored);
+        });
+        return inPlace;
+    }
+
+    // Apply the batch left by a save or delete that did not finish. Every
+    // step is applied again, as any of them may be the one missing, and
+    // each is a no-op when it was already done.
+    private void recover() throws IOException {
+        Path file = directory.resolve(PENDING);
+        if (!Files.exists(file)) {
+            return;
+        }
+        PendingBatch batch = mapper.readValue(Files.readAllBytes(file), PendingBatch.class);
+        Map<Long, String> keptIn = new HashMap<>();
+        for (Chore chore : batch.saved()) {
+            keptIn.put(chore.getId(), shardOf(chore.getDescription(), chore.getDeadline()));
+        }
+        batch.deleted().forEach(id -> keptIn.put(id, null));
+        upsert(batch.saved());
+        removeFromShards(shardNames(), keptIn);
+        clearPending();
+    }
+
+    private void writePending(PendingBatch batch) throws IOException {
+        byte[] content = mapper.writeValueAsBytes(batch);
+        Files.createDirectories(directory);
+        AtomicFileWriter.write(directory.resolve(PENDING), durable, (output, channel) -> output.write(content));
+    }
+
+    private void clearPending() throws IOException {
+        Files.deleteIfExists(directory.resolve(PENDING));
+    }
+
+    // Remove the chores with the given ids from the given shards, except
+    // from the shard each is kept in, and return the ids removed
+    private Set<Long> removeFromShards(Collection<String> names, Map<Long, String> keptIn) throws IOException {
+        Set<Long> removed = ConcurrentHashMap.newKeySet();
+        inParallel(names, name -> {
+            List<Chore> stored = readShard(name);
+            List<Chore> kept = new ArrayList<>(stored.size());
+            for (Chore chore : stored) {
+                if (keptIn.containsKey(chore.getId()) && !name.equals(keptIn.get(chore.getId()))) {
+                    removed.add(chore.getId());
+                } else {
+                    kept.add(chore);
+                }
+            }
+            return kept.size() == stored.size() || writeShard(name, kept);
+        });
+        return removed;
+    }
+
+    // Put each change in place of the stored chore with its id, or after
+    // the others, and return the ids that were already stored
+    private static Set<Long> replaceOrAppend(List<Chore> stored, List<Chore> changes) {
+        Map<Long, Integer> positions = new HashMap<>(Math.max(16, (int) (stored.size() / 0.75f) + 1));
+        for (int position = 0; position < stored.size(); position++) {
+            positions.put(stored.get(position).getId(), position);
+        }
+        Set<Long> replaced = new HashSet<>();
+        for (Chore chore : changes) {
+            Integer position = positions.get(chore.getId());
+            if (Objects.isNull(position)) {
+                stored.add(chore);
+            } else {
+                stored.set(position, chore);
+                replaced.add(chore.getId());
+            }
+        }
+        return replaced;
+    }
+
+    private List<Chore> readShard(String name) throws IOException {
+        List<Chore> chores = parseShard(name);
+        remember(name, chores);
+        return chores;
+    }
+
+    // Read the shard file, without remembering what it holds
+    private List<Chore> parseShard(String name) throws IOException {
+        Path file = directory.resolve(name);
+        if (!Files.exists(file)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(mapper.readValue(Files.readAllBytes(file), Chore[].class)));
+    }
+
+    private void remember(String name, List<Chore> chores) {
+        if (chores.isEmpty()) {
+            stored.remove(name);
+        } else {
+            stored.put(name, StoredChore.of(chores));
+        }
+    }
+
+    // Write the shard unless its file already holds the same chores. An
+    // empty shard deletes its file.
+    private boolean writeShard(String name, List<Chore> chores) throws IOException {
+        Path file = directory.resolve(name);
+        if (chores.isEmpty()) {
+            Files.deleteIfExists(file);
+            stored.remove(name);
+            return true;
+        }
+        List<StoredChore> values = StoredChore.of(chores);
+        if (values.equals(stored.get(name)) && Files.exists(file)) {
+            return true;
+        }
+        byte[] content = mapper.writeValueAsBytes(chores);
+        Files.createDirectories(directory);
+        AtomicFileWriter.write(file, durable, (output, channel) -> output.write(content));
+        stored.put(name, values);
+        return true;
+    }
+
+    private List<String> shardNames() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            files.forEach(file -> names.add(file.getFileName().toString()));
+        }
+        names.sort(null);
+        return names;
+    }
+
+    private String shardOf(String description, LocalDate deadline) {
+        switch (sharding) {
+            case DEADLINE_MONTH:
+                return PREFIX + (Objects.isNull(deadline) ? "undated" : YearMonth.from(deadline).toString()) + SUFFIX;
+            case DESCRIPTION_HASH:
+            default:
+                return buckets[Math.floorMod(Objects.hashCode(description), buckets.length)];
+        }
+    }
+
+    private Map<String, List<Chore>> groupByShard(List<Chore> chores) {
+        Map<String, List<Chore>> shards = new TreeMap<>();
+        for (Chore chore : chores) {
+            shards.computeIfAbsent(shardOf(chore.getDescription(), chore.getDeadline()), name -> new ArrayList<>())
+                    .add(chore);
+        }
+        return shards;
+    }
+
+    // Run the task on every item in parallel on the pool, keeping the order
+    private <T, R> List<R> inParallel(Collection<T> items, ShardTask<T, R> task) throws IOException {
+        try {
+            return pool.submit(() -> items.parallelStream().map(item -> {
+                try {
+                    return task.apply(item);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }).toList()).join();
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    // Give an id to the chores that have none and return the highest id
+    private static long assignIds(List<Chore> chores) {
+        long maxId = 0;
+        for (Chore chore : chores) {
+            if (Objects.nonNull(chore.getId())) {
+                maxId = Math.max(maxId, chore.getId());
+            }
+        }
+        for (Chore chore : chores) {
+            if (Objects.isNull(chore.getId())) {
+                chore.setId(++maxId);
+            }
+        }
+        return maxId;
+    }
+
+    // The chores a batch saves, with their ids, and the ids it deletes
+    record PendingBatch(List<Chore> saved, List<Long> deleted) {
+    }
+
+    // The values of a chore as written to its shard. Chores are changed in
+    // place, so the repository keeps these copies rather than the chores.
+    private record StoredChore(Long id, String description, Boolean isCompleted, LocalDate deadline) {
+
+        private static List<StoredChore> of(List<Chore> chores) {
+            List<StoredChore> values = new ArrayList<>(chores.size());
+            for (Chore chore : chores) {
+                values.add(new StoredChore(chore.getId(), chore.getDescription(), chore.getIsCompleted(), chore.getDeadline()));
+            }
+            return values;
+        }
+    }
+
+    private interface ShardTask<T, R> {
+        R apply(T item) throws IOException;
+    }
+}
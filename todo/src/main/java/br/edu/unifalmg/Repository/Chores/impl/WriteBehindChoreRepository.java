@@ -0,0 +1,476 @@
+package br.edu.unifalmg.Repository.Chores.impl;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.domain.Chore;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Writes chores to another repository in the background.
+ *
+ * save, update and delete copy the chore onto a bounded queue and return
+ * at once. A single writer thread takes up to batchSize writes at a time,
+ * merges those for the same chore into its latest state, and persists the
+ * batch with one {@link ChoresRepository#saveChanges} call plus one delete
+ * per removed chore. A chore added and removed before it was written is
+ * never written at all. When the queue is full, callers wait for the
+ * writer to catch up.
+ *
+ * Ids are assigned when the chore is written, and set on the chore given
+ * to save. Until then its writes are matched to it by instance, or else by
+ * description and deadline, so a copy of a chore still waiting to be saved
+ * can delete it. A delete of a chore without an id that matches no queued
+ * save looks the chore up in the wrapped repository. Writes that fail are
+ * kept and tried again with the next batch, or after a second when nothing
+ * else is queued. Once a write has failed maxAttempts times, new writes are
+ * refused until the waiting ones are written, so a write that was accepted
+ * is never dropped and the writes waiting stay bounded.
+ *
+ * Reads go straight to the wrapped repository and do not see the writes
+ * still queued; flush first when they must. For the same reason it does
+ * not suit the LAZY store mode, which reads chores back as soon as it
+ * changes them. Only writes made before
+ * {@link #close} are guaranteed to be persisted, since the writer is a
+ * daemon thread. close and the writes exclude each other, so a write is
+ * either queued before the writer is told to stop or refused.
+ *
+ * flush and close wait at most awaitTimeout for the writer, and give up at
+ * once when the writer thread has died.
+ */
+public class WriteBehindChoreRepository implements ChoresRepository, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 10_000;
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+    public static final Duration DEFAULT_AWAIT_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    // How often a caller waiting on the writer checks that it is alive
+    private static final long ALIVE_CHECK_MILLIS = 100;
+
+    private final ChoresRepository repository;
+    private final BlockingQueue<Write> queue;
+    private final int batchSize;
+    private final Thread writer;
+    // Writes hold the read lock while they queue, close holds the write lock
+    private final ReentrantReadWriteLock closing = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    // How many times a write may fail before new writes are refused
+    private volatile int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    // Set by the writer while a write has failed maxAttempts times
+    private volatile boolean failing;
+
+    // How long flush and close wait for the writer
+    private volatile Duration awaitTimeout = DEFAULT_AWAIT_TIMEOUT;
+
+    // Only used by the writer thread, the latest state of each chore
+    // waiting to be written, in the order they were first changed
+    private final Map<Object, Write> pending = new LinkedHashMap<>();
+    private final Map<Chore, Object> keys = new IdentityHashMap<>();
+    // The key of each queued chore without an id, by its latest state
+    private final Map<ChoreKey, Object> unsaved = new HashMap<>();
+
+    public WriteBehindChoreRepository(ChoresRepository repository) {
+        this(repository, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param repository The repository to write to
+     * @param capacity How many writes may wait in the queue
+     * @param batchSize How many writes are merged and persisted at a time
+     */
+    public WriteBehindChoreRepository(ChoresRepository repository, int capacity, int batchSize) {
+        this.repository = repository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.writer = new Thread(this::writeLoop, "chore-write-behind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void setAwaitTimeout(Duration awaitTimeout) {
+        this.awaitTimeout = awaitTimeout;
+    }
+
+    @Override
+    public List<Chore> load() {
+        return repository.load();
+    }
+
+    @Override
+    public Stream<Chore> stream() {
+        return repository.stream();
+    }
+
+    @Override
+    public List<Chore> loadPage(long afterId, int size) {
+        return repository.loadPage(afterId, size);
+    }
+
+    @Override
+    public Chore find(String description, LocalDate deadline) {
+        return repository.find(description, deadline);
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    /**
+     * Writes the queued changes, then replaces the stored chores at once.
+     */
+    @Override
+    public boolean saveAll(List<Chore> chores) {
+        return flush() && repository.saveAll(chores);
+    }
+
+    /**
+     * @return boolean False when the repository is closed, or refuses writes
+     * because earlier ones keep failing
+     */
+    @Override
+    public boolean save(Chore chore) {
+        return enqueue(new Write(Operation.SAVE, chore, copyOf(chore), null));
+    }
+
+    @Override
+    public boolean update(Chore chore) {
+        return enqueue(new Write(Operation.UPDATE, chore, copyOf(chore), null));
+    }
+
+    @Override
+    public boolean delete(Chore chore) {
+        return enqueue(new Write(Operation.DELETE, chore, copyOf(chore), null));
+    }
+
+    @Override
+    public boolean writesBehind() {
+        return true;
+    }
+
+    @Override
+    public boolean saveChanges(List<Chore> chores) {
+        boolean queued = true;
+        for (Chore chore : chores) {
+            queued &= Objects.isNull(chore.getId()) ? save(chore) : update(chore);
+        }
+        return queued;
+    }
+
+    /**
+     * Wait until every write queued before the call has been persisted.
+     *
+     * @return boolean True when nothing is left to write, false when some
+     * writes failed and are still waiting, or the writer did not answer
+     * within awaitTimeout
+     */
+    @Override
+    public boolean flush() {
+        CompletableFuture<Boolean> flushed = new CompletableFuture<>();
+        if (!enqueue(new Write(Operation.FLUSH, null, null, flushed))) {
+            return false;
+        }
+        return await(flushed);
+    }
+
+    /**
+     * Persist the queued writes, stop the writer and close the wrapped
+     * repository. Later writes are refused.
+     */
+    @Override
+    public void close() throws Exception {
+        CompletableFuture<Boolean> stopped = new CompletableFuture<>();
+        // Taken after every write already queueing is queued, and keeps
+        // later ones out until they see closed
+        closing.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (!put(new Write(Operation.STOP, null, null, stopped))) {
+                stopped.complete(false);
+            }
+        } finally {
+            closing.writeLock().unlock();
+        }
+        if (!await(stopped)) {
+            System.out.println("ERROR: Some chores could not be written before closing.");
+        }
+        if (repository instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private boolean enqueue(Write write) {
+        closing.readLock().lock();
+        try {
+            if (closed) {
+                System.out.println("ERROR: The repository is closed.");
+                return false;
+            }
+            if (failing && write.operation != Operation.FLUSH) {
+                System.out.println("ERROR: The chores keep failing to be written, refusing new writes.");
+                return false;
+            }
+            return put(write);
+        } finally {
+            closing.readLock().unlock();
+        }
+    }
+
+    // Wait for room in the queue as long as the writer is there to make it
+    private boolean put(Write write) {
+        try {
+            while (!queue.offer(write, ALIVE_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!writer.isAlive()) {
+                    System.out.println("ERROR: The chore writer has stopped.");
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean await(CompletableFuture<Boolean> future) {
+        long deadline = System.nanoTime() + awaitTimeout.toNanos();
+        try {
+            while (true) {
+                try {
+                    return future.get(ALIVE_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException exception) {
+                    if (!writer.isAlive()) {
+                        System.out.println("ERROR: The chore writer has stopped.");
+                        return false;
+                    }
+                    if (System.nanoTime() - deadline >= 0) {
+                        System.out.println("ERROR: The chore writer did not answer in time.");
+                        return false;
+                    }
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            System.out.println("ERROR: Unable to write the chores.");
+        }
+        return false;
+    }
+
+    private void writeLoop() {
+        List<Write> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Write first;
+            try {
+                // Failed writes are tried again after a while even when
+                // nothing else is queued
+                first = pending.isEmpty() ? queue.take() : queue.poll(RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException exception) {
+                // Nothing interrupts the writer, its thread is not shared
+                return;
+            }
+            if (Objects.nonNull(first)) {
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            }
+            // Whether anything is waiting that no flush in the batch tried
+            boolean untried = Objects.isNull(first);
+            Write stop = null;
+            for (Write write : batch) {
+                switch (write.operation) {
+                    case FLUSH:
+                        write.done.complete(writePending());
+                        untried = false;
+                        break;
+                    case STOP:
+                        stop = write;
+                        break;
+                    default:
+                        merge(write);
+                        untried = true;
+                }
+            }
+            batch.clear();
+            boolean written = untried || Objects.nonNull(stop) ? writePending() : pending.isEmpty();
+            if (Objects.nonNull(stop)) {
+                stop.done.complete(written);
+                return;
+            }
+        }
+    }
+
+    private void merge(Write write) {
+        Object key = keyOf(write);
+        Write previous = pending.get(key);
+        if (Objects.isNull(previous)) {
+            pending.put(key, write);
+            track(key, write);
+        } else if (write.operation == Operation.DELETE && Objects.isNull(previous.chore.getId())) {
+            // Never written, so there is nothing to delete either
+            forget(key, previous);
+        } else {
+            // The latest state wins, and a chore not yet saved is still saved
+            Operation operation = previous.operation == Operation.SAVE && write.operation == Operation.UPDATE
+                    ? Operation.SAVE : write.operation;
+            Write merged = new Write(operation, previous.chore, write.state, null);
+            unsaved.remove(ChoreKey.of(previous.state), key);
+            pending.put(key, merged);
+            track(key, merged);
+        }
+    }
+
+    // Chores are known by id once they have one. Until then their instance
+    // is their key, kept until they are written and get an id, and a copy
+    // of them is matched by description and deadline.
+    private Object keyOf(Write write) {
+        Object key = keys.get(write.chore);
+        if (Objects.nonNull(key)) {
+            return key;
+        }
+        if (Objects.nonNull(write.chore.getId())) {
+            return write.chore.getId();
+        }
+        key = unsaved.get(ChoreKey.of(write.state));
+        if (Objects.nonNull(key)) {
+            return key;
+        }
+        key = new Object();
+        keys.put(write.chore, key);
+        return key;
+    }
+
+    private void track(Object key, Write write) {
+        if (!(key instanceof Long)) {
+            unsaved.put(ChoreKey.of(write.state), key);
+        }
+    }
+
+    private void forget(Object key, Write write) {
+        pending.remove(key);
+        keys.remove(write.chore);
+        unsaved.remove(ChoreKey.of(write.state), key);
+    }
+
+    private boolean writePending() {
+        if (pending.isEmpty()) {
+            return true;
+        }
+        List<Chore> states = new ArrayList<>();
+        for (Write write : pending.values()) {
+            // Saved earlier, while this change waited in the queue
+            if (Objects.isNull(write.state.getId())) {
+                write.state.setId(write.chore.getId());
+            }
+            if (write.operation != Operation.DELETE) {
+                states.add(write.state);
+            }
+        }
+        boolean saved;
+        try {
+            saved = states.isEmpty() || repository.saveChanges(states);
+        } catch (RuntimeException exception) {
+            saved = false;
+        }
+        boolean written = true;
+        boolean exhausted = false;
+        List<Map.Entry<Object, Write>> finished = new ArrayList<>();
+        for (Map.Entry<Object, Write> entry : pending.entrySet()) {
+            Write write = entry.getValue();
+            boolean done = write.operation == Operation.DELETE ? deleteStored(write.state) : saved;
+            if (done) {
+                write.chore.setId(write.state.getId());
+                finished.add(entry);
+            } else {
+                exhausted |= ++write.attempts >= maxAttempts;
+            }
+            written &= done;
+        }
+        finished.forEach(entry -> forget(entry.getKey(), entry.getValue()));
+        if (!written) {
+            System.out.println("ERROR: Unable to write " + pending.size() + " chores, retrying later.");
+        }
+        if (exhausted && !failing) {
+            System.out.println("ERROR: Some chores failed to be written " + maxAttempts
+                    + " times, refusing new writes until they are written.");
+        }
+        failing = exhausted;
+        return written;
+    }
+
+    private boolean deleteStored(Chore chore) {
+        try {
+            if (Objects.nonNull(chore.getId())) {
+                // A chore already gone counts as deleted, or it would be
+                // retried for good
+                return repository.delete(chore)
+                        || Objects.isNull(repository.find(chore.getDescription(), chore.getDeadline()));
+            }
+            // Saved by an earlier batch through another copy of the chore
+            Chore stored = repository.find(chore.getDescription(), chore.getDeadline());
+            return Objects.isNull(stored) || repository.delete(stored);
+        } catch (RuntimeException exception) {
+            return false;
+        }
+    }
+
+    private static Chore copyOf(Chore chore) {
+        return new Chore(chore.getId(), chore.getDescription(), chore.getIsCompleted(), chore.getDeadline());
+    }
+
+    private record ChoreKey(String description, LocalDate deadline) {
+        static ChoreKey of(Chore chore) {
+            return new ChoreKey(chore.getDescription(), chore.getDeadline());
+        }
+    }
+
+    private enum Operation {
+        SAVE, UPDATE, DELETE, FLUSH, STOP
+    }
+
+    /**
+     * A change to one chore, with the chore it was made on and a copy of
+     * its state at that time. FLUSH and STOP carry the future to complete
+     * once everything before them is written.
+     */
+    private static final class Write {
+
+        private final Operation operation;
+        private final Chore chore;
+        private final Chore state;
+        private final CompletableFuture<Boolean> done;
+        // Only used by the writer thread
+        private int attempts;
+
+        private Write(Operation operation, Chore chore, Chore state, CompletableFuture<Boolean> done) {
+            this.operation = operation;
+            this.chore = chore;
+            this.state = state;
+            this.done = done;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.edu.unifalmg.Repository.Chores.pool;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of JDBC connections.
+ *
+ * At most {@code maxSize} connections are borrowed at once; further callers
+ * wait up to {@code borrowTimeout}. Idle connections are reused most recently
+ * used first, validated with {@link java.sql.Connection#isValid(int)} when
+ * they sat idle longer than {@code validationInterval}, and closed once they
+ * sat idle longer than {@code idleTimeout}. Eviction happens on borrow, so the
+ * pool needs no background thread.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private final String url;
+    private final ConnectionPoolSettings settings;
+    private final Semaphore permits;
+
+    // Most recently released first. Guarded by itself.
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, ConnectionPoolSettings settings) {
+        if (settings.getMaxSize() < 1) {
+            throw new IllegalArgumentException("The pool size must be at least 1");
+        }
+        this.url = url;
+        this.settings = settings;
+        this.permits = new Semaphore(settings.getMaxSize(), true);
+    }
+
+    /**
+     * Borrow a connection, reusing an idle one when possible.
+     *
+     * @return PooledConnection A connection to be closed after use
+     * @throws SQLTimeoutException When no connection frees up within the borrow timeout
+     * @throws SQLException When a new connection cannot be opened
+     */
+    public PooledConnection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("The connection pool is closed");
+        }
+        acquirePermit();
+        try {
+            PooledConnection connection;
+            while (Objects.nonNull(connection = pollIdle())) {
+                if (isUsable(connection)) {
+                    return connection.reborrow();
+                }
+                connection.discard();
+            }
+            return new PooledConnection(this, DriverManager.getConnection(url));
+        } catch (SQLException | RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    public int idleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        List<PooledConnection> connections;
+        synchronized (idle) {
+            connections = new ArrayList<>(idle);
+            idle.clear();
+        }
+        connections.forEach(PooledConnection::discard);
+    }
+
+    void release(PooledConnection connection) {
+        try {
+            if (closed || connection.isClosed()) {
+                connection.discard();
+                return;
+            }
+            connection.touch();
+            synchronized (idle) {
+                idle.addFirst(connection);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(settings.getBorrowTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SQLTimeoutException("Timed out waiting for a database connection");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", exception);
+        }
+    }
+
+    private PooledConnection pollIdle() {
+        long now = System.nanoTime();
+        long idleTimeout = settings.getIdleTimeout().toNanos();
+        List<PooledConnection> expired = new ArrayList<>();
+        PooledConnection connection;
+        synchronized (idle) {
+            // The oldest connections sit at the tail
+            while (!idle.isEmpty() && idle.peekLast().idleNanos(now) > idleTimeout) {
+                expired.add(idle.pollLast());
+            }
+            connection = idle.pollFirst();
+        }
+        expired.forEach(PooledConnection::discard);
+        return connection;
+    }
+
+    private boolean isUsable(PooledConnection connection) {
+        if (connection.isClosed()) {
+            return false;
+        }
+        if (connection.idleNanos(System.nanoTime()) <= settings.getValidationInterval().toNanos()) {
+            return true;
+        }
+        try {
+            return connection.getConnection().isValid(settings.getValidationTimeoutSeconds());
+        } catch (SQLException exception) {
+            return false;
+        }
+    }
+}
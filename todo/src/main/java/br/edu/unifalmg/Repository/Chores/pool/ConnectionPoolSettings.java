@@ -0,0 +1,34 @@
+package br.edu.unifalmg.Repository.Chores.pool;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+public class ConnectionPoolSettings {
+
+    // Maximum number of connections open at the same time
+    @Builder.Default
+    private int maxSize = 10;
+
+    // How long a caller waits for a free connection before giving up
+    @Builder.Default
+    private Duration borrowTimeout = Duration.ofSeconds(30);
+
+    // Idle connections older than this are closed instead of reused
+    @Builder.Default
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // Idle connections older than this are checked with isValid before reuse
+    @Builder.Default
+    private Duration validationInterval = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private int validationTimeoutSeconds = 2;
+
+    public static ConnectionPoolSettings defaults() {
+        return ConnectionPoolSettings.builder().build();
+    }
+}
@@ -0,0 +1,131 @@
+package br.edu.unifalmg.Repository.Chores.pool;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A connection borrowed from a {@link ConnectionPool}. Closing it hands the
+ * connection back to the pool instead of closing the socket.
+ *
+ * Prepared statements are cached per connection and stay open while the
+ * connection lives in the pool, so callers must not close them.
+ */
+public class PooledConnection implements AutoCloseable {
+
+    private final ConnectionPool pool;
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements;
+    private long lastUsedNanos;
+
+    // Set by the first close, so closing twice releases the permit once
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    PooledConnection(ConnectionPool pool, Connection connection) {
+        this(pool, connection, new HashMap<>());
+    }
+
+    private PooledConnection(ConnectionPool pool, Connection connection, Map<String, PreparedStatement> statements) {
+        this.pool = pool;
+        this.connection = connection;
+        this.statements = statements;
+        this.lastUsedNanos = System.nanoTime();
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public Statement createStatement() throws SQLException {
+        return connection.createStatement();
+    }
+
+    /**
+     * Get the cached prepared statement for the given SQL, preparing it on
+     * first use.
+     *
+     * @param sql The SQL to prepare
+     * @return PreparedStatement The statement, with its parameters cleared
+     */
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return prepareStatement(sql, Statement.NO_GENERATED_KEYS);
+    }
+
+    /**
+     * Same as {@link #prepareStatement(String)}, asking the driver to return
+     * generated keys when {@code autoGeneratedKeys} is
+     * {@link Statement#RETURN_GENERATED_KEYS}.
+     */
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        String key = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? "keys:" + sql : sql;
+        PreparedStatement preparedStatement = statements.get(key);
+        if (Objects.isNull(preparedStatement) || preparedStatement.isClosed()) {
+            preparedStatement = connection.prepareStatement(sql, autoGeneratedKeys);
+            statements.put(key, preparedStatement);
+        } else {
+            preparedStatement.clearParameters();
+            preparedStatement.clearBatch();
+        }
+        return preparedStatement;
+    }
+
+    /**
+     * Hand the connection back to the pool. Only the first call does so;
+     * closing again, even after the connection was borrowed anew, does
+     * nothing.
+     */
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            pool.release(this);
+        }
+    }
+
+    /**
+     * @return PooledConnection A new handle on the same connection and
+     * statements for the next borrower, so a late close of this handle
+     * cannot release it
+     */
+    PooledConnection reborrow() {
+        PooledConnection handle = new PooledConnection(pool, connection, statements);
+        handle.lastUsedNanos = lastUsedNanos;
+        return handle;
+    }
+
+    long idleNanos(long now) {
+        return now - lastUsedNanos;
+    }
+
+    void touch() {
+        lastUsedNanos = System.nanoTime();
+    }
+
+    boolean isClosed() {
+        try {
+            return connection.isClosed();
+        } catch (SQLException exception) {
+            return true;
+        }
+    }
+
+    void discard() {
+        for (PreparedStatement preparedStatement : statements.values()) {
+            try {
+                preparedStatement.close();
+            } catch (SQLException ignored) {
+                // The connection is going away anyway
+            }
+        }
+        statements.clear();
+        try {
+            connection.close();
+        } catch (SQLException exception) {
+            System.out.println("Error when closing database connections.");
+        }
+    }
+}
@@ -1,24 +1,33 @@
 package br.edu.unifalmg;
 
 import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.Repository.Chores.impl.CachingChoreRepository;
 import br.edu.unifalmg.Repository.Chores.impl.JsonChoreRepository;
 import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
 import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import br.edu.unifalmg.server.ChoreHttpServer;
 import br.edu.unifalmg.service.ChoreService;
 
+import java.io.IOException;
 import java.time.LocalDate;
 
 public class TodoApplication {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("serve")) {
+            serve(args.length > 1 ? Integer.parseInt(args[1]) : 8080);
+            return;
+        }
 //        ChoreRepository repository = new FileChoreRepository();
+//        ChoresRepository repository = new CachingChoreRepository(new MySQLChoreRepository(), 10_000);
         ChoresRepository repository = new MySQLChoreRepository();
         ChoreService service = new ChoreService(repository);
         service.loadChores();
 //        service.addChore("Testing write on database feature", LocalDate.now());
         Chore chore = service.getChores().get(0);
         System.out.println(chore.getDescription());
-        service.editChore(chore, "NOVA DESC", LocalDate.now().plusDays(4));
+        chore = service.editChore(chore, "NOVA DESC", LocalDate.now().plusDays(4));
         service.updateChore(chore);
 //        service.addChore("Chore #02", LocalDate.now().plusDays(8));
 //        service.toggleChore("Chore #03", LocalDate.now().plusDays(1));
@@ -27,4 +36,22 @@ public class TodoApplication {
 //        service.saveChores();
     }
 
+    /**
+     * Serve the chores over HTTP until the process is stopped.
+     *
+     * @param port The port to listen on
+     */
+    private static void serve(int port) throws IOException {
+        ChoresRepository repository = new MySQLChoreRepository();
+        ChoreService service = new ChoreService(repository, ChoreStoreMode.CONCURRENT);
+        service.loadChores();
+        ChoreHttpServer server = new ChoreHttpServer(service, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            service.close();
+        }));
+        server.start();
+        System.out.println("Serving the chores on port " + server.getPort());
+    }
+
 }
@@ -0,0 +1,43 @@
+package br.edu.unifalmg.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The outcome of a bulk operation of a
+ * {@link br.edu.unifalmg.service.ChoreService}: the chores it was applied
+ * to, the chores it was not applied to and why, and whether the changes
+ * reached the repository.
+ */
+@Getter
+@AllArgsConstructor
+public class ChoreBatchResult {
+
+    private final List<Chore> applied;
+    private final List<Failure> failures;
+    private final boolean persisted;
+
+    /**
+     * @return boolean True when every chore was applied and persisted
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty() && persisted;
+    }
+
+    /**
+     * A chore of the batch that was left out, with the exception the single
+     * operation would have thrown for it.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+
+        private final String description;
+        private final LocalDate deadline;
+        private final RuntimeException error;
+
+    }
+}
@@ -0,0 +1,28 @@
+package br.edu.unifalmg.domain;
+
+import br.edu.unifalmg.enumerator.ChoreCommand;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * One command for a {@link br.edu.unifalmg.service.ChoreService}. The chore
+ * is named by its description and deadline; EDIT also takes the new ones
+ * and FILTER only the filter.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChoreRequest {
+
+    private ChoreCommand command;
+    private String description;
+    private LocalDate deadline;
+    private String newDescription;
+    private LocalDate newDeadline;
+    private ChoreFilter filter;
+
+}
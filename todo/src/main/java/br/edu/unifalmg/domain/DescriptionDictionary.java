@@ -0,0 +1,72 @@
+package br.edu.unifalmg.domain;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Shares one String instance per distinct chore description.
+ *
+ * Chores are mostly recurring tasks, so the same descriptions come back for
+ * every deadline. Loaders and ChoreService pass descriptions through a
+ * dictionary, so equal descriptions end up as the same instance: they are
+ * stored once, and String.equals on them returns on its first reference
+ * check. Each repository and service has its own dictionary unless they
+ * are given the same one.
+ *
+ * Entries are weak: a description is dropped once no chore uses it any
+ * more, so the dictionary never keeps descriptions alive on its own. It
+ * also stops growing once it holds maxSize descriptions; later new
+ * descriptions are returned as they are. Thread-safe.
+ */
+public final class DescriptionDictionary {
+
+    public static final int DEFAULT_MAX_SIZE = 100_000;
+
+    // Both the key and the value are the shared instance. The value is weak
+    // too, otherwise it would keep its own key alive.
+    private final Map<String, WeakReference<String>> descriptions = new WeakHashMap<>();
+    private final int maxSize;
+
+    public DescriptionDictionary() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize How many distinct descriptions to keep at most. Zero
+     *                turns the dictionary off.
+     */
+    public DescriptionDictionary(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param description The description to share
+     * @return String The shared instance equal to the description, or the
+     * description itself when it is new and the dictionary is full
+     */
+    public synchronized String intern(String description) {
+        if (Objects.isNull(description)) {
+            return null;
+        }
+        WeakReference<String> entry = descriptions.get(description);
+        String shared = Objects.isNull(entry) ? null : entry.get();
+        if (Objects.nonNull(shared)) {
+            return shared;
+        }
+        if (descriptions.size() >= maxSize) {
+            return description;
+        }
+        descriptions.put(description, new WeakReference<>(description));
+        return description;
+    }
+
+    public synchronized int size() {
+        return descriptions.size();
+    }
+
+    public synchronized void clear() {
+        descriptions.clear();
+    }
+}
@@ -0,0 +1,21 @@
+package br.edu.unifalmg.enumerator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public enum ChoreCommand {
+
+    ADD(1L, "Add a new chore"),
+    TOGGLE(2L, "Toggle a chore between completed and uncompleted"),
+    EDIT(3L, "Change the description and deadline of a chore"),
+    DELETE(4L, "Delete a chore"),
+    FILTER(5L, "List the chores matching a filter");
+
+    private Long identifier;
+    private String description;
+
+}
@@ -0,0 +1,18 @@
+package br.edu.unifalmg.enumerator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public enum ChoreSharding {
+
+    DEADLINE_MONTH(1L, "One file per deadline month"),
+    DESCRIPTION_HASH(2L, "A fixed number of files, picked by the hash of the description");
+
+    private Long identifier;
+    private String description;
+
+}
@@ -0,0 +1,21 @@
+package br.edu.unifalmg.enumerator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public enum ChoreStoreMode {
+
+    DEFAULT(1L, "Single-threaded list, getChores returns the live list"),
+    CONCURRENT(2L, "Thread-safe store with striped locks, reads never block"),
+    COPY_ON_WRITE(3L, "Thread-safe immutable snapshots, for mostly read workloads"),
+    COLUMNAR(4L, "Single-threaded primitive columns, for millions of chores"),
+    LAZY(5L, "Single-threaded pages read on demand, every change written through");
+
+    private Long identifier;
+    private String description;
+
+}
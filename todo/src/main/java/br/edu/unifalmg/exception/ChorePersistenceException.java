@@ -0,0 +1,12 @@
+package br.edu.unifalmg.exception;
+
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+public class ChorePersistenceException extends RuntimeException {
+
+    public ChorePersistenceException(String message) {
+        super(message);
+    }
+
+}
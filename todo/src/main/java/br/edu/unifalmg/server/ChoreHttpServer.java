@@ -0,0 +1,273 @@
+package br.edu.unifalmg.server;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.ChoreRequest;
+import br.edu.unifalmg.enumerator.ChoreCommand;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import br.edu.unifalmg.exception.*;
+import br.edu.unifalmg.service.ChoreRequestExecutor;
+import br.edu.unifalmg.service.ChoreService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A small HTTP/JSON front end for a {@link ChoreService}, on the JDK's
+ * built-in server. Every exchange runs on a {@link ChoreRequestExecutor}
+ * thread, within its concurrency limit.
+ *
+ * <pre>
+ * GET    /chores?filter=COMPLETED                 The chores, ALL by default
+ * POST   /chores         {description, deadline}  Add a chore
+ * POST   /chores/toggle  {description, deadline}  Toggle a chore
+ * PUT    /chores         {description, deadline,
+ *                         newDescription, newDeadline}  Edit a chore
+ * DELETE /chores?description=...&amp;deadline=...     Delete a chore
+ * </pre>
+ *
+ * Deadlines are ISO dates, e.g. 2030-01-10. Lists are written to the
+ * connection one chore at a time as they are serialized, and carry an ETag
+ * made of an epoch drawn when the server is created and
+ * {@link ChoreService#getVersion()}; a GET with a matching If-None-Match
+ * gets a 304 without reading the chores at all. The version starts over
+ * with every service, so without the epoch a client could keep a stale
+ * list across a restart.
+ *
+ * Requests the service rejects get a 4xx with the reason; any other
+ * failure, e.g. a repository that cannot write, gets a 500. The service
+ * must be in a thread-safe mode, CONCURRENT or COPY_ON_WRITE.
+ */
+public class ChoreHttpServer implements AutoCloseable {
+
+    private static final String JSON = "application/json; charset=utf-8";
+
+    private final ChoreService service;
+    private final ChoreRequestExecutor requests;
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    private final JsonFactory factory = mapper.getFactory();
+    private final HttpServer server;
+    private final String epoch = UUID.randomUUID().toString();
+
+    public ChoreHttpServer(ChoreService service, int port) throws IOException {
+        this(service, new InetSocketAddress(port), ChoreRequestExecutor.DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * @param service The service the requests run against
+     * @param address Where to listen. Port 0 picks a free port.
+     * @param maxConcurrentRequests How many exchanges may run at the same time
+     * @throws IllegalArgumentException When the service is not in a
+     * thread-safe mode
+     */
+    public ChoreHttpServer(ChoreService service, InetSocketAddress address, int maxConcurrentRequests) throws IOException {
+        if (service.getMode() != ChoreStoreMode.CONCURRENT && service.getMode() != ChoreStoreMode.COPY_ON_WRITE) {
+            throw new IllegalArgumentException("The chore service must be in the CONCURRENT or COPY_ON_WRITE mode");
+        }
+        this.service = service;
+        this.requests = new ChoreRequestExecutor(service, maxConcurrentRequests);
+        this.server = HttpServer.create(address, 0);
+        server.createContext("/chores", this::handle);
+        server.setExecutor(requests::run);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * @return int The port the server listens on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stop listening, give the exchanges in progress a second to finish and
+     * wait for their requests. The service is left open.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        requests.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (InvalidDescriptionException | InvalidDeadlineException | ToggleChoreWithInvalidDeadlineException
+                 | JsonProcessingException | DateTimeException | IllegalArgumentException exception) {
+            sendError(exchange, 400, exception.getMessage());
+        } catch (ChoreNotFoundException | EmptyChoreListException exception) {
+            sendError(exchange, 404, exception.getMessage());
+        } catch (DuplicatedChoreException exception) {
+            sendError(exchange, 409, exception.getMessage());
+        } catch (RuntimeException exception) {
+            System.out.println("ERROR: Unable to handle the request: " + exception.getMessage());
+            // A list that failed halfway has already sent its status
+            if (exchange.getResponseCode() == -1) {
+                sendError(exchange, 500, "Unable to handle the request");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        if (path.equals("/chores/toggle") && method.equals("POST")) {
+            sendChore(exchange, 200, execute(ChoreCommand.TOGGLE, readBody(exchange)));
+            return;
+        }
+        if (!path.equals("/chores")) {
+            sendError(exchange, 404, "No such resource");
+            return;
+        }
+        switch (method) {
+            case "GET":
+                list(exchange);
+                break;
+            case "POST":
+                sendChore(exchange, 201, execute(ChoreCommand.ADD, readBody(exchange)));
+                break;
+            case "PUT":
+                sendChore(exchange, 200, execute(ChoreCommand.EDIT, readBody(exchange)));
+                break;
+            case "DELETE": {
+                Map<String, String> query = readQuery(exchange);
+                ChoreRequest request = ChoreRequest.builder()
+                        .description(query.get("description"))
+                        .deadline(Objects.isNull(query.get("deadline")) ? null : LocalDate.parse(query.get("deadline")))
+                        .build();
+                execute(ChoreCommand.DELETE, request);
+                exchange.sendResponseHeaders(204, -1);
+                break;
+            }
+            default:
+                exchange.getResponseHeaders().set("Allow", "GET, POST, PUT, DELETE");
+                sendError(exchange, 405, "Method not allowed");
+        }
+    }
+
+    private void list(HttpExchange exchange) throws IOException {
+        String filter = readQuery(exchange).getOrDefault("filter", ChoreFilter.ALL.name());
+        ChoreRequest request = ChoreRequest.builder()
+                .command(ChoreCommand.FILTER)
+                .filter(ChoreFilter.valueOf(filter.toUpperCase(Locale.ROOT)))
+                .build();
+        // Taken before the chores are read, so a change made meanwhile is
+        // sent again on the next request rather than missed
+        String etag = "\"" + epoch + "-" + service.getVersion() + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        List<Chore> chores = requests.execute(request);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        // Length 0 sends the body chunked, as the generator fills its buffer
+        exchange.sendResponseHeaders(200, 0);
+        try (JsonGenerator generator = factory.createGenerator(exchange.getResponseBody())) {
+            generator.writeStartArray();
+            for (Chore chore : chores) {
+                writeChore(generator, chore);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private List<Chore> execute(ChoreCommand command, ChoreRequest request) {
+        request.setCommand(command);
+        return requests.execute(request);
+    }
+
+    // A toggled or edited chore may have been deleted by a concurrent request
+    private void sendChore(HttpExchange exchange, int status, List<Chore> chores) throws IOException {
+        if (chores.isEmpty()) {
+            sendError(exchange, 404, "The given chore does not exist.");
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, 0);
+        try (JsonGenerator generator = factory.createGenerator(exchange.getResponseBody())) {
+            writeChore(generator, chores.get(0));
+        }
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, 0);
+        try (JsonGenerator generator = factory.createGenerator(exchange.getResponseBody())) {
+            generator.writeStartObject();
+            generator.writeStringField("error", Objects.requireNonNullElse(message, ""));
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeChore(JsonGenerator generator, Chore chore) throws IOException {
+        generator.writeStartObject();
+        if (Objects.isNull(chore.getId())) {
+            generator.writeNullField("id");
+        } else {
+            generator.writeNumberField("id", chore.getId());
+        }
+        generator.writeStringField("description", chore.getDescription());
+        generator.writeBooleanField("isCompleted", Boolean.TRUE.equals(chore.getIsCompleted()));
+        generator.writeStringField("deadline", chore.getDeadline().toString());
+        generator.writeEndObject();
+    }
+
+    private ChoreRequest readBody(HttpExchange exchange) throws IOException {
+        ChoreRequest request = mapper.readValue(exchange.getRequestBody(), ChoreRequest.class);
+        if (Objects.isNull(request)) {
+            throw new IllegalArgumentException("The request body cannot be empty");
+        }
+        return request;
+    }
+
+    private static Map<String, String> readQuery(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (Objects.isNull(query)) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0) {
+                parameters.put(URLDecoder.decode(parameter.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (Objects.isNull(ifNoneMatch)) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
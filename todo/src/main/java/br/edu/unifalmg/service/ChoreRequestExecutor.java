@@ -0,0 +1,157 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.ChoreRequest;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import br.edu.unifalmg.exception.ChorePersistenceException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link ChoreRequest}s against a shared {@link ChoreService}, each on
+ * its own thread, at most maxConcurrentRequests at a time. Requests over
+ * the limit wait for a free slot in the order they arrived.
+ *
+ * Every request gets a virtual thread, so requests blocked on the
+ * repository, or waiting for a slot or a pooled connection, hold no
+ * platform thread.
+ *
+ * Changes are persisted as they are made: adds by the service itself,
+ * toggles and edits with updateChore and deletes with the repository's
+ * delete, while the store still holds the chore's key. Two requests on the
+ * same chore thus cannot persist out of order, and a failed update or
+ * delete leaves the chore as it was and fails the request. The service
+ * must be in a thread-safe mode, CONCURRENT or COPY_ON_WRITE.
+ */
+public class ChoreRequestExecutor implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 256;
+
+    private final ChoreService service;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public ChoreRequestExecutor(ChoreService service) {
+        this(service, DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    public ChoreRequestExecutor(ChoreService service, int maxConcurrentRequests) {
+        this(service, maxConcurrentRequests, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * @param service The service the requests run against
+     * @param maxConcurrentRequests How many requests may run at the same time
+     * @param executor Where the requests run. Closed with this executor.
+     * @throws IllegalArgumentException When the service is not in a
+     * thread-safe mode
+     */
+    public ChoreRequestExecutor(ChoreService service, int maxConcurrentRequests, ExecutorService executor) {
+        if (service.getMode() != ChoreStoreMode.CONCURRENT && service.getMode() != ChoreStoreMode.COPY_ON_WRITE) {
+            executor.shutdown();
+            throw new IllegalArgumentException("The chore service must be in the CONCURRENT or COPY_ON_WRITE mode");
+        }
+        this.service = service;
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+    }
+
+    /**
+     * @return CompletableFuture<List<Chore>> Completed with the chores the
+     * request returns, or with the exception the service threw
+     */
+    public CompletableFuture<List<Chore>> submit(ChoreRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+            acquire();
+            try {
+                return execute(request);
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Run a task on a request thread, within the concurrency limit, e.g. a
+     * whole network exchange that ends up calling execute.
+     *
+     * @param task The task to run
+     */
+    public void run(Runnable task) {
+        executor.execute(() -> {
+            acquire();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Run the request on the calling thread, outside the concurrency limit.
+     *
+     * @return List<Chore> The added, toggled or edited chore, or the chores
+     * matching the filter. Empty for deletes.
+     */
+    public List<Chore> execute(ChoreRequest request) {
+        switch (request.getCommand()) {
+            case ADD:
+                return List.of(service.addChore(request.getDescription(), request.getDeadline()));
+            case TOGGLE:
+                return List.of(service.toggleChore(request.getDescription(), request.getDeadline(), this::persist));
+            case EDIT:
+                return List.of(service.editChore(service.findChore(request.getDescription(), request.getDeadline()),
+                        request.getNewDescription(), request.getNewDeadline(), this::persist));
+            case DELETE:
+                service.deleteChore(request.getDescription(), request.getDeadline(), this::persistDelete);
+                return List.of();
+            case FILTER:
+            default:
+                return service.filterChores(Objects.requireNonNullElse(request.getFilter(), ChoreFilter.ALL));
+        }
+    }
+
+    /**
+     * Stop taking requests and wait for those already submitted.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                System.out.println("ERROR: Some chore requests did not finish in time.");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acquire() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to run the request", exception);
+        }
+    }
+
+    private void persist(Chore chore) {
+        if (!service.updateChore(chore)) {
+            throw new ChorePersistenceException("Unable to update the chore on the repository");
+        }
+    }
+
+    private void persistDelete(Chore chore) {
+        if (!service.deleteStoredChore(chore)) {
+            throw new ChorePersistenceException("Unable to delete the chore from the repository");
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Inverted index from the words of the chore descriptions to the chores.
+ *
+ * Descriptions are split into words of letters and digits, lower-cased and
+ * stripped of accents, so "Gestão" and "gestao" are the same word. Words
+ * point to descriptions, not to chores: recurring chores share a
+ * description, so a word is indexed once however many deadlines use it.
+ * Each description keeps its deadlines, and chores are read from the store
+ * only for the results, so a search always returns the current chores.
+ *
+ * Every word of a query must match a word of the description, either
+ * entirely or as its prefix. A search reads the descriptions under the
+ * query word that matches the fewest of them, in rank order, and stops
+ * once it has enough chores that nothing later can outrank. So it costs
+ * O(log w) plus the descriptions read, which is small for specific
+ * queries and for small limits.
+ *
+ * The concurrent variant can be changed and searched from many threads.
+ * Changes to one description are applied atomically; a search running
+ * meanwhile may miss a chore being added, and skips chores the store no
+ * longer has. Writers report their store changes through {@link #added}
+ * and {@link #removed}, which read the store again under a per-key lock,
+ * so when writers race on one key the index ends up agreeing with the
+ * store whatever order their steps ran in.
+ */
+final class ChoreSearchIndex {
+
+    // Stands in for a missing deadline, since the sorted sets reject null
+    private static final LocalDate NO_DEADLINE = LocalDate.MIN;
+
+    // Rank of descriptions matching equally well: fewer words first
+    private static final Comparator<Entry> RANK = Comparator.<Entry>comparingInt(entry -> entry.words.length)
+            .thenComparing(entry -> entry.description);
+
+    private static final int STRIPES = 64;
+
+    private final boolean concurrent;
+    private final NavigableMap<String, Posting> words;
+    private final Map<String, Entry> descriptions;
+
+    // Concurrent variant only. Key locks are taken around a store read and
+    // the index change it leads to, word locks around a posting change and
+    // its pruning. Word locks are always taken last.
+    private final Object[] keyLocks;
+    private final Object[] wordLocks;
+
+    ChoreSearchIndex(boolean concurrent) {
+        this.concurrent = concurrent;
+        this.words = concurrent ? new ConcurrentSkipListMap<>() : new TreeMap<>();
+        this.descriptions = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+        this.keyLocks = concurrent ? newLocks() : null;
+        this.wordLocks = concurrent ? newLocks() : null;
+    }
+
+    ChoreSearchIndex(boolean concurrent, List<Chore> chores) {
+        this(concurrent);
+        chores.forEach(chore -> add(chore.getDescription(), chore.getDeadline()));
+    }
+
+    void add(String description, LocalDate deadline) {
+        if (Objects.isNull(description)) {
+            return;
+        }
+        descriptions.compute(description, (key, entry) -> {
+            if (Objects.isNull(entry)) {
+                entry = new Entry(key, tokenize(key), concurrent ? new ConcurrentSkipListSet<>() : new TreeSet<>());
+                for (String word : entry.words) {
+                    index(word, entry);
+                }
+            }
+            entry.deadlines.add(Objects.requireNonNullElse(deadline, NO_DEADLINE));
+            return entry;
+        });
+    }
+
+    void remove(String description, LocalDate deadline) {
+        if (Objects.isNull(description)) {
+            return;
+        }
+        descriptions.computeIfPresent(description, (key, entry) -> {
+            entry.deadlines.remove(Objects.requireNonNullElse(deadline, NO_DEADLINE));
+            if (!entry.deadlines.isEmpty()) {
+                return entry;
+            }
+            for (String word : entry.words) {
+                unindex(word, entry);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Index a chore the store has just added. In the concurrent variant the
+     * store is read again, and the chore is dropped instead when a racing
+     * delete already removed it.
+     */
+    void added(String description, LocalDate deadline, ChoreStore chores) {
+        if (concurrent) {
+            sync(description, deadline, chores);
+        } else {
+            add(description, deadline);
+        }
+    }
+
+    /**
+     * Drop a chore the store has just removed. In the concurrent variant the
+     * store is read again, and the chore is kept instead when a racing add
+     * already stored it again.
+     */
+    void removed(String description, LocalDate deadline, ChoreStore chores) {
+        if (concurrent) {
+            sync(description, deadline, chores);
+        } else {
+            remove(description, deadline);
+        }
+    }
+
+    // Make the index agree with the store for one key. The last writer to
+    // get here sees the last store change to the key.
+    private void sync(String description, LocalDate deadline, ChoreStore chores) {
+        if (Objects.isNull(description)) {
+            return;
+        }
+        synchronized (keyLocks[stripe(Objects.hash(description, deadline))]) {
+            if (Objects.nonNull(chores.find(description, deadline))) {
+                add(description, deadline);
+            } else {
+                remove(description, deadline);
+            }
+        }
+    }
+
+    private void index(String word, Entry entry) {
+        if (!concurrent) {
+            words.computeIfAbsent(word, ignored -> new Posting(false)).add(entry);
+            return;
+        }
+        synchronized (wordLocks[stripe(word.hashCode())]) {
+            words.computeIfAbsent(word, ignored -> new Posting(true)).add(entry);
+        }
+    }
+
+    // Drops the word once no description uses it. In the concurrent variant
+    // the word lock keeps an add from filling a posting being dropped.
+    private void unindex(String word, Entry entry) {
+        if (!concurrent) {
+            Posting posting = words.get(word);
+            posting.remove(entry);
+            if (posting.size.get() == 0) {
+                words.remove(word);
+            }
+            return;
+        }
+        synchronized (wordLocks[stripe(word.hashCode())]) {
+            Posting posting = words.get(word);
+            posting.remove(entry);
+            if (posting.size.get() == 0) {
+                words.remove(word, posting);
+            }
+        }
+    }
+
+    /**
+     * @param query The words to look for
+     * @param limit The maximum number of chores to return
+     * @param chores Where the chores found are read from
+     * @return List<Chore> The matching chores, best match first. Whole word
+     * matches rank above prefix matches, then shorter descriptions come
+     * first; chores with the same description are sorted by deadline.
+     */
+    List<Chore> search(String query, int limit, ChoreStore chores) {
+        String[] queryWords = Objects.isNull(query) ? new String[0] : tokenize(query);
+        if (queryWords.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        // Candidates come in rank order, so the chores of those with the
+        // best possible score go straight to the results, and once there are
+        // enough of them no later candidate can make it
+        int bestScore = 2 * queryWords.length;
+        List<Chore> result = new ArrayList<>();
+        List<Match> others = new ArrayList<>();
+        Iterator<Entry> candidates = candidates(queryWords);
+        while (candidates.hasNext() && result.size() < limit) {
+            Entry entry = candidates.next();
+            int score = entry.score(queryWords);
+            if (score == bestScore) {
+                collect(entry, limit, chores, result);
+            } else if (score > 0) {
+                others.add(new Match(entry, score));
+            }
+        }
+        // Stable, so equal scores keep the rank order
+        others.sort(Comparator.comparingInt(Match::score).reversed());
+        for (Match match : others) {
+            if (result.size() == limit) {
+                break;
+            }
+            collect(match.entry(), limit, chores, result);
+        }
+        return result;
+    }
+
+    // Add the stored chores of the description, up to the limit
+    private static void collect(Entry entry, int limit, ChoreStore chores, List<Chore> result) {
+        for (LocalDate deadline : entry.deadlines) {
+            if (result.size() == limit) {
+                return;
+            }
+            Chore chore = chores.find(entry.description, deadline == NO_DEADLINE ? null : deadline);
+            if (Objects.nonNull(chore)) {
+                result.add(chore);
+            }
+        }
+    }
+
+    int wordCount() {
+        return words.size();
+    }
+
+    /**
+     * Split the text into lower-case words of letters and digits, without
+     * accents and without repeats.
+     */
+    static String[] tokenize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        Set<String> result = new LinkedHashSet<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < decomposed.length(); i++) {
+            char character = decomposed.charAt(i);
+            if (Character.getType(character) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(character)) {
+                word.append(Character.toLowerCase(character));
+            } else if (word.length() > 0) {
+                result.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            result.add(word.toString());
+        }
+        return result.toArray(new String[0]);
+    }
+
+    // The descriptions under the query word that matches the fewest of
+    // them, in rank order and without repeats
+    private Iterator<Entry> candidates(String[] queryWords) {
+        Collection<Posting> fewest = null;
+        long fewestCount = Long.MAX_VALUE;
+        for (String queryWord : queryWords) {
+            Collection<Posting> postings = prefixedBy(queryWord).values();
+            long count = 0;
+            for (Posting posting : postings) {
+                count += posting.size.get();
+                if (count >= fewestCount) {
+                    break;
+                }
+            }
+            if (count < fewestCount) {
+                fewest = postings;
+                fewestCount = count;
+            }
+        }
+        if (fewest.size() == 1) {
+            return fewest.iterator().next().entries.iterator();
+        }
+        return new MergingIterator(fewest);
+    }
+
+    private NavigableMap<String, Posting> prefixedBy(String prefix) {
+        return words.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private static Object[] newLocks() {
+        Object[] locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private static int stripe(int hash) {
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    /**
+     * The descriptions holding one word, in rank order. The size is kept
+     * apart since concurrent sets count their elements one by one.
+     */
+    private static final class Posting {
+
+        private final NavigableSet<Entry> entries;
+        private final AtomicInteger size = new AtomicInteger();
+
+        private Posting(boolean concurrent) {
+            entries = concurrent ? new ConcurrentSkipListSet<>(RANK) : new TreeSet<>(RANK);
+        }
+
+        private void add(Entry entry) {
+            if (entries.add(entry)) {
+                size.incrementAndGet();
+            }
+        }
+
+        private void remove(Entry entry) {
+            if (entries.remove(entry)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final String description;
+        private final String[] words;
+        private final NavigableSet<LocalDate> deadlines;
+
+        private Entry(String description, String[] words, NavigableSet<LocalDate> deadlines) {
+            this.description = description;
+            this.words = words;
+            this.deadlines = deadlines;
+        }
+
+        // Two points per query word matching a whole word, one per query
+        // word matching a prefix, zero when some query word has no match
+        private int score(String[] queryWords) {
+            int score = 0;
+            for (String queryWord : queryWords) {
+                int best = 0;
+                for (String word : words) {
+                    if (word.equals(queryWord)) {
+                        best = 2;
+                        break;
+                    }
+                    if (word.startsWith(queryWord)) {
+                        best = 1;
+                    }
+                }
+                if (best == 0) {
+                    return 0;
+                }
+                score += best;
+            }
+            return score;
+        }
+    }
+
+    /**
+     * Merges postings sorted by rank. A description holding several of the
+     * words comes out of each of them, and is returned once: only entries
+     * ranked after the last one returned are let through, which also holds
+     * when concurrent changes make a posting iterator skip ahead or behind.
+     */
+    private static final class MergingIterator implements Iterator<Entry> {
+
+        private final PriorityQueue<Head> heads = new PriorityQueue<>((first, second) ->
+                RANK.compare(first.entry, second.entry));
+        private Entry last;
+        private Entry next;
+
+        private MergingIterator(Collection<Posting> postings) {
+            for (Posting posting : postings) {
+                Iterator<Entry> entries = posting.entries.iterator();
+                if (entries.hasNext()) {
+                    heads.add(new Head(entries.next(), entries));
+                }
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return Objects.nonNull(next);
+        }
+
+        @Override
+        public Entry next() {
+            Entry result = next;
+            last = result;
+            advance();
+            return result;
+        }
+
+        private void advance() {
+            next = null;
+            while (Objects.isNull(next) && !heads.isEmpty()) {
+                Head head = heads.poll();
+                if (Objects.isNull(last) || RANK.compare(head.entry, last) > 0) {
+                    next = head.entry;
+                }
+                if (head.rest.hasNext()) {
+                    heads.add(new Head(head.rest.next(), head.rest));
+                }
+            }
+        }
+
+        private record Head(Entry entry, Iterator<Entry> rest) {
+        }
+    }
+
+    private record Match(Entry entry, int score) {
+    }
+}
@@ -2,29 +2,59 @@ package br.edu.unifalmg.service;
 
 import br.edu.unifalmg.Repository.Chores.ChoresRepository;
 import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.ChoreBatchResult;
+import br.edu.unifalmg.domain.DescriptionDictionary;
 import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
 import br.edu.unifalmg.exception.*;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-public class ChoreService {
+public class ChoreService implements AutoCloseable {
 
     private ChoresRepository repository;
-    private List<Chore> chores;
+    private final ChoreStoreMode mode;
+    private ChoreStore chores;
+    private ChoreSearchIndex searchIndex;
+    private DescriptionDictionary dictionary = new DescriptionDictionary();
+    // Bumped on every change made through the service
+    private final AtomicLong version = new AtomicLong();
 
     public ChoreService(ChoresRepository repository) {
-        chores = new ArrayList<>();
+        this(repository, ChoreStoreMode.DEFAULT);
+    }
+
+    /**
+     * @param repository The repository to load and save the chores
+     * @param mode How the chores are kept in memory. In CONCURRENT and
+     *             COPY_ON_WRITE modes the service can be shared between
+     *             threads, and getChores and filterChores return immutable
+     *             snapshots. In COLUMNAR mode the chores returned are
+     *             copies, built when they are read. In LAZY mode the
+     *             chores are read from the repository as they are used,
+     *             getChores returns a read-only view, and every change is
+     *             written to the repository at once.
+     */
+    public ChoreService(ChoresRepository repository, ChoreStoreMode mode) {
         this.repository = repository;
+        this.mode = Objects.requireNonNullElse(mode, ChoreStoreMode.DEFAULT);
+        this.chores = newStore(List.of());
+        this.searchIndex = newSearchIndex(List.of());
     }
 
     public ChoreService(){
-        chores = new ArrayList<>();
+        this(null);
     }
 
     /**
@@ -44,11 +74,11 @@ public class ChoreService {
         if (Objects.isNull(deadline) || deadline.isBefore(LocalDate.now())) {
             throw new InvalidDeadlineException("The deadline cannot be null or before the current date");
         }
-        for (Chore chore : chores) {
-            if (chore.getDescription().equals(description)
-                    && chore.getDeadline().isEqual(deadline)) {
-                throw new DuplicatedChoreException("The given chore already exists.");
-            }
+        // Look the key up with the shared instance, so equal descriptions
+        // compare by reference first
+        description = dictionary.intern(description);
+        if (Objects.nonNull(chores.find(description, deadline))) {
+            throw new DuplicatedChoreException("The given chore already exists.");
         }
 
 //         Using anyMatch solution
@@ -77,18 +107,42 @@ public class ChoreService {
 //         chore.setDeadline(deadline);
 //         chore.setIsCompleted(Boolean.FALSE);
 
-        repository.save(chore);
-        chores.add(chore);
+        // Claim the key first, so two threads adding the same chore cannot
+        // both save it
+        if (!chores.addIfAbsent(chore)) {
+            throw new DuplicatedChoreException("The given chore already exists.");
+        }
+        try {
+            repository.save(chore);
+        } catch (RuntimeException exception) {
+            chores.remove(description, deadline);
+            throw exception;
+        }
+        if (Objects.nonNull(searchIndex)) {
+            searchIndex.added(chore.getDescription(), deadline, chores);
+        }
+        if (chores.copiesOnRead()) {
+            storeIds(List.of(chore));
+        }
+        version.incrementAndGet();
         return chore;
     }
 
+    /**
+     * @return Chore The chore with the given description and deadline, or
+     * null when there is none
+     */
+    public Chore findChore(String description, LocalDate deadline) {
+        return this.chores.find(description, deadline);
+    }
+
     /**
      * Get the added chores.
      *
      * @return List<Chore> The chores added until now.
      */
     public List<Chore> getChores() {
-        return this.chores;
+        return this.chores.list();
     }
 
     /**
@@ -98,17 +152,28 @@ public class ChoreService {
      * @param deadline The deadline of the chore
      */
     public void deleteChore(String description, LocalDate deadline) {
+        Chore removed = deleteChore(description, deadline, chore -> { });
+        // A write-behind repository may still have its save queued, so it
+        // gets the delete even without an id
+        if (!chores.writesThrough() && Objects.nonNull(repository) && repository.writesBehind()) {
+            repository.delete(removed);
+        }
+    }
+
+    // Like toggleChore, persist gets the chore before it is removed
+    Chore deleteChore(String description, LocalDate deadline, Consumer<Chore> persist) {
         if (isChoreListEmpty.test(this.chores)) {
             throw new EmptyChoreListException("Unable to remove a chore from an empty list");
         }
-        boolean isChoreExist = this.chores.stream().anyMatch((chore -> chore.getDescription().equals(description)
-            && chore.getDeadline().isEqual(deadline)));
-        if (!isChoreExist) {
+        Chore removed = this.chores.remove(description, deadline, persist);
+        if (Objects.isNull(removed)) {
             throw new ChoreNotFoundException("The given chore does not exist.");
         }
-
-        this.chores = this.chores.stream().filter(chore -> !chore.getDescription().equals(description)
-                && !chore.getDeadline().isEqual(deadline)).collect(Collectors.toList());
+        if (Objects.nonNull(searchIndex)) {
+            searchIndex.removed(description, deadline, chores);
+        }
+        version.incrementAndGet();
+        return removed;
     }
 
     /**
@@ -118,35 +183,125 @@ public class ChoreService {
      * @param description The chore's description
      * @param deadline The deadline to complete the chore
      * @throws ChoreNotFoundException When the chore is not found on the list
+     * @throws ChorePersistenceException In LAZY mode, when the repository
+     * cannot write the change
      */
     public void toggleChore(String description, LocalDate deadline) {
-        boolean isChoreExist = this.chores.stream().anyMatch((chore) -> chore.getDescription().equals(description) && chore.getDeadline().isEqual(deadline));
-        if (!isChoreExist) {
-            throw new ChoreNotFoundException("Chore not found. Impossible to toggle!");
-        }
+        toggleChore(description, deadline, toggled -> { });
+    }
 
-        this.chores = this.chores.stream().map(chore -> {
-            if (!chore.getDescription().equals(description) && !chore.getDeadline().isEqual(deadline)) {
-                return chore;
-            }
-            if (chore.getDeadline().isBefore(LocalDate.now())
-                    && chore.getIsCompleted()) {
+    // persist gets the toggled chore while the store still holds its key,
+    // and a persist that throws leaves the chore as it was
+    Chore toggleChore(String description, LocalDate deadline, Consumer<Chore> persist) {
+        Chore chore = this.chores.update(description, deadline, toggled -> {
+            if (toggled.getDeadline().isBefore(LocalDate.now())
+                    && toggled.getIsCompleted()) {
                 throw new ToggleChoreWithInvalidDeadlineException("Unable to toggle a completed chore with a past deadline");
             }
-            chore.setIsCompleted(!chore.getIsCompleted());
-            return chore;
-        }).collect(Collectors.toList());
+            toggled.setIsCompleted(!toggled.getIsCompleted());
+            persist.accept(toggled);
+        });
+        if (Objects.isNull(chore)) {
+            throw new ChoreNotFoundException("Chore not found. Impossible to toggle!");
+        }
+        version.incrementAndGet();
+        return chore;
     }
 
+    /**
+     * Filter the chores by completion. The result is kept up to date by the
+     * service, so this does not scan the chores.
+     *
+     * @param filter The filter to apply
+     * @return List<Chore> The matching chores. In DEFAULT mode this is a
+     * read-only view that follows later changes, in the other modes an
+     * immutable snapshot.
+     */
     public List<Chore> filterChores(ChoreFilter filter) {
+        return this.chores.filter(filter);
+    }
+
+    /**
+     * Count the loaded chores matching the filter in O(1).
+     *
+     * @param filter The filter to apply
+     * @return int The number of loaded chores matching the filter
+     */
+    public int countChores(ChoreFilter filter) {
+        return this.chores.count(filter);
+    }
+
+    /**
+     * Find the chores due between two dates, both included, completed or
+     * not. Runs in O(log n + k) on a deadline index.
+     *
+     * @param from The first deadline
+     * @param to The last deadline
+     * @return List<Chore> The chores due in the range, earliest deadline first
+     * @throws InvalidDeadlineException When a date is null
+     */
+    public List<Chore> findDueBetween(LocalDate from, LocalDate to) {
+        if (Objects.isNull(from) || Objects.isNull(to)) {
+            throw new InvalidDeadlineException("The dates of the range cannot be null");
+        }
+        return this.chores.findDue(ChoreFilter.ALL, from, to, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Find the uncompleted chores whose deadline is before the given day.
+     *
+     * @param today The current day
+     * @return List<Chore> The overdue chores, earliest deadline first
+     * @throws InvalidDeadlineException When the day is null
+     */
+    public List<Chore> findOverdue(LocalDate today) {
+        if (Objects.isNull(today)) {
+            throw new InvalidDeadlineException("The current day cannot be null");
+        }
+        return this.chores.findDue(ChoreFilter.UNCOMPLETED, null, today.minusDays(1), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Find the next uncompleted chores to do, from today on.
+     *
+     * @param count How many chores to return at most
+     * @return List<Chore> The chores due next, earliest deadline first
+     */
+    public List<Chore> nextDue(int count) {
+        return this.chores.findDue(ChoreFilter.UNCOMPLETED, LocalDate.now(), null, count);
+    }
+
+    /**
+     * Count the stored chores matching the filter, reading them one at a
+     * time from the repository instead of loading them into the service.
+     *
+     * @param filter The filter to apply
+     * @return long The number of stored chores matching the filter
+     */
+    public long countStoredChores(ChoreFilter filter) {
+        try (Stream<Chore> stored = streamStoredChores(filter)) {
+            return stored.count();
+        }
+    }
+
+    /**
+     * Lazily read the stored chores matching the filter from the repository.
+     * The loaded chores are left untouched. The stream must be closed after
+     * use.
+     *
+     * @param filter The filter to apply
+     * @return Stream<Chore> The stored chores matching the filter
+     */
+    public Stream<Chore> streamStoredChores(ChoreFilter filter) {
+        Stream<Chore> stored = repository.stream();
         switch (filter) {
             case COMPLETED:
-                return this.chores.stream().filter(Chore::getIsCompleted).collect(Collectors.toList());
+                return stored.filter(Chore::getIsCompleted);
             case UNCOMPLETED:
-                return this.chores.stream().filter(chore -> !chore.getIsCompleted()).collect(Collectors.toList());
+                return stored.filter(chore -> !chore.getIsCompleted());
             case ALL:
             default:
-                return this.chores;
+                return stored;
         }
     }
 
@@ -155,7 +310,7 @@ public class ChoreService {
             throw new EmptyChoreListException();
         }
 
-        this.chores.stream().forEach(chore -> {
+        this.chores.list().forEach(chore -> {
                     String choreStatus;
                     if (chore.getIsCompleted()) {
                         choreStatus = "Completed";
@@ -170,7 +325,22 @@ public class ChoreService {
         );
     }
 
-    public void editChore(Chore chore, String newDescription, LocalDate newDate){
+    /**
+     * Give the chore a new description and deadline. Except in the LAZY
+     * mode, which writes every change through, the change is not persisted:
+     * pass the returned chore to {@link #updateChore} for that.
+     *
+     * @return Chore The edited chore. In the CONCURRENT and COPY_ON_WRITE
+     * modes this is a new copy and the given chore is left as it was.
+     * @throws ChorePersistenceException In LAZY mode, when the repository
+     * cannot write the change
+     */
+    public Chore editChore(Chore chore, String newDescription, LocalDate newDate){
+        return editChore(chore, newDescription, newDate, edited -> { });
+    }
+
+    // Like toggleChore, persist gets the edited chore before it is stored
+    Chore editChore(Chore chore, String newDescription, LocalDate newDate, Consumer<Chore> persist){
         if(Objects.isNull(chore)){
             throw new ChoreNotFoundException("Chore does not exists");
         }
@@ -182,24 +352,289 @@ public class ChoreService {
         }
 
 
-        boolean anyMatch_Chore = chores.stream().anyMatch(ch ->
-                ch.getDescription().equals(newDescription) && ch.getDeadline().isEqual(newDate));
-
-        if (anyMatch_Chore) {
+        // Read the key first, in DEFAULT mode rekey edits the chore itself
+        String oldDescription = chore.getDescription();
+        LocalDate oldDeadline = chore.getDeadline();
+        String description = dictionary.intern(newDescription);
+        Chore edited = chores.rekey(chore, description, newDate, persist);
+        if (Objects.isNull(edited)) {
             throw new DuplicatedChoreException("Already exists a chore with the description and deadline provided");
         }
+        if (Objects.nonNull(searchIndex)) {
+            searchIndex.removed(oldDescription, oldDeadline, chores);
+            searchIndex.added(description, newDate, chores);
+        }
+        version.incrementAndGet();
+        return edited;
+    }
 
-        chore.setDescription(newDescription);
-        chore.setDeadline(newDate);
+    /**
+     * Add many chores at once. Each chore is checked as addChore would,
+     * against the stored chores and the rest of the batch, and the ones
+     * that fail are reported instead of thrown. The others are added in one
+     * pass and persisted with a single saveChanges.
+     *
+     * @param drafts The description and deadline of each chore to add
+     * @return ChoreBatchResult The added chores and the rejected ones
+     */
+    public ChoreBatchResult addAll(List<Chore> drafts) {
+        LocalDate today = LocalDate.now();
+        List<ChoreBatchResult.Failure> failures = new ArrayList<>();
+        Set<ChoreKey> keys = new HashSet<>();
+        List<Chore> accepted = new ArrayList<>(drafts.size());
+        for (Chore draft : drafts) {
+            String description = dictionary.intern(draft.getDescription());
+            LocalDate deadline = draft.getDeadline();
+            if (Objects.isNull(description) || description.isEmpty()) {
+                failures.add(new ChoreBatchResult.Failure(description, deadline,
+                        new InvalidDescriptionException("The description cannot be null or empty")));
+            } else if (Objects.isNull(deadline) || deadline.isBefore(today)) {
+                failures.add(new ChoreBatchResult.Failure(description, deadline,
+                        new InvalidDeadlineException("The deadline cannot be null or before the current date")));
+            } else if (!keys.add(new ChoreKey(description, deadline))
+                    || Objects.nonNull(chores.find(description, deadline))) {
+                failures.add(new ChoreBatchResult.Failure(description, deadline,
+                        new DuplicatedChoreException("The given chore already exists.")));
+            } else {
+                accepted.add(new Chore(description, Boolean.FALSE, deadline));
+            }
+        }
+
+        List<Chore> added = chores.addAllAbsent(accepted);
+        // Another thread may have added some of them since they were checked
+        int next = 0;
+        for (Chore chore : accepted) {
+            if (next < added.size() && added.get(next) == chore) {
+                next++;
+            } else {
+                failures.add(new ChoreBatchResult.Failure(chore.getDescription(), chore.getDeadline(),
+                        new DuplicatedChoreException("The given chore already exists.")));
+            }
+        }
+        if (added.isEmpty()) {
+            return new ChoreBatchResult(added, failures, true);
+        }
 
+        boolean persisted = true;
+        if (Objects.nonNull(repository)) {
+            try {
+                persisted = repository.saveChanges(added);
+            } catch (RuntimeException exception) {
+                Set<ChoreKey> addedKeys = new HashSet<>();
+                added.forEach(chore -> addedKeys.add(ChoreKey.of(chore)));
+                chores.removeMatching(chore -> addedKeys.contains(ChoreKey.of(chore)));
+                throw exception;
+            }
+        }
+        if (Objects.nonNull(searchIndex)) {
+            added.forEach(chore -> searchIndex.added(chore.getDescription(), chore.getDeadline(), chores));
+        }
+        if (chores.copiesOnRead()) {
+            storeIds(added);
+        }
+        version.incrementAndGet();
+        return new ChoreBatchResult(added, failures, persisted);
+    }
+
+    /**
+     * Toggle every chore matching the predicate in one pass, and persist
+     * them with a single saveChanges. Completed chores with a past deadline
+     * are left as they are and reported, as toggleChore would throw for
+     * them.
+     *
+     * @param predicate Which chores to toggle. Must not change them.
+     * @return ChoreBatchResult The toggled chores and the ones left out
+     */
+    public ChoreBatchResult toggleAll(Predicate<Chore> predicate) {
+        LocalDate today = LocalDate.now();
+        List<ChoreBatchResult.Failure> failures = new ArrayList<>();
+        List<Chore> toggled = chores.updateMatching(predicate, chore -> {
+            if (chore.getDeadline().isBefore(today) && chore.getIsCompleted()) {
+                throw new ToggleChoreWithInvalidDeadlineException("Unable to toggle a completed chore with a past deadline");
+            }
+            chore.setIsCompleted(!chore.getIsCompleted());
+        }, (chore, error) -> failures.add(new ChoreBatchResult.Failure(chore.getDescription(), chore.getDeadline(), error)));
+        if (toggled.isEmpty()) {
+            return new ChoreBatchResult(toggled, failures, true);
+        }
+
+        // The lazy store has already written them
+        boolean persisted = chores.writesThrough() || Objects.isNull(repository) || repository.saveChanges(toggled);
+        if (chores.copiesOnRead()) {
+            storeIds(toggled);
+        }
+        version.incrementAndGet();
+        return new ChoreBatchResult(toggled, failures, persisted);
+    }
+
+    /**
+     * Delete every chore matching the predicate in one pass, and delete the
+     * stored ones from the repository with a single deleteAll. No chore is
+     * left out, so the result reports no failures.
+     *
+     * @param predicate Which chores to delete. Must not change them.
+     * @return ChoreBatchResult The deleted chores
+     */
+    public ChoreBatchResult deleteAll(Predicate<Chore> predicate) {
+        List<Chore> removed = chores.removeMatching(predicate);
+        if (removed.isEmpty()) {
+            return new ChoreBatchResult(removed, List.of(), true);
+        }
+
+        boolean persisted = true;
+        // The lazy store has already deleted them
+        if (!chores.writesThrough() && Objects.nonNull(repository)) {
+            List<Chore> stored = repository.writesBehind() ? removed
+                    : removed.stream().filter(chore -> Objects.nonNull(chore.getId())).toList();
+            persisted = stored.isEmpty() || repository.deleteAll(stored);
+        }
+        if (Objects.nonNull(searchIndex)) {
+            removed.forEach(chore -> searchIndex.removed(chore.getDescription(), chore.getDeadline(), chores));
+        }
+        version.incrementAndGet();
+        return new ChoreBatchResult(removed, List.of(), persisted);
+    }
+
+    /**
+     * @param dictionary Where the descriptions of added and edited chores
+     *                   are shared. Give it the repository's dictionary to
+     *                   share them with the loaded chores too. Defaults to a
+     *                   dictionary of this service's own.
+     */
+    public void setDictionary(DescriptionDictionary dictionary) {
+        this.dictionary = Objects.requireNonNullElseGet(dictionary, DescriptionDictionary::new);
     }
 
     public void loadChores() {
-        this.chores = repository.load();
+        if (mode == ChoreStoreMode.LAZY) {
+            // Nothing is read until the chores are used
+            this.chores = newStore(List.of());
+            this.searchIndex = null;
+            version.incrementAndGet();
+            return;
+        }
+        List<Chore> loadedChores = repository.load();
+        this.chores = newStore(Objects.isNull(loadedChores) ? List.of() : loadedChores);
+        this.searchIndex = newSearchIndex(this.chores.list());
+        version.incrementAndGet();
+    }
+
+    /**
+     * A number that changes whenever the chores are changed through the
+     * service, e.g. to tell clients whether a list they read is still
+     * current. Read it before the chores, so a change made in between is
+     * seen as a new version. Chores changed through the list returned by
+     * getChores, or in the repository by someone else, are not counted.
+     *
+     * @return long The current version of the chores
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Find chores by the words of their description. Accents and case are
+     * ignored, and every word of the query must match a whole word of the
+     * description or the start of one, e.g. "gest" finds "Gestão de
+     * contas". Chores changed through the list returned by getChores are
+     * not indexed.
+     *
+     * @param query The words to look for
+     * @return List<Chore> The matching chores, best match first
+     */
+    public List<Chore> search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param query The words to look for
+     * @param limit The maximum number of chores to return
+     * @return List<Chore> The best matching chores, best match first
+     */
+    public List<Chore> search(String query, int limit) {
+        if (Objects.isNull(searchIndex)) {
+            // LAZY mode reads the repository once, on the first search
+            ChoreSearchIndex index = new ChoreSearchIndex(false);
+            try (Stream<Chore> stored = repository.stream()) {
+                stored.forEach(chore -> index.add(chore.getDescription(), chore.getDeadline()));
+            }
+            searchIndex = index;
+        }
+        return searchIndex.search(query, limit, chores);
+    }
+
+    /**
+     * Load the chores from the repository one page at a time. The first
+     * page is in place when this returns, so the service can serve it
+     * right away. In CONCURRENT mode the other pages are added in the
+     * background while the service is in use; the other stores cannot be
+     * filled while they are read, so there every page is loaded before
+     * this returns.
+     *
+     * @param pageSize How many chores to read from the repository at a time
+     * @return CompletableFuture<Void> Completes once every page is loaded
+     */
+    public CompletableFuture<Void> loadChoresInPages(int pageSize) {
+        if (mode == ChoreStoreMode.LAZY) {
+            loadChores();
+            return CompletableFuture.completedFuture(null);
+        }
+        List<Chore> loadedPage = repository.loadPage(0, pageSize);
+        List<Chore> firstPage = Objects.isNull(loadedPage) ? List.of() : loadedPage;
+        boolean morePages = !firstPage.isEmpty() && firstPage.size() == pageSize;
+        if (mode != ChoreStoreMode.CONCURRENT) {
+            List<Chore> loadedChores = new ArrayList<>(firstPage);
+            if (morePages) {
+                loadRemainingPages(lastIdOf(firstPage), pageSize, loadedChores::addAll);
+            }
+            this.chores = newStore(loadedChores);
+            this.searchIndex = newSearchIndex(this.chores.list());
+            version.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+        ChoreStore store = newStore(firstPage);
+        ChoreSearchIndex index = newSearchIndex(firstPage);
+        this.chores = store;
+        this.searchIndex = index;
+        version.incrementAndGet();
+        if (!morePages) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> loadRemainingPages(lastIdOf(firstPage), pageSize, page -> {
+            // Stop filling the store once another load replaced it
+            if (this.chores != store) {
+                return false;
+            }
+            for (Chore chore : page) {
+                if (store.addIfAbsent(chore)) {
+                    index.add(chore.getDescription(), chore.getDeadline());
+                }
+            }
+            version.incrementAndGet();
+            return true;
+        }));
     }
 
     public Boolean saveChores() {
-        return repository.saveAll(this.chores);
+        if (chores.writesThrough()) {
+            return Boolean.TRUE;
+        }
+        Boolean result;
+        if (!chores.copiesOnRead()) {
+            result = repository.saveAll(this.chores.list());
+        } else {
+            // Keep the copies, so the ids the repository gives them can be stored
+            List<Chore> saved = new ArrayList<>(this.chores.list());
+            result = repository.saveAll(saved);
+            storeIds(saved);
+        }
+        // The repository may have given the chores their ids
+        version.incrementAndGet();
+        return result;
+    }
+
+    public ChoreStoreMode getMode() {
+        return mode;
     }
 
     public Boolean updateChore(Chore chore){
@@ -209,7 +644,100 @@ public class ChoreService {
         return repository.update(chore);
     }
 
-    private final Predicate<List<Chore>> isChoreListEmpty = choreList -> choreList.isEmpty();
+    // Delete the chore from the repository only, like updateChore
+    Boolean deleteStoredChore(Chore chore) {
+        if (Objects.isNull(chore)) {
+            return Boolean.FALSE;
+        }
+        return repository.delete(chore);
+    }
+
+    /**
+     * Wait until the changes handed to the repository are persisted. Only
+     * repositories that write in the background, like
+     * WriteBehindChoreRepository, have anything to wait for.
+     *
+     * @return Boolean True when every change is persisted
+     */
+    public Boolean flush() {
+        return Objects.isNull(repository) || repository.flush();
+    }
+
+    /**
+     * Persist the pending changes and close the repository, when it holds
+     * anything to close.
+     */
+    @Override
+    public void close() {
+        if (!flush()) {
+            System.out.println("ERROR: Some chores could not be persisted.");
+        }
+        if (repository instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception exception) {
+                System.out.println("ERROR: Unable to close the repository.");
+            }
+        }
+    }
+
+    private final Predicate<ChoreStore> isChoreListEmpty = choreList -> choreList.isEmpty();
+
+    private record ChoreKey(String description, LocalDate deadline) {
+        static ChoreKey of(Chore chore) {
+            return new ChoreKey(chore.getDescription(), chore.getDeadline());
+        }
+    }
+
+    private void storeIds(List<Chore> saved) {
+        for (Chore chore : saved) {
+            if (Objects.nonNull(chore.getId())) {
+                chores.update(chore.getDescription(), chore.getDeadline(), stored -> stored.setId(chore.getId()));
+            }
+        }
+    }
+
+    // Hand every page after afterId to the consumer, until the last page
+    // or until the consumer returns false
+    private void loadRemainingPages(long afterId, int pageSize, Predicate<List<Chore>> consumer) {
+        List<Chore> page;
+        do {
+            page = repository.loadPage(afterId, pageSize);
+            if (Objects.isNull(page) || page.isEmpty() || !consumer.test(page)) {
+                return;
+            }
+            afterId = lastIdOf(page);
+        } while (page.size() == pageSize);
+    }
+
+    private static long lastIdOf(List<Chore> page) {
+        return page.get(page.size() - 1).getId();
+    }
+
+    private ChoreSearchIndex newSearchIndex(List<Chore> loadedChores) {
+        if (mode == ChoreStoreMode.LAZY) {
+            // Built on the first search, so startup reads nothing
+            return null;
+        }
+        boolean concurrent = mode == ChoreStoreMode.CONCURRENT || mode == ChoreStoreMode.COPY_ON_WRITE;
+        return new ChoreSearchIndex(concurrent, loadedChores);
+    }
+
+    private ChoreStore newStore(List<Chore> loadedChores) {
+        switch (mode) {
+            case CONCURRENT:
+                return new ConcurrentChoreStore(loadedChores);
+            case COPY_ON_WRITE:
+                return new CopyOnWriteChoreStore(loadedChores);
+            case COLUMNAR:
+                return new ColumnarChoreStore(loadedChores);
+            case LAZY:
+                return new LazyChoreStore(repository);
+            case DEFAULT:
+            default:
+                return new IndexedChoreList(loadedChores);
+        }
+    }
 
 
 
@@ -0,0 +1,187 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * In-memory chores behind a {@link ChoreService}, looked up by their natural
+ * key (description, deadline). Each operation is atomic on its own, so the
+ * service does not need to check and then act.
+ */
+interface ChoreStore {
+
+    /**
+     * @return Chore The chore with the given key, or null when there is none
+     */
+    Chore find(String description, LocalDate deadline);
+
+    /**
+     * @return boolean False when a chore with the same key is already stored
+     */
+    boolean addIfAbsent(Chore chore);
+
+    /**
+     * @return Chore The removed chore, or null when there is none
+     */
+    Chore remove(String description, LocalDate deadline);
+
+    /**
+     * Like {@link #remove(String, LocalDate)}, but hands the chore to
+     * persist before it is removed. When persist throws, the store is left
+     * as it was. The thread-safe stores call persist while they hold the
+     * chore's key; the default suits the single-threaded ones.
+     */
+    default Chore remove(String description, LocalDate deadline, Consumer<Chore> persist) {
+        Chore stored = find(description, deadline);
+        if (Objects.isNull(stored)) {
+            return null;
+        }
+        persist.accept(stored);
+        return remove(description, deadline);
+    }
+
+    /**
+     * Apply a change to the chore with the given key. The change may throw,
+     * in which case nothing is changed.
+     *
+     * @return Chore The changed chore, or null when there is none
+     */
+    Chore update(String description, LocalDate deadline, Consumer<Chore> change);
+
+    /**
+     * Add the chores whose key is not stored yet. Stores that can add many
+     * chores in one pass override this; the default adds them one by one.
+     *
+     * @return List<Chore> The chores added, in the given order. The others
+     * had a key already stored.
+     */
+    default List<Chore> addAllAbsent(List<Chore> chores) {
+        List<Chore> added = new ArrayList<>(chores.size());
+        for (Chore chore : chores) {
+            if (addIfAbsent(chore)) {
+                added.add(chore);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Remove every chore matching the predicate. Stores that can remove
+     * many chores in one pass override this; the default removes them one
+     * by one.
+     *
+     * @return List<Chore> The removed chores
+     */
+    default List<Chore> removeMatching(Predicate<Chore> predicate) {
+        List<Chore> removed = new ArrayList<>();
+        for (Chore chore : list().stream().filter(predicate).toList()) {
+            Chore gone = remove(chore.getDescription(), chore.getDeadline());
+            if (Objects.nonNull(gone)) {
+                removed.add(gone);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Apply a change to every chore matching the predicate. A change that
+     * throws leaves its chore unchanged and is handed to onFailure, the
+     * other chores are still changed. Stores that can change many chores in
+     * one pass override this; the default changes them one by one.
+     *
+     * @return List<Chore> The changed chores
+     */
+    default List<Chore> updateMatching(Predicate<Chore> predicate, Consumer<Chore> change,
+                                       BiConsumer<Chore, RuntimeException> onFailure) {
+        List<Chore> changed = new ArrayList<>();
+        for (Chore chore : list().stream().filter(predicate).toList()) {
+            try {
+                Chore updated = update(chore.getDescription(), chore.getDeadline(), change);
+                if (Objects.nonNull(updated)) {
+                    changed.add(updated);
+                }
+            } catch (RuntimeException exception) {
+                onFailure.accept(chore, exception);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Give the chore a new description and deadline.
+     *
+     * @return Chore The edited chore as stored, which is a new copy in the
+     * stores that never change a published chore. Null when another chore
+     * already has the new key.
+     */
+    Chore rekey(Chore chore, String newDescription, LocalDate newDeadline);
+
+    /**
+     * Like {@link #rekey(Chore, String, LocalDate)}, but hands the edited
+     * chore to persist before it is stored. When persist throws, the store
+     * is left as it was. The thread-safe stores call persist while they
+     * hold the chore's key; the default suits the single-threaded ones.
+     */
+    default Chore rekey(Chore chore, String newDescription, LocalDate newDeadline, Consumer<Chore> persist) {
+        if (Objects.nonNull(find(newDescription, newDeadline))) {
+            return null;
+        }
+        Chore stored = Objects.requireNonNullElse(find(chore.getDescription(), chore.getDeadline()), chore);
+        persist.accept(new Chore(stored.getId(), newDescription, stored.getIsCompleted(), newDeadline));
+        return rekey(chore, newDescription, newDeadline);
+    }
+
+    /**
+     * @return List<Chore> The chores in insertion order
+     */
+    List<Chore> list();
+
+    List<Chore> filter(ChoreFilter filter);
+
+    /**
+     * @return int How many chores match the filter, without listing them
+     */
+    int count(ChoreFilter filter);
+
+    /**
+     * Find chores by deadline in O(log n + k).
+     *
+     * @param filter Which chores to return
+     * @param from The first deadline to return, or null for no lower bound
+     * @param to The last deadline to return, or null for no upper bound
+     * @param limit The maximum number of chores to return
+     * @return List<Chore> The matching chores, earliest deadline first
+     */
+    List<Chore> findDue(ChoreFilter filter, LocalDate from, LocalDate to, int limit);
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return boolean True when the chores handed out are copies, so
+     * changes the repository makes to them, like new ids, must be written
+     * back through {@link #update}
+     */
+    default boolean copiesOnRead() {
+        return false;
+    }
+
+    /**
+     * @return boolean True when every change is already written to the
+     * repository, so there is nothing left for saveChores to write
+     */
+    default boolean writesThrough() {
+        return false;
+    }
+}
@@ -0,0 +1,495 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Chore store for {@link br.edu.unifalmg.enumerator.ChoreStoreMode#COLUMNAR}
+ * that keeps no object per chore.
+ *
+ * Each field lives in its own primitive column: ids in a long[], deadlines
+ * as epoch days in an int[], completion in a BitSet and the descriptions
+ * as UTF-8 bytes in one shared arena. The (description, deadline) index is
+ * an open-addressing table of row numbers. A chore costs about 40 bytes
+ * plus its description, against a few hundred for the indexed list.
+ *
+ * Chores are materialized on demand, so every chore handed out is a
+ * detached copy: changing it does not change the store, changes go
+ * through {@link #update} and {@link #rekey}. A completion flag of null is
+ * stored as false. Removing a chore shifts the rows after it, which costs
+ * O(n) like removing from an ArrayList; {@link #removeMatching} removes any
+ * number of chores in one such pass. Not thread-safe.
+ */
+class ColumnarChoreStore implements ChoreStore {
+
+    private static final int NO_DEADLINE = Integer.MIN_VALUE;
+    private static final int NO_DESCRIPTION = -1;
+    private static final int EMPTY = -1;
+
+    private int size;
+    private long[] ids;
+    private final BitSet hasId = new BitSet();
+    private int[] deadlines;
+    private final BitSet completed = new BitSet();
+    private int completedCount;
+
+    // Descriptions: offset and length of each row in the arena
+    private byte[] arena;
+    private int arenaSize;
+    private int[] offsets;
+    private int[] lengths;
+
+    // Key index: hash of each row, and a linear probing table of rows
+    private int[] hashes;
+    private int[] table;
+
+    private final List<Chore> view = new RowView();
+
+    ColumnarChoreStore() {
+        this(List.of());
+    }
+
+    ColumnarChoreStore(Collection<Chore> chores) {
+        int capacity = Math.max(16, chores.size());
+        ids = new long[capacity];
+        deadlines = new int[capacity];
+        offsets = new int[capacity];
+        lengths = new int[capacity];
+        hashes = new int[capacity];
+        arena = new byte[capacity * 16];
+        table = newTable(capacity);
+        chores.forEach(this::addIfAbsent);
+    }
+
+    @Override
+    public Chore find(String description, LocalDate deadline) {
+        int row = rowOf(encode(description), epochDay(deadline));
+        return row == EMPTY ? null : chore(row);
+    }
+
+    @Override
+    public boolean addIfAbsent(Chore chore) {
+        byte[] description = encode(chore.getDescription());
+        int deadline = epochDay(chore.getDeadline());
+        if (rowOf(description, deadline) != EMPTY) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        int row = size++;
+        write(row, chore, description, deadline, true);
+        insert(row);
+        return true;
+    }
+
+    @Override
+    public Chore remove(String description, LocalDate deadline) {
+        int row = rowOf(encode(description), epochDay(deadline));
+        if (row == EMPTY) {
+            return null;
+        }
+        Chore removed = chore(row);
+        delete(row);
+        if (completed.get(row)) {
+            completedCount--;
+        }
+        int moved = size - row - 1;
+        System.arraycopy(ids, row + 1, ids, row, moved);
+        System.arraycopy(deadlines, row + 1, deadlines, row, moved);
+        System.arraycopy(offsets, row + 1, offsets, row, moved);
+        System.arraycopy(lengths, row + 1, lengths, row, moved);
+        System.arraycopy(hashes, row + 1, hashes, row, moved);
+        shiftDown(hasId, row);
+        shiftDown(completed, row);
+        size--;
+        // The vacated row must not point into the arena, which may shrink
+        offsets[size] = 0;
+        lengths[size] = NO_DESCRIPTION;
+        // Rows after the removed one moved up by one
+        for (int slot = 0; slot < table.length; slot++) {
+            if (table[slot] > row) {
+                table[slot]--;
+            }
+        }
+        compactArenaIfSparse();
+        return removed;
+    }
+
+    /**
+     * Moves every kept row up over the removed ones in one pass, then
+     * rebuilds the key table and compacts the arena once, so it costs O(n)
+     * however many chores match. The predicate sees every chore before any
+     * row moves, so one that throws leaves the store as it was.
+     */
+    @Override
+    public List<Chore> removeMatching(Predicate<Chore> predicate) {
+        List<Chore> removed = new ArrayList<>();
+        BitSet matching = new BitSet(size);
+        for (int row = 0; row < size; row++) {
+            Chore chore = chore(row);
+            if (predicate.test(chore)) {
+                matching.set(row);
+                removed.add(chore);
+            }
+        }
+        if (removed.isEmpty()) {
+            return removed;
+        }
+        int kept = 0;
+        for (int row = 0; row < size; row++) {
+            if (matching.get(row)) {
+                if (completed.get(row)) {
+                    completedCount--;
+                }
+                continue;
+            }
+            if (kept != row) {
+                ids[kept] = ids[row];
+                deadlines[kept] = deadlines[row];
+                offsets[kept] = offsets[row];
+                lengths[kept] = lengths[row];
+                hashes[kept] = hashes[row];
+                hasId.set(kept, hasId.get(row));
+                completed.set(kept, completed.get(row));
+            }
+            kept++;
+        }
+        hasId.clear(kept, size);
+        completed.clear(kept, size);
+        // The vacated rows must not point into the arena, which may shrink
+        Arrays.fill(offsets, kept, size, 0);
+        Arrays.fill(lengths, kept, size, NO_DESCRIPTION);
+        size = kept;
+        Arrays.fill(table, EMPTY);
+        for (int row = 0; row < size; row++) {
+            insert(row);
+        }
+        compactArenaIfSparse();
+        return removed;
+    }
+
+    @Override
+    public Chore update(String description, LocalDate deadline, Consumer<Chore> change) {
+        int row = rowOf(encode(description), epochDay(deadline));
+        if (row == EMPTY) {
+            return null;
+        }
+        Chore chore = chore(row);
+        change.accept(chore);
+        byte[] newDescription = encode(chore.getDescription());
+        int newDeadline = epochDay(chore.getDeadline());
+        delete(row);
+        write(row, chore, newDescription, newDeadline, false);
+        insert(row);
+        return chore;
+    }
+
+    /**
+     * The given chore is a detached copy, so it is changed as well as the
+     * stored row, like the indexed list does.
+     */
+    @Override
+    public Chore rekey(Chore chore, String newDescription, LocalDate newDeadline) {
+        byte[] description = encode(newDescription);
+        int deadline = epochDay(newDeadline);
+        if (rowOf(description, deadline) != EMPTY) {
+            return null;
+        }
+        int row = rowOf(encode(chore.getDescription()), epochDay(chore.getDeadline()));
+        chore.setDescription(newDescription);
+        chore.setDeadline(newDeadline);
+        if (row != EMPTY) {
+            delete(row);
+            if (!sameDescription(row, description)) {
+                offsets[row] = append(description);
+            }
+            lengths[row] = Objects.isNull(description) ? NO_DESCRIPTION : description.length;
+            deadlines[row] = deadline;
+            hashes[row] = hash(description, deadline);
+            insert(row);
+        }
+        return chore;
+    }
+
+    /**
+     * @return List<Chore> A read-only view of the rows, building each chore
+     * when it is read
+     */
+    @Override
+    public List<Chore> list() {
+        return view;
+    }
+
+    /**
+     * @return List<Chore> The matching chores, built by walking the
+     * completion bits
+     */
+    @Override
+    public List<Chore> filter(ChoreFilter filter) {
+        switch (filter) {
+            case COMPLETED: {
+                List<Chore> result = new ArrayList<>(completedCount);
+                for (int row = completed.nextSetBit(0); row >= 0 && row < size; row = completed.nextSetBit(row + 1)) {
+                    result.add(chore(row));
+                }
+                return Collections.unmodifiableList(result);
+            }
+            case UNCOMPLETED: {
+                List<Chore> result = new ArrayList<>(size - completedCount);
+                for (int row = completed.nextClearBit(0); row < size; row = completed.nextClearBit(row + 1)) {
+                    result.add(chore(row));
+                }
+                return Collections.unmodifiableList(result);
+            }
+            case ALL:
+            default:
+                return view;
+        }
+    }
+
+    @Override
+    public int count(ChoreFilter filter) {
+        switch (filter) {
+            case COMPLETED:
+                return completedCount;
+            case UNCOMPLETED:
+                return size - completedCount;
+            case ALL:
+            default:
+                return size;
+        }
+    }
+
+    /**
+     * Scans the deadline column instead of keeping a sorted index, which
+     * would cost objects per chore. O(n) over a plain int[], plus sorting
+     * the matches.
+     */
+    @Override
+    public List<Chore> findDue(ChoreFilter filter, LocalDate from, LocalDate to, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long first = Objects.isNull(from) ? Integer.MIN_VALUE + 1L : from.toEpochDay();
+        long last = Objects.isNull(to) ? Integer.MAX_VALUE : to.toEpochDay();
+        int[] matches = new int[16];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            int deadline = deadlines[row];
+            if (deadline != NO_DEADLINE && deadline >= first && deadline <= last
+                    && (filter == ChoreFilter.ALL || completed.get(row) == (filter == ChoreFilter.COMPLETED))) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = row;
+            }
+        }
+        // Sort by deadline, then row, packed into one long per match
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) deadlines[matches[i]] << 32) | matches[i];
+        }
+        Arrays.sort(order);
+        List<Chore> result = new ArrayList<>(Math.min(count, limit));
+        for (int i = 0; i < count && result.size() < limit; i++) {
+            result.add(chore((int) order[i]));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean copiesOnRead() {
+        return true;
+    }
+
+    private Chore chore(int row) {
+        String description = lengths[row] == NO_DESCRIPTION
+                ? null
+                : new String(arena, offsets[row], lengths[row], StandardCharsets.UTF_8);
+        return new Chore(
+                hasId.get(row) ? ids[row] : null,
+                description,
+                completed.get(row),
+                deadlines[row] == NO_DEADLINE ? null : LocalDate.ofEpochDay(deadlines[row]));
+    }
+
+    /**
+     * @param appended Whether the row is new. Only a stored row can keep its
+     *                 description bytes in place when they did not change.
+     */
+    private void write(int row, Chore chore, byte[] description, int deadline, boolean appended) {
+        // New rows always start with their bits clear
+        boolean wasCompleted = completed.get(row);
+        boolean isCompleted = Boolean.TRUE.equals(chore.getIsCompleted());
+        completedCount += (isCompleted ? 1 : 0) - (wasCompleted ? 1 : 0);
+        completed.set(row, isCompleted);
+        hasId.set(row, Objects.nonNull(chore.getId()));
+        ids[row] = Objects.nonNull(chore.getId()) ? chore.getId() : 0L;
+        deadlines[row] = deadline;
+        if (appended || !sameDescription(row, description)) {
+            offsets[row] = append(description);
+        }
+        lengths[row] = Objects.isNull(description) ? NO_DESCRIPTION : description.length;
+        hashes[row] = hash(description, deadline);
+    }
+
+    private boolean sameDescription(int row, byte[] description) {
+        return Objects.nonNull(description) && lengths[row] == description.length
+                && Arrays.equals(arena, offsets[row], offsets[row] + lengths[row], description, 0, description.length);
+    }
+
+    private int append(byte[] description) {
+        if (Objects.isNull(description)) {
+            return arenaSize;
+        }
+        if (arenaSize + description.length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + description.length));
+        }
+        System.arraycopy(description, 0, arena, arenaSize, description.length);
+        int offset = arenaSize;
+        arenaSize += description.length;
+        return offset;
+    }
+
+    private void compactArenaIfSparse() {
+        long live = 0;
+        for (int row = 0; row < size; row++) {
+            live += Math.max(0, lengths[row]);
+        }
+        if (arenaSize < 1024 || live * 2 > arenaSize) {
+            return;
+        }
+        byte[] compacted = new byte[(int) Math.max(live * 2, 16)];
+        int position = 0;
+        for (int row = 0; row < size; row++) {
+            if (lengths[row] > 0) {
+                System.arraycopy(arena, offsets[row], compacted, position, lengths[row]);
+            }
+            offsets[row] = position;
+            position += Math.max(0, lengths[row]);
+        }
+        arena = compacted;
+        arenaSize = position;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int grown = Math.max(capacity, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, grown);
+            deadlines = Arrays.copyOf(deadlines, grown);
+            offsets = Arrays.copyOf(offsets, grown);
+            lengths = Arrays.copyOf(lengths, grown);
+            hashes = Arrays.copyOf(hashes, grown);
+        }
+        if (capacity * 2 > table.length) {
+            table = newTable(capacity);
+            for (int row = 0; row < size; row++) {
+                insert(row);
+            }
+        }
+    }
+
+    private int rowOf(byte[] description, int deadline) {
+        int mask = table.length - 1;
+        for (int slot = hash(description, deadline) & mask; table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            int row = table[slot];
+            if (deadlines[row] == deadline && (Objects.isNull(description)
+                    ? lengths[row] == NO_DESCRIPTION
+                    : sameDescription(row, description))) {
+                return row;
+            }
+        }
+        return EMPTY;
+    }
+
+    private void insert(int row) {
+        int mask = table.length - 1;
+        int slot = hashes[row] & mask;
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = row;
+    }
+
+    /**
+     * Remove the row from the table, moving back the entries after it that
+     * would otherwise no longer be reachable from their home slot.
+     */
+    private void delete(int row) {
+        int mask = table.length - 1;
+        int slot = hashes[row] & mask;
+        while (table[slot] != row) {
+            slot = (slot + 1) & mask;
+        }
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (table[next] == EMPTY) {
+                break;
+            }
+            int home = hashes[table[next]] & mask;
+            // Move the entry back unless its home lies cyclically in (slot, next]
+            if (slot <= next ? (home <= slot || home > next) : (home <= slot && home > next)) {
+                table[slot] = table[next];
+                slot = next;
+            }
+        }
+        table[slot] = EMPTY;
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[Integer.highestOneBit(Math.max(16, capacity) * 4 - 1)];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    private static int hash(byte[] description, int deadline) {
+        int hash = Arrays.hashCode(description) * 31 + deadline;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static void shiftDown(BitSet bits, int from) {
+        for (int row = from; row < bits.length(); row++) {
+            bits.set(row, bits.get(row + 1));
+        }
+    }
+
+    private static byte[] encode(String description) {
+        return Objects.isNull(description) ? null : description.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int epochDay(LocalDate deadline) {
+        return Objects.isNull(deadline) ? NO_DEADLINE : Math.toIntExact(deadline.toEpochDay());
+    }
+
+    private final class RowView extends AbstractList<Chore> implements RandomAccess {
+
+        @Override
+        public Chore get(int position) {
+            return chore(Objects.checkIndex(position, size));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.exception.ChoreNotFoundException;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe chore store for {@link br.edu.unifalmg.enumerator.ChoreStoreMode#CONCURRENT}.
+ *
+ * Writers lock the key they change (both keys for an edit) with
+ * {@link KeyLocks}, so writes to other chores run in parallel, and a write
+ * that persists its change while holding the key, which may wait on the
+ * database, does not pin a virtual thread. Readers never lock: lookups
+ * go through a ConcurrentHashMap and listings walk ConcurrentSkipListMaps
+ * ordered by insertion, one for every chore and one per completion state.
+ *
+ * Stored chores are never changed after they are published. Toggles and
+ * edits store a changed copy instead, so a list handed to a reader never
+ * changes under it and never shows a half-applied change to a chore.
+ *
+ * Listings and counts are point-in-time snapshots. Every write counts
+ * itself in and out around the few map changes that publish it, and a
+ * reader copies the maps optimistically, then checks that no write started
+ * or was still running meanwhile, retrying when one was. A listing thus
+ * never holds a toggled chore in both states or in neither, and counts
+ * add up to the size. The change a write applies, including persisting
+ * it, runs before the write counts itself in, so readers only wait for
+ * the map changes.
+ */
+class ConcurrentChoreStore implements ChoreStore {
+
+    private static final Comparator<ChoreKey> KEY_ORDER = Comparator
+            .comparing(ChoreKey::description, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(ChoreKey::deadline, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()));
+
+    private final KeyLocks<ChoreKey> locks = new KeyLocks<>(KEY_ORDER);
+    private final Map<ChoreKey, Slot> index = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Chore> bySequence = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Long, Chore> completedBySequence = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Long, Chore> uncompletedBySequence = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final DeadlineIndex deadlines = new DeadlineIndex(ConcurrentSkipListMap::new);
+
+    // Writes that started and finished publishing, so readers can tell
+    // whether one ran while they read
+    private final AtomicLong writesStarted = new AtomicLong();
+    private final AtomicLong writesFinished = new AtomicLong();
+
+    ConcurrentChoreStore() {
+    }
+
+    ConcurrentChoreStore(Collection<Chore> chores) {
+        this();
+        chores.forEach(this::addIfAbsent);
+    }
+
+    @Override
+    public Chore find(String description, LocalDate deadline) {
+        Slot slot = index.get(new ChoreKey(description, deadline));
+        return Objects.isNull(slot) ? null : slot.chore();
+    }
+
+    @Override
+    public boolean addIfAbsent(Chore chore) {
+        ChoreKey key = ChoreKey.of(chore);
+        locks.lock(key);
+        try {
+            if (index.containsKey(key)) {
+                return false;
+            }
+            beginWrite();
+            try {
+                publish(key, new Slot(sequence.incrementAndGet(), chore));
+                completed.addAndGet(completion(chore));
+            } finally {
+                endWrite();
+            }
+            return true;
+        } finally {
+            locks.unlock(key);
+        }
+    }
+
+    @Override
+    public Chore remove(String description, LocalDate deadline) {
+        return remove(description, deadline, removed -> { });
+    }
+
+    @Override
+    public Chore remove(String description, LocalDate deadline, Consumer<Chore> persist) {
+        ChoreKey key = new ChoreKey(description, deadline);
+        locks.lock(key);
+        try {
+            Slot slot = index.get(key);
+            if (Objects.isNull(slot)) {
+                return null;
+            }
+            persist.accept(slot.chore());
+            beginWrite();
+            try {
+                index.remove(key);
+                bySequence.remove(slot.sequence());
+                partitionOf(slot.chore()).remove(slot.sequence());
+                unindexDeadline(slot);
+                completed.addAndGet(-completion(slot.chore()));
+            } finally {
+                endWrite();
+            }
+            return slot.chore();
+        } finally {
+            locks.unlock(key);
+        }
+    }
+
+    @Override
+    public Chore update(String description, LocalDate deadline, Consumer<Chore> change) {
+        ChoreKey key = new ChoreKey(description, deadline);
+        locks.lock(key);
+        try {
+            Slot slot = index.get(key);
+            if (Objects.isNull(slot)) {
+                return null;
+            }
+            Chore changed = copyOf(slot.chore());
+            change.accept(changed);
+            beginWrite();
+            try {
+                unindexDeadline(slot);
+                publish(key, new Slot(slot.sequence(), changed));
+                unpartitionIfMoved(slot, changed);
+                completed.addAndGet(completion(changed) - completion(slot.chore()));
+            } finally {
+                endWrite();
+            }
+            return changed;
+        } finally {
+            locks.unlock(key);
+        }
+    }
+
+    /**
+     * Stores an edited copy of the chore. The given chore is left untouched,
+     * since it may be the instance earlier readers hold.
+     *
+     * @throws ChoreNotFoundException When no chore has the old key, which
+     * happens when a concurrent write deleted or edited it first
+     */
+    @Override
+    public Chore rekey(Chore chore, String newDescription, LocalDate newDeadline) {
+        return rekey(chore, newDescription, newDeadline, edited -> { });
+    }
+
+    @Override
+    public Chore rekey(Chore chore, String newDescription, LocalDate newDeadline, Consumer<Chore> persist) {
+        ChoreKey oldKey = ChoreKey.of(chore);
+        ChoreKey newKey = new ChoreKey(newDescription, newDeadline);
+        locks.lock(oldKey, newKey);
+        try {
+            if (index.containsKey(newKey)) {
+                return null;
+            }
+            Slot slot = index.get(oldKey);
+            if (Objects.isNull(slot)) {
+                throw new ChoreNotFoundException("Chore does not exists");
+            }
+            Chore edited = copyOf(slot.chore());
+            edited.setDescription(newDescription);
+            edited.setDeadline(newDeadline);
+            persist.accept(edited);
+            beginWrite();
+            try {
+                // Publish the new key before dropping the old one, so the
+                // chore never looks absent to a concurrent lookup
+                unindexDeadline(slot);
+                publish(newKey, new Slot(slot.sequence(), edited));
+                unpartitionIfMoved(slot, edited);
+                index.remove(oldKey);
+            } finally {
+                endWrite();
+            }
+            return edited;
+        } finally {
+            locks.unlock(oldKey, newKey);
+        }
+    }
+
+    /**
+     * @return List<Chore> An immutable snapshot in insertion order
+     */
+    @Override
+    public List<Chore> list() {
+        return read(() -> List.copyOf(bySequence.values()));
+    }
+
+    /**
+     * Copies only the chores of the matching completion state, so it costs
+     * O(k) for k matching chores instead of a scan of every chore.
+     *
+     * @return List<Chore> An immutable snapshot in insertion order
+     */
+    @Override
+    public List<Chore> filter(ChoreFilter filter) {
+        switch (filter) {
+            case COMPLETED:
+                return read(() -> List.copyOf(completedBySequence.values()));
+            case UNCOMPLETED:
+                return read(() -> List.copyOf(uncompletedBySequence.values()));
+            case ALL:
+            default:
+                return list();
+        }
+    }
+
+    /**
+     * Counts are kept up to date by every write, so this costs O(1).
+     */
+    @Override
+    public int count(ChoreFilter filter) {
+        switch (filter) {
+            case COMPLETED:
+                return read(completed::get);
+            case UNCOMPLETED:
+                return read(() -> index.size() - completed.get());
+            case ALL:
+            default:
+                return size();
+        }
+    }
+
+    @Override
+    public List<Chore> findDue(ChoreFilter filter, LocalDate from, LocalDate to, int limit) {
+        return read(() -> deadlines.find(filter, from, to, limit));
+    }
+
+    @Override
+    public int size() {
+        return read(index::size);
+    }
+
+    // Called with every changed key locked, around the map changes that
+    // publish a write
+    private void beginWrite() {
+        writesStarted.incrementAndGet();
+    }
+
+    private void endWrite() {
+        writesFinished.incrementAndGet();
+    }
+
+    // Run the reader until no write started or was running while it ran, so
+    // what it read is the store as it was between two writes. Writes only
+    // hold readers back for their map changes, which take microseconds.
+    private <T> T read(Supplier<T> reader) {
+        for (int attempt = 1; ; attempt++) {
+            long started = writesStarted.get();
+            if (writesFinished.get() == started) {
+                T result = reader.get();
+                if (writesStarted.get() == started) {
+                    return result;
+                }
+            }
+            if (attempt % 64 == 0) {
+                Thread.yield();
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void publish(ChoreKey key, Slot slot) {
+        index.put(key, slot);
+        bySequence.put(slot.sequence(), slot.chore());
+        partitionOf(slot.chore()).put(slot.sequence(), slot.chore());
+        deadlines.add(slot.sequence(), slot.chore());
+    }
+
+    // Drop the previous state from its partition once the changed chore was
+    // published in another one. Within the same partition the put replaced it.
+    private void unpartitionIfMoved(Slot previous, Chore changed) {
+        if (completion(previous.chore()) != completion(changed)) {
+            partitionOf(previous.chore()).remove(previous.sequence());
+        }
+    }
+
+    private ConcurrentSkipListMap<Long, Chore> partitionOf(Chore chore) {
+        return completion(chore) == 1 ? completedBySequence : uncompletedBySequence;
+    }
+
+    private void unindexDeadline(Slot slot) {
+        Chore chore = slot.chore();
+        deadlines.remove(slot.sequence(), chore.getDeadline(), completion(chore) == 1);
+    }
+
+    private static int completion(Chore chore) {
+        return Boolean.TRUE.equals(chore.getIsCompleted()) ? 1 : 0;
+    }
+
+    private static Chore copyOf(Chore chore) {
+        return new Chore(chore.getId(), chore.getDescription(), chore.getIsCompleted(), chore.getDeadline());
+    }
+
+    private record Slot(long sequence, Chore chore) {
+    }
+
+    private record ChoreKey(String description, LocalDate deadline) {
+        static ChoreKey of(Chore chore) {
+            return new ChoreKey(chore.getDescription(), chore.getDeadline());
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.exception.ChoreNotFoundException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe chore store for {@link br.edu.unifalmg.enumerator.ChoreStoreMode#COPY_ON_WRITE},
+ * tuned for workloads that read much more than they write.
+ *
+ * All the chores live in one immutable {@link Snapshot} behind an atomic
+ * reference. A read is a single volatile load: it takes no lock and copies
+ * nothing, and the list it returns never changes. Writers build the next
+ * snapshot from the current one and publish it. The snapshot is made of
+ * {@link PersistentTree}s, so the next one shares every node but the
+ * O(log n) on the path to the changed chore, and a write costs O(log n)
+ * instead of a copy of every chore. Stored chores are never mutated,
+ * toggles and edits publish a changed copy.
+ *
+ * A write to one chore locks only its key with {@link KeyLocks}, so it can
+ * persist the change, which may wait on the database, while writes to other
+ * chores go on. It then publishes with a compare-and-set, building the
+ * snapshot again when another write published first. Writes to many
+ * chores at once take a lock that excludes the single-chore writes instead,
+ * so they never change a chore one of those holds.
+ */
+class CopyOnWriteChoreStore implements ChoreStore {
+
+    private static final Comparator<ChoreKey> KEY_ORDER = Comparator
+            .comparing(ChoreKey::description, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(ChoreKey::deadline, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()));
+
+    private final AtomicReference<Snapshot> snapshot;
+
+    // Single-chore writes hold the read lock and their keys, batch writes
+    // the write lock
+    private final ReentrantReadWriteLock batches = new ReentrantReadWriteLock();
+    private final KeyLocks<ChoreKey> keys = new KeyLocks<>(KEY_ORDER);
+
+    CopyOnWriteChoreStore() {
+        this(List.of());
+    }
+
+    CopyOnWriteChoreStore(Collection<Chore> chores) {
+        Draft draft = new Draft(Snapshot.EMPTY);
+        for (Chore chore : chores) {
+            ChoreKey key = ChoreKey.of(chore);
+            if (Objects.isNull(draft.index.get(key))) {
+                draft.add(key, chore);
+            }
+        }
+        snapshot = new AtomicReference<>(draft.build());
+    }
+
+    @Override
+    public Chore find(String description, LocalDate deadline) {
+        Slot slot = snapshot.get().index.get(new ChoreKey(description, deadline));
+        return Objects.isNull(slot) ? null : slot.chore();
+    }
+
+    @Override
+    public boolean addIfAbsent(Chore chore) {
+        ChoreKey key = ChoreKey.of(chore);
+        return locked(key, key, () -> {
+            if (Objects.nonNull(snapshot.get().index.get(key))) {
+                return false;
+            }
+            publish(draft -> draft.add(key, chore));
+            return true;
+        });
+    }
+
+    @Override
+    public Chore remove(String description, LocalDate deadline) {
+        return remove(description, deadline, removed -> { });
+    }
+
+    @Override
+    public Chore remove(String description, LocalDate deadline, Consumer<Chore> persist) {
+        ChoreKey key = new ChoreKey(description, deadline);
+        return locked(key, key, () -> {
+            Slot slot = snapshot.get().index.get(key);
+            if (Objects.isNull(slot)) {
+                return null;
+            }
+            persist.accept(slot.chore());
+            publish(draft -> draft.remove(key, slot));
+            return slot.chore();
+        });
+    }
+
+    @Override
+    public Chore update(String description, LocalDate deadline, Consumer<Chore> change) {
+        ChoreKey key = new ChoreKey(description, deadline);
+        return locked(key, key, () -> {
+            Slot slot = snapshot.get().index.get(key);
+            if (Objects.isNull(slot)) {
+                return null;
+            }
+            Chore changed = copyOf(slot.chore());
+            change.accept(changed);
+            publish(draft -> draft.replace(key, slot, ChoreKey.of(changed), changed));
+            return changed;
+        });
+    }
+
+    /**
+     * Publishes one snapshot for the whole batch, so adding k chores costs
+     * O(k log n).
+     */
+    @Override
+    public List<Chore> addAllAbsent(List<Chore> added) {
+        batches.writeLock().lock();
+        try {
+            Draft draft = new Draft(snapshot.get());
+            List<Chore> result = new ArrayList<>(added.size());
+            for (Chore chore : added) {
+                ChoreKey key = ChoreKey.of(chore);
+                if (Objects.isNull(draft.index.get(key))) {
+                    draft.add(key, chore);
+                    result.add(chore);
+                }
+            }
+            if (!result.isEmpty()) {
+                snapshot.set(draft.build());
+            }
+            return result;
+        } finally {
+            batches.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Publishes one snapshot without the removed chores.
+     */
+    @Override
+    public List<Chore> removeMatching(Predicate<Chore> predicate) {
+        batches.writeLock().lock();
+        try {
+            Snapshot current = snapshot.get();
+            Draft draft = new Draft(current);
+            List<Chore> removed = new ArrayList<>();
+            for (Chore chore : current.all) {
+                if (predicate.test(chore)) {
+                    ChoreKey key = ChoreKey.of(chore);
+                    draft.remove(key, draft.index.get(key));
+                    removed.add(chore);
+                }
+            }
+            if (!removed.isEmpty()) {
+                snapshot.set(draft.build());
+            }
+            return removed;
+        } finally {
+            batches.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Publishes one snapshot with a changed copy of every matching chore.
+     */
+    @Override
+    public List<Chore> updateMatching(Predicate<Chore> predicate, Consumer<Chore> change,
+                                      BiConsumer<Chore, RuntimeException> onFailure) {
+        batches.writeLock().lock();
+        try {
+            Snapshot current = snapshot.get();
+            Draft draft = new Draft(current);
+            List<Chore> changed = new ArrayList<>();
+            for (Chore chore : current.all) {
+                if (!predicate.test(chore)) {
+                    continue;
+                }
+                Chore next = copyOf(chore);
+                try {
+                    change.accept(next);
+                } catch (RuntimeException exception) {
+                    onFailure.accept(chore, exception);
+                    continue;
+                }
+                ChoreKey key = ChoreKey.of(chore);
+                draft.replace(key, draft.index.get(key), ChoreKey.of(next), next);
+                changed.add(next);
+            }
+            if (!changed.isEmpty()) {
+                snapshot.set(draft.build());
+            }
+            return changed;
+        } finally {
+            batches.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stores an edited copy of the chore. The given chore is left untouched,
+     * since it may be the instance earlier readers hold.
+     *
+     * @throws ChoreNotFoundException When no chore has the old key
+     */
+    @Override
+    public Chore rekey(Chore chore, String newDescription, LocalDate newDeadline) {
+        return rekey(chore, newDescription, newDeadline, edited -> { });
+    }
+
+    @Override
+    public Chore rekey(Chore chore, String newDescription, LocalDate newDeadline, Consumer<Chore> persist) {
+        ChoreKey oldKey = ChoreKey.of(chore);
+        ChoreKey newKey = new ChoreKey(newDescription, newDeadline);
+        return locked(oldKey, newKey, () -> {
+            Snapshot current = snapshot.get();
+            if (Objects.nonNull(current.index.get(newKey))) {
+                return null;
+            }
+            Slot slot = current.index.get(oldKey);
+            if (Objects.isNull(slot)) {
+                throw new ChoreNotFoundException("Chore does not exists");
+            }
+            Chore edited = copyOf(slot.chore());
+            edited.setDescription(newDescription);
+            edited.setDeadline(newDeadline);
+            persist.accept(edited);
+            publish(draft -> draft.replace(oldKey, slot, newKey, edited));
+            return edited;
+        });
+    }
+
+    /**
+     * @return List<Chore> An immutable snapshot in insertion order
+     */
+    @Override
+    public List<Chore> list() {
+        return snapshot.get().all;
+    }
+
+    /**
+     * @return List<Chore> An immutable snapshot in insertion order. Each
+     * completion state is kept in its own tree, so this copies nothing.
+     */
+    @Override
+    public List<Chore> filter(ChoreFilter filter) {
+        Snapshot current = snapshot.get();
+        switch (filter) {
+            case COMPLETED:
+                return current.completed;
+            case UNCOMPLETED:
+                return current.uncompleted;
+            case ALL:
+            default:
+                return current.all;
+        }
+    }
+
+    @Override
+    public int count(ChoreFilter filter) {
+        return filter(filter).size();
+    }
+
+    @Override
+    public List<Chore> findDue(ChoreFilter filter, LocalDate from, LocalDate to, int limit) {
+        Snapshot current = snapshot.get();
+        return DeadlineIndex.find((isCompleted, low, high) ->
+                        (isCompleted ? current.completedDue : current.uncompletedDue).entries(low, high),
+                filter, from, to, limit);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.get().all.size();
+    }
+
+    // Run a single-chore write with both keys held, which may be the same
+    private <T> T locked(ChoreKey first, ChoreKey second, Supplier<T> write) {
+        batches.readLock().lock();
+        keys.lock(first, second);
+        try {
+            return write.get();
+        } finally {
+            keys.unlock(first, second);
+            batches.readLock().unlock();
+        }
+    }
+
+    // Apply the change to the current snapshot and publish the result,
+    // again on the newer snapshot when another write published first. The
+    // change may only touch keys the caller holds, so it applies to any
+    // snapshot published meanwhile.
+    private void publish(Consumer<Draft> change) {
+        while (true) {
+            Snapshot current = snapshot.get();
+            Draft draft = new Draft(current);
+            change.accept(draft);
+            if (snapshot.compareAndSet(current, draft.build())) {
+                return;
+            }
+        }
+    }
+
+    private static int completion(Chore chore) {
+        return Boolean.TRUE.equals(chore.getIsCompleted()) ? 1 : 0;
+    }
+
+    private static Chore copyOf(Chore chore) {
+        return new Chore(chore.getId(), chore.getDescription(), chore.getIsCompleted(), chore.getDeadline());
+    }
+
+    /**
+     * The chores at one point in time: by insertion order, by key, by
+     * completion and by deadline. None of the trees is changed after the
+     * snapshot is published.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Draft().build();
+
+        private final PersistentTree<Long, Chore> bySequence;
+        private final PersistentTree<ChoreKey, Slot> index;
+        private final PersistentTree<Long, Chore> completedBySequence;
+        private final PersistentTree<Long, Chore> uncompletedBySequence;
+        private final PersistentTree<DeadlineIndex.DueKey, Chore> completedDue;
+        private final PersistentTree<DeadlineIndex.DueKey, Chore> uncompletedDue;
+        private final long nextSequence;
+
+        // Read-only views handed to readers
+        private final List<Chore> all;
+        private final List<Chore> completed;
+        private final List<Chore> uncompleted;
+
+        private Snapshot(Draft draft) {
+            this.bySequence = draft.bySequence;
+            this.index = draft.index;
+            this.completedBySequence = draft.completedBySequence;
+            this.uncompletedBySequence = draft.uncompletedBySequence;
+            this.completedDue = draft.completedDue;
+            this.uncompletedDue = draft.uncompletedDue;
+            this.nextSequence = draft.nextSequence;
+            this.all = bySequence.values();
+            this.completed = completedBySequence.values();
+            this.uncompleted = uncompletedBySequence.values();
+        }
+    }
+
+    /**
+     * The next snapshot, built one change at a time. Each change replaces
+     * the trees of the draft with new versions, the snapshot it started
+     * from is left as it is.
+     */
+    private static final class Draft {
+
+        private PersistentTree<Long, Chore> bySequence;
+        private PersistentTree<ChoreKey, Slot> index;
+        private PersistentTree<Long, Chore> completedBySequence;
+        private PersistentTree<Long, Chore> uncompletedBySequence;
+        private PersistentTree<DeadlineIndex.DueKey, Chore> completedDue;
+        private PersistentTree<DeadlineIndex.DueKey, Chore> uncompletedDue;
+        private long nextSequence;
+
+        private Draft() {
+            bySequence = PersistentTree.empty();
+            index = PersistentTree.empty(KEY_ORDER);
+            completedBySequence = PersistentTree.empty();
+            uncompletedBySequence = PersistentTree.empty();
+            completedDue = PersistentTree.empty();
+            uncompletedDue = PersistentTree.empty();
+        }
+
+        private Draft(Snapshot snapshot) {
+            bySequence = snapshot.bySequence;
+            index = snapshot.index;
+            completedBySequence = snapshot.completedBySequence;
+            uncompletedBySequence = snapshot.uncompletedBySequence;
+            completedDue = snapshot.completedDue;
+            uncompletedDue = snapshot.uncompletedDue;
+            nextSequence = snapshot.nextSequence;
+        }
+
+        private void add(ChoreKey key, Chore chore) {
+            place(key, new Slot(nextSequence++, chore));
+        }
+
+        private void remove(ChoreKey key, Slot slot) {
+            unplace(slot);
+            index = index.remove(key);
+            bySequence = bySequence.remove(slot.sequence());
+        }
+
+        // The changed chore keeps the position of the previous one
+        private void replace(ChoreKey previousKey, Slot previous, ChoreKey nextKey, Chore next) {
+            unplace(previous);
+            index = index.remove(previousKey);
+            place(nextKey, new Slot(previous.sequence(), next));
+        }
+
+        private void place(ChoreKey key, Slot slot) {
+            Chore chore = slot.chore();
+            index = index.put(key, slot);
+            bySequence = bySequence.put(slot.sequence(), chore);
+            if (completion(chore) == 1) {
+                completedBySequence = completedBySequence.put(slot.sequence(), chore);
+            } else {
+                uncompletedBySequence = uncompletedBySequence.put(slot.sequence(), chore);
+            }
+            if (Objects.nonNull(chore.getDeadline())) {
+                DeadlineIndex.DueKey due = new DeadlineIndex.DueKey(chore.getDeadline(), slot.sequence());
+                if (completion(chore) == 1) {
+                    completedDue = completedDue.put(due, chore);
+                } else {
+                    uncompletedDue = uncompletedDue.put(due, chore);
+                }
+            }
+        }
+
+        // Drop the chore from the partition and deadline trees it was placed in
+        private void unplace(Slot slot) {
+            Chore chore = slot.chore();
+            if (completion(chore) == 1) {
+                completedBySequence = completedBySequence.remove(slot.sequence());
+            } else {
+                uncompletedBySequence = uncompletedBySequence.remove(slot.sequence());
+            }
+            if (Objects.nonNull(chore.getDeadline())) {
+                DeadlineIndex.DueKey due = new DeadlineIndex.DueKey(chore.getDeadline(), slot.sequence());
+                if (completion(chore) == 1) {
+                    completedDue = completedDue.remove(due);
+                } else {
+                    uncompletedDue = uncompletedDue.remove(due);
+                }
+            }
+        }
+
+        private Snapshot build() {
+            return new Snapshot(this);
+        }
+    }
+
+    private record Slot(long sequence, Chore chore) {
+    }
+
+    private record ChoreKey(String description, LocalDate deadline) {
+        static ChoreKey of(Chore chore) {
+            return new ChoreKey(chore.getDescription(), chore.getDeadline());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Chores sorted by deadline, with one sorted map per completion state, so
+ * a range of deadlines can be read in O(log n + k) for any
+ * {@link ChoreFilter}. Chores with the same deadline keep the order of
+ * their sequence number, i.e. the order they were added to the store.
+ *
+ * The maps are supplied by the store, so a concurrent store can back this
+ * with skip lists. Chores without a deadline are not indexed. Stores that
+ * keep their own sorted entries, like immutable trees, can still run the
+ * same queries through {@link #find(Ranges, ChoreFilter, LocalDate, LocalDate, int)}.
+ */
+final class DeadlineIndex {
+
+    record DueKey(LocalDate deadline, long sequence) implements Comparable<DueKey> {
+
+        @Override
+        public int compareTo(DueKey other) {
+            int byDeadline = deadline.compareTo(other.deadline);
+            return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * The entries of one completion state between two keys, in key order.
+     * Both keys are inclusive and null for no bound.
+     */
+    interface Ranges {
+        Iterator<Map.Entry<DueKey, Chore>> range(boolean completed, DueKey from, DueKey to);
+    }
+
+    private final NavigableMap<DueKey, Chore> completed;
+    private final NavigableMap<DueKey, Chore> uncompleted;
+
+    DeadlineIndex(Supplier<NavigableMap<DueKey, Chore>> maps) {
+        completed = maps.get();
+        uncompleted = maps.get();
+    }
+
+    void add(long sequence, Chore chore) {
+        if (Objects.nonNull(chore.getDeadline())) {
+            mapOf(chore).put(new DueKey(chore.getDeadline(), sequence), chore);
+        }
+    }
+
+    /**
+     * Remove the entry added for the chore. The deadline and completion it
+     * was added with are given, since the chore itself may have changed.
+     */
+    void remove(long sequence, LocalDate deadline, boolean wasCompleted) {
+        if (Objects.nonNull(deadline)) {
+            (wasCompleted ? completed : uncompleted).remove(new DueKey(deadline, sequence));
+        }
+    }
+
+    void clear() {
+        completed.clear();
+        uncompleted.clear();
+    }
+
+    /**
+     * @param filter Which chores to return
+     * @param from The first deadline to return, or null for no lower bound
+     * @param to The last deadline to return, or null for no upper bound
+     * @param limit The maximum number of chores to return
+     * @return List<Chore> The matching chores, earliest deadline first
+     */
+    List<Chore> find(ChoreFilter filter, LocalDate from, LocalDate to, int limit) {
+        return find((isCompleted, low, high) -> range(isCompleted ? completed : uncompleted, low, high)
+                .entrySet().iterator(), filter, from, to, limit);
+    }
+
+    /**
+     * Same as {@link #find(ChoreFilter, LocalDate, LocalDate, int)}, over
+     * the entries the given ranges return.
+     */
+    static List<Chore> find(Ranges ranges, ChoreFilter filter, LocalDate from, LocalDate to, int limit) {
+        if (limit <= 0 || (Objects.nonNull(from) && Objects.nonNull(to) && from.isAfter(to))) {
+            return List.of();
+        }
+        DueKey low = Objects.isNull(from) ? null : new DueKey(from, Long.MIN_VALUE);
+        DueKey high = Objects.isNull(to) ? null : new DueKey(to, Long.MAX_VALUE);
+        switch (filter) {
+            case COMPLETED:
+                return take(ranges.range(true, low, high), limit);
+            case UNCOMPLETED:
+                return take(ranges.range(false, low, high), limit);
+            case ALL:
+            default:
+                return merge(ranges.range(true, low, high), ranges.range(false, low, high), limit);
+        }
+    }
+
+    private NavigableMap<DueKey, Chore> mapOf(Chore chore) {
+        return Boolean.TRUE.equals(chore.getIsCompleted()) ? completed : uncompleted;
+    }
+
+    private static NavigableMap<DueKey, Chore> range(NavigableMap<DueKey, Chore> map, DueKey from, DueKey to) {
+        NavigableMap<DueKey, Chore> range = map;
+        if (Objects.nonNull(from)) {
+            range = range.tailMap(from, true);
+        }
+        if (Objects.nonNull(to)) {
+            range = range.headMap(to, true);
+        }
+        return range;
+    }
+
+    private static List<Chore> take(Iterator<Map.Entry<DueKey, Chore>> chores, int limit) {
+        List<Chore> result = new ArrayList<>();
+        while (chores.hasNext() && result.size() < limit) {
+            result.add(chores.next().getValue());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static List<Chore> merge(Iterator<Map.Entry<DueKey, Chore>> left,
+                                     Iterator<Map.Entry<DueKey, Chore>> right, int limit) {
+        Map.Entry<DueKey, Chore> nextLeft = left.hasNext() ? left.next() : null;
+        Map.Entry<DueKey, Chore> nextRight = right.hasNext() ? right.next() : null;
+        List<Chore> result = new ArrayList<>();
+        while (result.size() < limit && (Objects.nonNull(nextLeft) || Objects.nonNull(nextRight))) {
+            if (Objects.isNull(nextRight)
+                    || (Objects.nonNull(nextLeft) && nextLeft.getKey().compareTo(nextRight.getKey()) < 0)) {
+                result.add(nextLeft.getValue());
+                nextLeft = left.hasNext() ? left.next() : null;
+            } else {
+                result.add(nextRight.getValue());
+                nextRight = right.hasNext() ? right.next() : null;
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
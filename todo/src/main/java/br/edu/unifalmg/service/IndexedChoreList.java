@@ -0,0 +1,501 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * List of chores that keeps a hash index on (description, deadline) next to
+ * the elements, so looking a chore up by its natural key costs O(1).
+ *
+ * It also keeps the chores split into a completed and an uncompleted
+ * partition, in the order they were added, so filtering and counting by
+ * {@link ChoreFilter} cost O(1) as well, and a {@link DeadlineIndex} for
+ * deadline range queries.
+ *
+ * Every structural change (add, set, remove, clear...) goes through this
+ * class, so the index and the partitions stay in sync even when callers
+ * change the list returned by {@link ChoreService#getChores()}. Changes
+ * made through {@link #update} or {@link #rekey}, which is how
+ * ChoreService changes chores, are seen at once. Chores changed through
+ * their setters are only seen when a lookup of {@link #remove} or
+ * {@link #update} misses, and only when they were handed out or added
+ * since the previous miss: only those are checked again, and a miss costs
+ * O(1) when nothing was handed out. Handing out the list or a partition
+ * counts as handing out all of its chores once, so reading through them
+ * does not write anything.
+ */
+class IndexedChoreList extends AbstractList<Chore> implements ChoreStore, RandomAccess {
+
+    private final List<Chore> chores;
+    private final Map<ChoreKey, Chore> index;
+
+    // Where each chore was put in the partitions and the deadline index
+    private final Map<Chore, Placement> placements = new IdentityHashMap<>();
+    private final Partition completed = new Partition();
+    private final Partition uncompleted = new Partition();
+    private final DeadlineIndex deadlines = new DeadlineIndex(TreeMap::new);
+    private long nextSequence;
+
+    // The chores callers may have changed through their setters since the
+    // last miss, or all of them once that is more than half the list or the
+    // list or a partition was handed out
+    private final List<Chore> handedOut = new ArrayList<>();
+    private boolean allHandedOut;
+
+    IndexedChoreList() {
+        chores = new ArrayList<>();
+        index = new HashMap<>();
+    }
+
+    IndexedChoreList(Collection<Chore> source) {
+        chores = new ArrayList<>(source.size());
+        index = new HashMap<>(Math.max(16, (int) (source.size() / 0.75f) + 1));
+        chores.addAll(source);
+        source.forEach(this::indexChore);
+        source.forEach(this::partitionChore);
+        // The caller still holds them
+        allHandedOut = !source.isEmpty();
+    }
+
+    @Override
+    public Chore get(int position) {
+        return chores.get(position);
+    }
+
+    @Override
+    public int size() {
+        return chores.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return chores.isEmpty();
+    }
+
+    @Override
+    public Chore set(int position, Chore chore) {
+        Chore previous = chores.set(position, chore);
+        unindexChore(previous);
+        // The new chore takes the place of the previous one in its partition
+        Long sequence = unpartitionChore(previous);
+        indexChore(chore);
+        partitionChore(chore, Objects.isNull(sequence) ? nextSequence++ : sequence);
+        handOut(chore);
+        return previous;
+    }
+
+    @Override
+    public void add(int position, Chore chore) {
+        chores.add(position, chore);
+        indexChore(chore);
+        partitionChore(chore);
+        handOut(chore);
+        modCount++;
+    }
+
+    @Override
+    public Chore remove(int position) {
+        Chore removed = chores.remove(position);
+        unindexChore(removed);
+        unpartitionChore(removed);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object chore) {
+        if (!chores.remove(chore)) {
+            return false;
+        }
+        unindexChore((Chore) chore);
+        unpartitionChore((Chore) chore);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        chores.clear();
+        index.clear();
+        placements.clear();
+        completed.reset();
+        uncompleted.reset();
+        deadlines.clear();
+        handedOut.clear();
+        allHandedOut = false;
+        modCount++;
+    }
+
+    /**
+     * Find the chore with the given description and deadline.
+     *
+     * @param description The description of the chore
+     * @param deadline The deadline of the chore
+     * @return Chore The indexed chore, or null when there is none
+     */
+    @Override
+    public Chore find(String description, LocalDate deadline) {
+        Chore chore = lookup(description, deadline);
+        return Objects.isNull(chore) ? null : handOut(chore);
+    }
+
+    /**
+     * Same as {@link #find(String, LocalDate)}, but when the key is missing
+     * the chores handed out since the last miss are reindexed before giving
+     * up. This picks up chores whose description or deadline were changed
+     * through their setters, behind the back of the list.
+     */
+    Chore findOrReindex(String description, LocalDate deadline) {
+        Chore chore = find(description, deadline);
+        if (Objects.isNull(chore) && reindexHandedOut()) {
+            chore = find(description, deadline);
+        }
+        return chore;
+    }
+
+    @Override
+    public boolean addIfAbsent(Chore chore) {
+        if (Objects.nonNull(lookup(chore.getDescription(), chore.getDeadline()))) {
+            return false;
+        }
+        return add(chore);
+    }
+
+    @Override
+    public Chore remove(String description, LocalDate deadline) {
+        Chore chore = findOrReindex(description, deadline);
+        if (Objects.nonNull(chore)) {
+            remove(chore);
+        }
+        return chore;
+    }
+
+    /**
+     * Changes the chore in place, so references to it see the change. The
+     * chore moves to the other partition when its completion changed.
+     */
+    @Override
+    public Chore update(String description, LocalDate deadline, Consumer<Chore> change) {
+        Chore chore = findOrReindex(description, deadline);
+        if (Objects.nonNull(chore)) {
+            change.accept(chore);
+            reindexChore(chore);
+        }
+        return chore;
+    }
+
+    /**
+     * Removes the matching chores in one pass over the list, instead of
+     * shifting the list once per removed chore.
+     */
+    @Override
+    public List<Chore> removeMatching(Predicate<Chore> predicate) {
+        List<Chore> removed = new ArrayList<>();
+        chores.removeIf(chore -> predicate.test(chore) && removed.add(chore));
+        for (Chore chore : removed) {
+            unindexChore(chore);
+            unpartitionChore(chore);
+        }
+        if (!removed.isEmpty()) {
+            modCount++;
+        }
+        return removed;
+    }
+
+    /**
+     * Change the description and deadline of a chore, moving its index entry
+     * to the new key. The chore is changed in place, even when it is not in
+     * the list.
+     */
+    @Override
+    public Chore rekey(Chore chore, String newDescription, LocalDate newDeadline) {
+        if (Objects.nonNull(lookup(newDescription, newDeadline))) {
+            return null;
+        }
+        boolean indexed = index.remove(ChoreKey.of(chore), chore);
+        chore.setDescription(newDescription);
+        chore.setDeadline(newDeadline);
+        if (indexed) {
+            indexChore(chore);
+            repartitionChore(chore);
+        }
+        return chore;
+    }
+
+    /**
+     * @return List<Chore> This list itself, so changes to it write through
+     */
+    @Override
+    public List<Chore> list() {
+        handOutAll();
+        return this;
+    }
+
+    /**
+     * @return List<Chore> For COMPLETED and UNCOMPLETED, a read-only view
+     * of the partition that follows later changes. For ALL, this list.
+     */
+    @Override
+    public List<Chore> filter(ChoreFilter filter) {
+        handOutAll();
+        return view(filter);
+    }
+
+    @Override
+    public int count(ChoreFilter filter) {
+        return view(filter).size();
+    }
+
+    @Override
+    public List<Chore> findDue(ChoreFilter filter, LocalDate from, LocalDate to, int limit) {
+        List<Chore> due = deadlines.find(filter, from, to, limit);
+        due.forEach(this::handOut);
+        return due;
+    }
+
+    int indexSize() {
+        return index.size();
+    }
+
+    private List<Chore> view(ChoreFilter filter) {
+        switch (filter) {
+            case COMPLETED:
+                return completed;
+            case UNCOMPLETED:
+                return uncompleted;
+            case ALL:
+            default:
+                return this;
+        }
+    }
+
+    private Chore lookup(String description, LocalDate deadline) {
+        Chore chore = index.get(new ChoreKey(description, deadline));
+        if (Objects.nonNull(chore) && matches(chore, description, deadline)) {
+            return chore;
+        }
+        return null;
+    }
+
+    // Note a chore the caller holds and may change through its setters
+    private Chore handOut(Chore chore) {
+        if (!allHandedOut) {
+            if (handedOut.size() >= chores.size() / 2) {
+                allHandedOut = true;
+                handedOut.clear();
+            } else {
+                handedOut.add(chore);
+            }
+        }
+        return chore;
+    }
+
+    // Note that the caller holds every chore, through the list or a
+    // partition, so the next miss checks them all
+    private void handOutAll() {
+        allHandedOut = true;
+        handedOut.clear();
+    }
+
+    // Reindex the chores handed out since the last call. False when there
+    // were none, so nothing could have changed.
+    private boolean reindexHandedOut() {
+        if (!allHandedOut && handedOut.isEmpty()) {
+            return false;
+        }
+        List<Chore> changed = allHandedOut ? chores : handedOut;
+        for (Chore chore : changed) {
+            reindexChore(chore);
+        }
+        handedOut.clear();
+        allHandedOut = false;
+        return true;
+    }
+
+    // Move the entries of a listed chore to its current key, deadline and
+    // completion, when any of them changed since it was placed
+    private void reindexChore(Chore chore) {
+        Placement placement = placements.get(chore);
+        if (Objects.isNull(placement)) {
+            return;
+        }
+        if (!matches(chore, placement.description(), placement.deadline())) {
+            index.remove(new ChoreKey(placement.description(), placement.deadline()), chore);
+            indexChore(chore);
+        }
+        repartitionChore(chore);
+    }
+
+    private void indexChore(Chore chore) {
+        // Replace entries left behind by chores whose key changed in place
+        index.compute(ChoreKey.of(chore), (key, existing) ->
+                Objects.isNull(existing) || !matches(existing, key.description(), key.deadline())
+                        ? chore : existing);
+    }
+
+    private void unindexChore(Chore chore) {
+        index.remove(ChoreKey.of(chore), chore);
+        // The chore may have been changed behind our back
+        Placement placement = placements.get(chore);
+        if (Objects.nonNull(placement)) {
+            index.remove(new ChoreKey(placement.description(), placement.deadline()), chore);
+        }
+    }
+
+    private void partitionChore(Chore chore) {
+        partitionChore(chore, nextSequence++);
+    }
+
+    private void partitionChore(Chore chore, long sequence) {
+        Placement placement = new Placement(sequence, chore.getDescription(), chore.getDeadline(), isCompleted(chore));
+        placements.put(chore, placement);
+        partitionOf(placement.completed()).put(sequence, chore);
+        deadlines.add(sequence, chore);
+    }
+
+    private Long unpartitionChore(Chore chore) {
+        // Use the placement, the chore may have been changed behind our back
+        Placement placement = placements.remove(chore);
+        if (Objects.isNull(placement)) {
+            return null;
+        }
+        partitionOf(placement.completed()).drop(placement.sequence());
+        deadlines.remove(placement.sequence(), placement.deadline(), placement.completed());
+        return placement.sequence();
+    }
+
+    private void repartitionChore(Chore chore) {
+        Placement placement = placements.get(chore);
+        if (Objects.nonNull(placement)
+                && (placement.completed() != isCompleted(chore)
+                || !matches(chore, placement.description(), placement.deadline()))) {
+            unpartitionChore(chore);
+            partitionChore(chore, placement.sequence());
+        }
+    }
+
+    private Partition partitionOf(boolean isCompleted) {
+        return isCompleted ? completed : uncompleted;
+    }
+
+    private static boolean isCompleted(Chore chore) {
+        return Boolean.TRUE.equals(chore.getIsCompleted());
+    }
+
+    private static boolean matches(Chore chore, String description, LocalDate deadline) {
+        return Objects.equals(chore.getDescription(), description)
+                && Objects.equals(chore.getDeadline(), deadline);
+    }
+
+    /**
+     * Read-only list of the chores of one partition, ordered by when they
+     * were added. The chores are kept in an array sorted by sequence, so
+     * positional access and adding a chore after the others cost O(1). Any
+     * other change is a binary search plus one array copy, like removing
+     * from an ArrayList.
+     */
+    private final class Partition extends AbstractList<Chore> implements RandomAccess {
+
+        private long[] sequences = new long[16];
+        private Chore[] chores = new Chore[16];
+        private int size;
+
+        @Override
+        public Chore get(int position) {
+            return chores[Objects.checkIndex(position, size)];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Chore> iterator() {
+            return new Iterator<>() {
+                private final int expectedModCount = modCount;
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Chore next() {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return chores[next++];
+                }
+            };
+        }
+
+        private void put(long sequence, Chore chore) {
+            int position = Arrays.binarySearch(sequences, 0, size, sequence);
+            if (position >= 0) {
+                chores[position] = chore;
+                modCount++;
+                return;
+            }
+            position = -position - 1;
+            if (size == chores.length) {
+                sequences = Arrays.copyOf(sequences, size * 2);
+                chores = Arrays.copyOf(chores, size * 2);
+            }
+            System.arraycopy(sequences, position, sequences, position + 1, size - position);
+            System.arraycopy(chores, position, chores, position + 1, size - position);
+            sequences[position] = sequence;
+            chores[position] = chore;
+            size++;
+            modCount++;
+        }
+
+        private void drop(long sequence) {
+            int position = Arrays.binarySearch(sequences, 0, size, sequence);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(sequences, position + 1, sequences, position, size - position - 1);
+            System.arraycopy(chores, position + 1, chores, position, size - position - 1);
+            chores[--size] = null;
+            modCount++;
+        }
+
+        private void reset() {
+            Arrays.fill(chores, 0, size, null);
+            size = 0;
+            modCount++;
+        }
+    }
+
+    private record Placement(long sequence, String description, LocalDate deadline, boolean completed) {
+    }
+
+    private record ChoreKey(String description, LocalDate deadline) {
+        static ChoreKey of(Chore chore) {
+            return new ChoreKey(chore.getDescription(), chore.getDeadline());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.edu.unifalmg.service;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One lock per key, made when a thread first asks for it and dropped once
+ * no thread holds or waits for it, so memory follows the keys in use.
+ *
+ * The locks are ReentrantLocks rather than monitors, so a thread waiting
+ * on one, or holding one across a repository call, does not pin a virtual
+ * thread to its carrier. Two keys are always taken in the order of the
+ * comparator, so writers that lock two keys cannot deadlock.
+ */
+final class KeyLocks<K> {
+
+    private final Map<K, Entry> locks = new ConcurrentHashMap<>();
+    private final Comparator<? super K> order;
+
+    KeyLocks(Comparator<? super K> order) {
+        this.order = order;
+    }
+
+    void lock(K key) {
+        Entry entry = locks.compute(key, (ignored, current) -> {
+            Entry next = Objects.isNull(current) ? new Entry() : current;
+            next.users++;
+            return next;
+        });
+        entry.lock.lock();
+    }
+
+    void unlock(K key) {
+        locks.get(key).lock.unlock();
+        locks.computeIfPresent(key, (ignored, entry) -> --entry.users == 0 ? null : entry);
+    }
+
+    /**
+     * Lock both keys, in the order of the comparator.
+     */
+    void lock(K first, K second) {
+        boolean swap = order.compare(first, second) > 0;
+        lock(swap ? second : first);
+        lock(swap ? first : second);
+    }
+
+    void unlock(K first, K second) {
+        unlock(first);
+        unlock(second);
+    }
+
+    // Only changed within compute, so it needs no other guard
+    private static final class Entry {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users;
+    }
+}
@@ -0,0 +1,324 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.exception.ChorePersistenceException;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Chore store for {@link br.edu.unifalmg.enumerator.ChoreStoreMode#LAZY}.
+ * Nothing is read up front: the repository stays the only full copy of the
+ * chores, and the store keeps a working set of at most maxPages pages of
+ * pageSize chores each, dropping the least recently used page when a new
+ * one is read. Startup costs nothing and memory follows what is used, not
+ * how many chores are stored.
+ *
+ * Pages are read by id with {@link ChoresRepository#loadPage}, so list()
+ * reads in id order, and reading it from start to end reads each page
+ * once. Lookups by key go to the repository unless the chore is in a
+ * cached page. Filters, counts and deadline queries stream the repository,
+ * holding only their results.
+ *
+ * Changes are written to the repository straight away, so the repository
+ * must support update and delete, and a write the repository refuses
+ * throws {@link ChorePersistenceException}. So does a page or count the
+ * repository cannot read, which is never cached as an empty result. An update only drops the
+ * cached page holding the chore. A delete moves the boundaries of the
+ * pages after it, so those are dropped too, and an insert drops the last
+ * page, as repositories give new chores ids greater than the stored ones.
+ */
+class LazyChoreStore implements ChoreStore {
+
+    static final int DEFAULT_PAGE_SIZE = 1000;
+    static final int DEFAULT_MAX_PAGES = 16;
+
+    private final ChoresRepository repository;
+    private final int pageSize;
+    private final int maxPages;
+
+    // Page number to chores, least recently used first
+    private final LinkedHashMap<Integer, List<Chore>> pages = new LinkedHashMap<>(16, 0.75f, true);
+    // The chores of the cached pages by key
+    private final Map<ChoreKey, Chore> cached = new HashMap<>();
+    // The id each known page starts after, the first page starts after 0
+    private final List<Long> pageStarts = new ArrayList<>();
+    // Unknown until asked for
+    private int size = -1;
+
+    private final List<Chore> view = new PagedList();
+
+    LazyChoreStore(ChoresRepository repository) {
+        this(repository, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+
+    LazyChoreStore(ChoresRepository repository, int pageSize, int maxPages) {
+        this.repository = repository;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        invalidate();
+    }
+
+    @Override
+    public Chore find(String description, LocalDate deadline) {
+        Chore chore = cached.get(new ChoreKey(description, deadline));
+        return Objects.nonNull(chore) ? chore : repository.find(description, deadline);
+    }
+
+    /**
+     * Only checks the key is free, the service saves the chore itself.
+     */
+    @Override
+    public boolean addIfAbsent(Chore chore) {
+        if (Objects.nonNull(find(chore.getDescription(), chore.getDeadline()))) {
+            return false;
+        }
+        dropPage(pageStarts.size() - 1);
+        size = -1;
+        return true;
+    }
+
+    @Override
+    public Chore remove(String description, LocalDate deadline) {
+        Chore chore = find(description, deadline);
+        if (Objects.isNull(chore)) {
+            return null;
+        }
+        if (!repository.delete(chore)) {
+            throw new ChorePersistenceException("Unable to delete the chore on the repository");
+        }
+        removed(chore);
+        return chore;
+    }
+
+    @Override
+    public Chore update(String description, LocalDate deadline, Consumer<Chore> change) {
+        Chore chore = find(description, deadline);
+        if (Objects.isNull(chore)) {
+            return null;
+        }
+        Chore changed = copyOf(chore);
+        change.accept(changed);
+        if (!repository.update(changed)) {
+            throw new ChorePersistenceException("Unable to update the chore on the repository");
+        }
+        updated(chore);
+        return changed;
+    }
+
+    @Override
+    public Chore rekey(Chore chore, String newDescription, LocalDate newDeadline) {
+        if (Objects.nonNull(find(newDescription, newDeadline))) {
+            return null;
+        }
+        Chore stored = find(chore.getDescription(), chore.getDeadline());
+        Chore edited = copyOf(Objects.nonNull(stored) ? stored : chore);
+        edited.setDescription(newDescription);
+        edited.setDeadline(newDeadline);
+        if (!repository.update(edited)) {
+            throw new ChorePersistenceException("Unable to update the chore on the repository");
+        }
+        // Before the key changes, as the cached page may hold the given chore
+        updated(edited);
+        // Like the other single-threaded stores, the given chore is edited too
+        chore.setDescription(newDescription);
+        chore.setDeadline(newDeadline);
+        return chore;
+    }
+
+    /**
+     * @return List<Chore> A read-only view in id order that reads pages as
+     * they are reached
+     */
+    @Override
+    public List<Chore> list() {
+        return view;
+    }
+
+    @Override
+    public List<Chore> filter(ChoreFilter filter) {
+        if (filter == ChoreFilter.ALL) {
+            return view;
+        }
+        try (Stream<Chore> stored = repository.stream()) {
+            return stored.filter(matching(filter)).toList();
+        }
+    }
+
+    @Override
+    public int count(ChoreFilter filter) {
+        if (filter == ChoreFilter.ALL) {
+            return size();
+        }
+        try (Stream<Chore> stored = repository.stream()) {
+            return (int) stored.filter(matching(filter)).count();
+        }
+    }
+
+    /**
+     * Streams the repository, so it costs O(n) reads but holds only the
+     * matching chores.
+     */
+    @Override
+    public List<Chore> findDue(ChoreFilter filter, LocalDate from, LocalDate to, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        try (Stream<Chore> stored = repository.stream()) {
+            // Sorting is stable, so chores due the same day keep the id order
+            return stored.filter(matching(filter))
+                    .filter(chore -> Objects.nonNull(chore.getDeadline())
+                            && (Objects.isNull(from) || !chore.getDeadline().isBefore(from))
+                            && (Objects.isNull(to) || !chore.getDeadline().isAfter(to)))
+                    .sorted(Comparator.comparing(Chore::getDeadline))
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    /**
+     * A count the repository fails throws instead of being kept, so the
+     * next call asks again.
+     */
+    @Override
+    public int size() {
+        if (size < 0) {
+            size = (int) repository.count();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean writesThrough() {
+        return true;
+    }
+
+    private List<Chore> page(int number) {
+        List<Chore> page = pages.get(number);
+        if (Objects.nonNull(page)) {
+            return page;
+        }
+        // A page starts after the last id of the one before, so reach the
+        // unknown ones in order
+        while (pageStarts.size() <= number) {
+            if (page(pageStarts.size() - 1).size() < pageSize) {
+                return List.of();
+            }
+        }
+        page = repository.loadPage(pageStarts.get(number), pageSize);
+        if (Objects.isNull(page)) {
+            throw new ChorePersistenceException("Unable to read the chores after " + pageStarts.get(number));
+        }
+        if (page.size() == pageSize && pageStarts.size() == number + 1) {
+            pageStarts.add(page.get(page.size() - 1).getId());
+        }
+        pages.put(number, page);
+        page.forEach(chore -> cached.put(ChoreKey.of(chore), chore));
+        if (pages.size() > maxPages) {
+            Iterator<List<Chore>> eldest = pages.values().iterator();
+            eldest.next().forEach(chore -> cached.remove(ChoreKey.of(chore)));
+            eldest.remove();
+        }
+        return page;
+    }
+
+    private void invalidate() {
+        pages.clear();
+        cached.clear();
+        pageStarts.clear();
+        pageStarts.add(0L);
+        size = -1;
+    }
+
+    // The chore keeps its id, so every page keeps its boundaries
+    private void updated(Chore chore) {
+        if (Objects.isNull(chore.getId())) {
+            invalidate();
+            return;
+        }
+        dropPage(pageOf(chore.getId()));
+    }
+
+    // The pages after the chore's now start one chore later
+    private void removed(Chore chore) {
+        if (Objects.isNull(chore.getId())) {
+            invalidate();
+            return;
+        }
+        int number = pageOf(chore.getId());
+        while (pageStarts.size() > number + 1) {
+            dropPage(pageStarts.size() - 1);
+            pageStarts.remove(pageStarts.size() - 1);
+        }
+        dropPage(number);
+        if (size > 0) {
+            size--;
+        }
+    }
+
+    private int pageOf(long id) {
+        // Each start is the last id of the page before
+        int index = Collections.binarySearch(pageStarts, id);
+        return index >= 0 ? index - 1 : -index - 2;
+    }
+
+    private void dropPage(int number) {
+        List<Chore> page = pages.remove(number);
+        if (Objects.nonNull(page)) {
+            page.forEach(chore -> cached.remove(ChoreKey.of(chore)));
+        }
+    }
+
+    private static Predicate<Chore> matching(ChoreFilter filter) {
+        switch (filter) {
+            case COMPLETED:
+                return chore -> Boolean.TRUE.equals(chore.getIsCompleted());
+            case UNCOMPLETED:
+                return chore -> !Boolean.TRUE.equals(chore.getIsCompleted());
+            case ALL:
+            default:
+                return chore -> true;
+        }
+    }
+
+    private static Chore copyOf(Chore chore) {
+        return new Chore(chore.getId(), chore.getDescription(), chore.getIsCompleted(), chore.getDeadline());
+    }
+
+    private class PagedList extends AbstractList<Chore> implements RandomAccess {
+
+        @Override
+        public Chore get(int index) {
+            if (index < 0 || index % pageSize >= page(index / pageSize).size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return page(index / pageSize).get(index % pageSize);
+        }
+
+        @Override
+        public int size() {
+            return LazyChoreStore.this.size();
+        }
+    }
+
+    private record ChoreKey(String description, LocalDate deadline) {
+        static ChoreKey of(Chore chore) {
+            return new ChoreKey(chore.getDescription(), chore.getDeadline());
+        }
+    }
+}
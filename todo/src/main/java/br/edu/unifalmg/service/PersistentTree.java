@@ -0,0 +1,277 @@
+package br.edu.unifalmg.service;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable sorted map, kept as an AVL tree whose nodes also know the size
+ * of their subtree.
+ *
+ * A put or remove returns a new tree that shares every node with this one
+ * except the O(log n) nodes on the path to the key, so a copy-on-write store
+ * can publish a new version per write without copying the others. Lookups,
+ * positional access and the start of a range cost O(log n) as well.
+ */
+final class PersistentTree<K, V> {
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+
+    private PersistentTree(Comparator<? super K> comparator, Node<K, V> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    static <K extends Comparable<? super K>, V> PersistentTree<K, V> empty() {
+        return new PersistentTree<>(Comparator.naturalOrder(), null);
+    }
+
+    static <K, V> PersistentTree<K, V> empty(Comparator<? super K> comparator) {
+        return new PersistentTree<>(comparator, null);
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * @return V The value of the key, or null when there is none
+     */
+    V get(K key) {
+        Node<K, V> node = root;
+        while (Objects.nonNull(node)) {
+            int comparison = comparator.compare(key, node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * @return PersistentTree The tree with the key set to the value
+     */
+    PersistentTree<K, V> put(K key, V value) {
+        return new PersistentTree<>(comparator, put(root, key, value));
+    }
+
+    /**
+     * @return PersistentTree The tree without the key, or this tree when
+     * the key is not in it
+     */
+    PersistentTree<K, V> remove(K key) {
+        Node<K, V> next = remove(root, key);
+        return next == root ? this : new PersistentTree<>(comparator, next);
+    }
+
+    /**
+     * @return V The value at the given position in key order
+     */
+    V valueAt(int position) {
+        Objects.checkIndex(position, size());
+        Node<K, V> node = root;
+        while (true) {
+            int left = size(node.left);
+            if (position < left) {
+                node = node.left;
+            } else if (position == left) {
+                return node.value;
+            } else {
+                position -= left + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * @return List<V> A read-only view of the values in key order. Positional
+     * access costs O(log n), iterating costs O(n).
+     */
+    List<V> values() {
+        return new Values();
+    }
+
+    /**
+     * @param from The first key to return, or null for no lower bound
+     * @param to The last key to return, or null for no upper bound
+     * @return Iterator The entries between both keys, in key order
+     */
+    Iterator<Map.Entry<K, V>> entries(K from, K to) {
+        return new Entries(from, to);
+    }
+
+    private Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (Objects.isNull(node)) {
+            return new Node<>(key, value, null, null);
+        }
+        int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        }
+        if (comparison > 0) {
+            return balance(node.key, node.value, node.left, put(node.right, key, value));
+        }
+        return new Node<>(key, value, node.left, node.right);
+    }
+
+    private Node<K, V> remove(Node<K, V> node, K key) {
+        if (Objects.isNull(node)) {
+            return null;
+        }
+        int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        }
+        if (comparison > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+        if (Objects.isNull(node.left)) {
+            return node.right;
+        }
+        if (Objects.isNull(node.right)) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (Objects.nonNull(successor.left)) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private static <K, V> Node<K, V> removeFirst(Node<K, V> node) {
+        if (Objects.isNull(node.left)) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    // Build a node over two AVL subtrees whose heights differ by two at most
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.key, left.value, left.left, left.right);
+            }
+            return rotateRight(key, value, left, right);
+        }
+        if (difference < -1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.key, right.value, right.left, right.right);
+            }
+            return rotateLeft(key, value, left, right);
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static <K, V> Node<K, V> rotateRight(K key, V value, Node<K, V> left, Node<K, V> right) {
+        return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+    }
+
+    private static <K, V> Node<K, V> rotateLeft(K key, V value, Node<K, V> left, Node<K, V> right) {
+        return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+    }
+
+    private static int height(Node<?, ?> node) {
+        return Objects.isNull(node) ? 0 : node.height;
+    }
+
+    private static int size(Node<?, ?> node) {
+        return Objects.isNull(node) ? 0 : node.size;
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        private Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private final class Values extends AbstractList<V> {
+
+        @Override
+        public V get(int position) {
+            return valueAt(position);
+        }
+
+        @Override
+        public int size() {
+            return PersistentTree.this.size();
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            Iterator<Map.Entry<K, V>> entries = entries(null, null);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public V next() {
+                    return entries.next().getValue();
+                }
+            };
+        }
+    }
+
+    // In-order walk that keeps the path to the next node on a stack
+    private final class Entries implements Iterator<Map.Entry<K, V>> {
+
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+        private final K to;
+
+        private Entries(K from, K to) {
+            this.to = to;
+            Node<K, V> node = root;
+            while (Objects.nonNull(node)) {
+                if (Objects.isNull(from) || comparator.compare(node.key, from) >= 0) {
+                    path.push(node);
+                    node = node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty() && (Objects.isNull(to) || comparator.compare(path.peek().key, to) <= 0);
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = path.pop();
+            for (Node<K, V> next = node.right; Objects.nonNull(next); next = next.left) {
+                path.push(next);
+            }
+            return new AbstractMap.SimpleImmutableEntry<>(node.key, node.value);
+        }
+    }
+}
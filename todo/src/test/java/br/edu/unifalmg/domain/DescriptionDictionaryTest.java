@@ -0,0 +1,70 @@
+package br.edu.unifalmg.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DescriptionDictionaryTest {
+
+    @Test
+    @DisplayName("#intern > When the description was seen > Return the first instance")
+    void internWhenTheDescriptionWasSeenReturnTheFirstInstance() {
+        DescriptionDictionary dictionary = new DescriptionDictionary(10);
+        String first = new String("Water the plants");
+        String second = new String("Water the plants");
+
+        assertAll(
+                () -> assertSame(first, dictionary.intern(first)),
+                () -> assertSame(first, dictionary.intern(second)),
+                () -> assertEquals(1, dictionary.size())
+        );
+    }
+
+    @Test
+    @DisplayName("#intern > When the description is null > Return null")
+    void internWhenTheDescriptionIsNullReturnNull() {
+        assertNull(new DescriptionDictionary(10).intern(null));
+    }
+
+    @Test
+    @DisplayName("#intern > When the dictionary is full > Return new descriptions unchanged")
+    void internWhenTheDictionaryIsFullReturnNewDescriptionsUnchanged() {
+        DescriptionDictionary dictionary = new DescriptionDictionary(1);
+        String kept = dictionary.intern(new String("Chore #01"));
+        String other = new String("Chore #02");
+
+        assertAll(
+                () -> assertSame(other, dictionary.intern(other)),
+                () -> assertSame(kept, dictionary.intern(new String("Chore #01"))),
+                () -> assertEquals(1, dictionary.size())
+        );
+    }
+
+    @Test
+    @DisplayName("#intern > When the size is zero > Keep nothing")
+    void internWhenTheSizeIsZeroKeepNothing() {
+        DescriptionDictionary dictionary = new DescriptionDictionary(0);
+        String description = new String("Chore #01");
+
+        assertSame(description, dictionary.intern(description));
+        assertEquals(0, dictionary.size());
+    }
+
+    @Test
+    @DisplayName("#intern > When no chore uses a description any more > Drop it")
+    void internWhenNoChoreUsesADescriptionAnyMoreDropIt() throws InterruptedException {
+        DescriptionDictionary dictionary = new DescriptionDictionary(10);
+        String kept = dictionary.intern(new String("Chore #01"));
+        dictionary.intern(new String("Chore #02"));
+
+        for (int attempt = 0; attempt < 50 && dictionary.size() > 1; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertAll(
+                () -> assertEquals(1, dictionary.size()),
+                () -> assertSame(kept, dictionary.intern(new String("Chore #01")))
+        );
+    }
+}
@@ -0,0 +1,171 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.Repository.Chores.impl.BinaryChoreRepository;
+import br.edu.unifalmg.Repository.Chores.impl.JsonChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.exception.InvalidDeadlineException;
+import br.edu.unifalmg.exception.InvalidDescriptionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryChoreRepositoryTest {
+
+    @TempDir
+    private Path directory;
+
+    private BinaryChoreRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        repository = new BinaryChoreRepository();
+        repository.setFile(directory.resolve("chores.bin").toFile());
+    }
+
+    @Test
+    @DisplayName("#saveAll > When the file is loaded again > Return the same chores")
+    void saveAllWhenTheFileIsLoadedAgainReturnTheSameChores() {
+        List<Chore> chores = List.of(
+                new Chore(7L, "Assistir a aula de Gestão", Boolean.TRUE, LocalDate.of(2023, 10, 11)),
+                new Chore("Entregar a atividade proposta", Boolean.FALSE, LocalDate.of(2023, 10, 18))
+        );
+        assertTrue(repository.saveAll(chores));
+
+        List<Chore> loaded = repository.load();
+        assertAll(
+                () -> assertEquals(2, loaded.size()),
+                () -> assertEquals(7L, loaded.get(0).getId()),
+                () -> assertEquals("Assistir a aula de Gestão", loaded.get(0).getDescription()),
+                () -> assertEquals(Boolean.TRUE, loaded.get(0).getIsCompleted()),
+                () -> assertEquals(LocalDate.of(2023, 10, 11), loaded.get(0).getDeadline()),
+                () -> assertNull(loaded.get(1).getId()),
+                () -> assertEquals("Entregar a atividade proposta", loaded.get(1).getDescription()),
+                () -> assertEquals(Boolean.FALSE, loaded.get(1).getIsCompleted()),
+                () -> assertEquals(LocalDate.of(2023, 10, 18), loaded.get(1).getDeadline())
+        );
+    }
+
+    @Test
+    @DisplayName("#importFrom > When the source is a JSON file > Convert every chore")
+    void importFromWhenTheSourceIsAJsonFileConvertEveryChore() {
+        JsonChoreRepository json = new JsonChoreRepository();
+        json.setFile(directory.resolve("chores.json").toFile());
+        json.saveAll(new ArrayList<>(List.of(
+                new Chore("Chore #01", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.TRUE, LocalDate.now().plusDays(1))
+        )));
+
+        assertTrue(repository.importFrom(json));
+
+        List<Chore> loaded = repository.load();
+        assertEquals(List.of("Chore #01", "Chore #02"), loaded.stream().map(Chore::getDescription).toList());
+        assertEquals(List.of(1L, 2L), loaded.stream().map(Chore::getId).toList());
+    }
+
+    @Test
+    @DisplayName("#load > When the file is not found > Return an empty list")
+    void loadWhenTheFileIsNotFoundReturnAnEmptyList() {
+        assertTrue(repository.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("#load > When the file is not a chores snapshot > Return an empty list")
+    void loadWhenTheFileIsNotAChoresSnapshotReturnAnEmptyList() throws IOException {
+        Files.writeString(directory.resolve("chores.bin"), "[{\"description\": \"JSON\"}]");
+        assertTrue(repository.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("#load > When the file is truncated > Return an empty list")
+    void loadWhenTheFileIsTruncatedReturnAnEmptyList() throws IOException {
+        repository.saveAll(List.of(new Chore("Chore #01", Boolean.FALSE, LocalDate.now())));
+        Path file = directory.resolve("chores.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 3);
+        }
+        assertTrue(repository.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("#save/#update/#delete > When single chores are written > Load them back")
+    void saveUpdateDeleteWhenSingleChoresAreWrittenLoadThemBack() throws IOException {
+        repository.saveAll(List.of(new Chore(3L, "Chore #01", Boolean.FALSE, LocalDate.of(2023, 10, 11))));
+        Chore second = new Chore("Chore #02", Boolean.FALSE, LocalDate.of(2023, 10, 12));
+        Chore third = new Chore("Chore #03", Boolean.FALSE, LocalDate.of(2023, 10, 13));
+        assertTrue(repository.save(second));
+        assertTrue(repository.save(third));
+        long size = Files.size(directory.resolve("chores.bin"));
+
+        second.setIsCompleted(Boolean.TRUE);
+        assertTrue(repository.update(second));
+        assertEquals(size, Files.size(directory.resolve("chores.bin")));
+        third.setDescription("Chore #03 edited");
+        assertTrue(repository.update(third));
+        assertTrue(repository.delete(new Chore(3L, "Chore #01", Boolean.FALSE, LocalDate.of(2023, 10, 11))));
+
+        List<Chore> loaded = repository.load();
+        assertAll(
+                () -> assertEquals(List.of(4L, 5L), List.of(second.getId(), third.getId())),
+                () -> assertEquals(List.of("Chore #02", "Chore #03 edited"),
+                        loaded.stream().map(Chore::getDescription).toList()),
+                () -> assertEquals(List.of(4L, 5L), loaded.stream().map(Chore::getId).toList()),
+                () -> assertEquals(Boolean.TRUE, loaded.get(0).getIsCompleted())
+        );
+    }
+
+    @Test
+    @DisplayName("#save > When the file is not found > Create it")
+    void saveWhenTheFileIsNotFoundCreateIt() {
+        assertTrue(repository.save(new Chore("Chore #01", Boolean.FALSE, LocalDate.now())));
+        assertEquals(List.of(1L), repository.load().stream().map(Chore::getId).toList());
+    }
+
+    @Test
+    @DisplayName("#save > When a crash left part of a chore behind > Write over it")
+    void saveWhenACrashLeftPartOfAChoreBehindWriteOverIt() throws IOException {
+        repository.saveAll(List.of(new Chore(1L, "Chore #01", Boolean.FALSE, LocalDate.now())));
+        Files.write(directory.resolve("chores.bin"), new byte[]{1, 0, 0}, StandardOpenOption.APPEND);
+
+        assertTrue(repository.save(new Chore("Chore #02", Boolean.FALSE, LocalDate.now())));
+
+        assertEquals(List.of("Chore #01", "Chore #02"),
+                repository.load().stream().map(Chore::getDescription).toList());
+    }
+
+    @Test
+    @DisplayName("#update/#delete > When the chore is not stored > Return false")
+    void updateDeleteWhenTheChoreIsNotStoredReturnFalse() {
+        repository.saveAll(List.of(new Chore(1L, "Chore #01", Boolean.FALSE, LocalDate.now())));
+        Chore missing = new Chore(2L, "Chore #02", Boolean.FALSE, LocalDate.now());
+        assertAll(
+                () -> assertFalse(repository.update(missing)),
+                () -> assertFalse(repository.delete(missing)),
+                () -> assertFalse(repository.update(new Chore("Chore #01", Boolean.TRUE, LocalDate.now())))
+        );
+    }
+
+    @Test
+    @DisplayName("#save/#update/#saveAll > When the description or deadline is null > Throw an exception")
+    void saveUpdateSaveAllWhenTheDescriptionOrDeadlineIsNullThrowAnException() {
+        Chore noDescription = new Chore(1L, null, Boolean.FALSE, LocalDate.now());
+        Chore noDeadline = new Chore(1L, "Chore #01", Boolean.FALSE, null);
+        assertAll(
+                () -> assertThrows(InvalidDescriptionException.class, () -> repository.save(noDescription)),
+                () -> assertThrows(InvalidDeadlineException.class, () -> repository.update(noDeadline)),
+                () -> assertThrows(InvalidDescriptionException.class, () -> repository.saveAll(List.of(noDescription))),
+                () -> assertFalse(Files.exists(directory.resolve("chores.bin")))
+        );
+    }
+}
@@ -0,0 +1,219 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.Repository.Chores.impl.CachingChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingChoreRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 10);
+
+    @Mock
+    private ChoresRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("#find > When the same chore is found twice > Ask the repository once")
+    void findWhenTheSameChoreIsFoundTwiceAskTheRepositoryOnce() {
+        Mockito.when(repository.find("Chore #01", DAY)).thenReturn(new Chore(1L, "Chore #01", Boolean.FALSE, DAY));
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 10);
+
+        Chore first = cache.find("Chore #01", DAY);
+        Chore second = cache.find("Chore #01", DAY);
+        assertAll(
+                () -> assertEquals("Chore #01", second.getDescription()),
+                () -> assertEquals(1L, second.getId()),
+                () -> assertNotSame(first, second),
+                () -> assertEquals(1, cache.getHits()),
+                () -> assertEquals(1, cache.getMisses())
+        );
+        Mockito.verify(repository, Mockito.times(1)).find("Chore #01", DAY);
+    }
+
+    @Test
+    @DisplayName("#find > When the repository has no such chore > Return null and cache nothing")
+    void findWhenTheRepositoryHasNoSuchChoreReturnNullAndCacheNothing() {
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 10);
+
+        assertNull(cache.find("Chore #01", DAY));
+        assertNull(cache.find("Chore #01", DAY));
+        assertAll(
+                () -> assertEquals(0, cache.size()),
+                () -> assertEquals(2, cache.getMisses())
+        );
+    }
+
+    @Test
+    @DisplayName("#find > When a returned chore is changed > Keep the cached chore as it was")
+    void findWhenAReturnedChoreIsChangedKeepTheCachedChoreAsItWas() {
+        Mockito.when(repository.find("Chore #01", DAY)).thenReturn(new Chore(1L, "Chore #01", Boolean.FALSE, DAY));
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 10);
+
+        cache.find("Chore #01", DAY).setIsCompleted(Boolean.TRUE);
+        assertFalse(cache.find("Chore #01", DAY).getIsCompleted());
+    }
+
+    @Test
+    @DisplayName("#save > When the repository saves the chore > Find it without asking the repository")
+    void saveWhenTheRepositorySavesTheChoreFindItWithoutAskingTheRepository() {
+        Mockito.when(repository.save(Mockito.any())).thenAnswer(invocation -> {
+            invocation.<Chore>getArgument(0).setId(7L);
+            return true;
+        });
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 10);
+
+        assertTrue(cache.save(new Chore("Chore #01", Boolean.FALSE, DAY)));
+        assertEquals(7L, cache.find("Chore #01", DAY).getId());
+        Mockito.verify(repository, Mockito.never()).find(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("#save > When the repository fails > Return false and cache nothing")
+    void saveWhenTheRepositoryFailsReturnFalseAndCacheNothing() {
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 10);
+
+        assertFalse(cache.save(new Chore(1L, "Chore #01", Boolean.FALSE, DAY)));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("#update > When the chore did not change > Skip the repository")
+    void updateWhenTheChoreDidNotChangeSkipTheRepository() {
+        Mockito.when(repository.update(Mockito.any())).thenReturn(true);
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 10);
+        Chore chore = new Chore(1L, "Chore #01", Boolean.FALSE, DAY);
+
+        assertTrue(cache.update(chore));
+        assertTrue(cache.update(chore));
+        chore.setIsCompleted(Boolean.TRUE);
+        assertTrue(cache.update(chore));
+        Mockito.verify(repository, Mockito.times(2)).update(chore);
+    }
+
+    @Test
+    @DisplayName("#update > When the description changes > Find the chore by its new key only")
+    void updateWhenTheDescriptionChangesFindTheChoreByItsNewKeyOnly() {
+        Mockito.when(repository.update(Mockito.any())).thenReturn(true);
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 10);
+        Chore chore = new Chore(1L, "Chore #01", Boolean.FALSE, DAY);
+        cache.update(chore);
+
+        chore.setDescription("Chore #02");
+        cache.update(chore);
+        assertAll(
+                () -> assertEquals(1L, cache.find("Chore #02", DAY).getId()),
+                () -> assertNull(cache.find("Chore #01", DAY)),
+                () -> assertEquals(1, cache.size())
+        );
+    }
+
+    @Test
+    @DisplayName("#delete > When the repository deletes the chore > Drop it from the cache")
+    void deleteWhenTheRepositoryDeletesTheChoreDropItFromTheCache() {
+        Mockito.when(repository.update(Mockito.any())).thenReturn(true);
+        Mockito.when(repository.delete(Mockito.any())).thenReturn(true);
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 10);
+        Chore chore = new Chore(1L, "Chore #01", Boolean.FALSE, DAY);
+        cache.update(chore);
+
+        assertTrue(cache.delete(chore));
+        assertNull(cache.find("Chore #01", DAY));
+        Mockito.verify(repository).find("Chore #01", DAY);
+    }
+
+    @Test
+    @DisplayName("#find > When the chore is deleted while it is read > Not cache the deleted chore")
+    void findWhenTheChoreIsDeletedWhileItIsReadNotCacheTheDeletedChore() {
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 10);
+        Chore stored = new Chore(1L, "Chore #01", Boolean.FALSE, DAY);
+        Mockito.when(repository.delete(Mockito.any())).thenReturn(true);
+        Mockito.when(repository.find("Chore #01", DAY)).thenAnswer(invocation -> {
+            // The delete lands after the row was read
+            cache.delete(stored);
+            return new Chore(1L, "Chore #01", Boolean.FALSE, DAY);
+        });
+
+        assertNotNull(cache.find("Chore #01", DAY));
+        assertAll(
+                () -> assertEquals(0, cache.size()),
+                () -> assertEquals(0, cache.getHits())
+        );
+    }
+
+    @Test
+    @DisplayName("#saveAll > When the chores are saved > Start the cache over")
+    void saveAllWhenTheChoresAreSavedStartTheCacheOver() {
+        Mockito.when(repository.update(Mockito.any())).thenReturn(true);
+        Mockito.when(repository.saveAll(Mockito.any())).thenReturn(true);
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 10);
+        cache.update(new Chore(1L, "Chore #01", Boolean.FALSE, DAY));
+
+        assertTrue(cache.saveAll(List.of()));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("#find > When more chores are found than fit in an LRU cache > Evict the least recently used")
+    void findWhenMoreChoresAreFoundThanFitInAnLruCacheEvictTheLeastRecentlyUsed() {
+        for (long i = 1; i <= 4; i++) {
+            Mockito.when(repository.find("Chore #" + i, DAY)).thenReturn(new Chore(i, "Chore #" + i, Boolean.FALSE, DAY));
+        }
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 3, false);
+        cache.find("Chore #1", DAY);
+        cache.find("Chore #2", DAY);
+        cache.find("Chore #3", DAY);
+        cache.find("Chore #1", DAY);
+
+        cache.find("Chore #4", DAY);
+        assertAll(
+                () -> assertEquals(3, cache.size()),
+                () -> assertEquals(1, cache.getEvictions())
+        );
+        cache.find("Chore #1", DAY);
+        cache.find("Chore #2", DAY);
+        Mockito.verify(repository, Mockito.times(1)).find("Chore #1", DAY);
+        Mockito.verify(repository, Mockito.times(2)).find("Chore #2", DAY);
+    }
+
+    @Test
+    @DisplayName("#find > When a scan of one-off chores passes through > Keep the frequently used chores")
+    void findWhenAScanOfOneOffChoresPassesThroughKeepTheFrequentlyUsedChores() {
+        Mockito.when(repository.find(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            String description = invocation.getArgument(0);
+            return new Chore(Long.parseLong(description.substring(7)), description, Boolean.FALSE, DAY);
+        });
+        CachingChoreRepository cache = new CachingChoreRepository(repository, 100);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 1; i <= 50; i++) {
+                cache.find("Chore #" + i, DAY);
+            }
+        }
+        for (int i = 1000; i < 2000; i++) {
+            cache.find("Chore #" + i, DAY);
+        }
+
+        long misses = cache.getMisses();
+        for (int i = 1; i <= 50; i++) {
+            cache.find("Chore #" + i, DAY);
+        }
+        assertAll(
+                () -> assertEquals(misses, cache.getMisses()),
+                () -> assertTrue(cache.size() <= 100)
+        );
+    }
+}
@@ -0,0 +1,140 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.Repository.Chores.book.ChoreBook;
+import br.edu.unifalmg.Repository.Chores.pool.ConnectionPool;
+import br.edu.unifalmg.Repository.Chores.pool.ConnectionPoolSettings;
+import br.edu.unifalmg.Repository.Chores.pool.PooledConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionPoolTest {
+
+    private EmbeddedChoreDatabase database;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        database = new EmbeddedChoreDatabase();
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("#borrow > When a connection was released > Reuse it")
+    void borrowWhenAConnectionWasReleasedReuseIt() throws SQLException {
+        try (ConnectionPool pool = new ConnectionPool(database.getUrl(), ConnectionPoolSettings.defaults())) {
+            Connection first;
+            try (PooledConnection connection = pool.borrow()) {
+                first = connection.getConnection();
+            }
+            assertEquals(1, pool.idleCount());
+            try (PooledConnection connection = pool.borrow()) {
+                assertSame(first, connection.getConnection());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("#close > When a borrowed connection is closed twice > Release it once")
+    void closeWhenABorrowedConnectionIsClosedTwiceReleaseItOnce() throws SQLException {
+        ConnectionPoolSettings settings = ConnectionPoolSettings.builder()
+                .maxSize(1)
+                .borrowTimeout(Duration.ofMillis(50))
+                .build();
+        try (ConnectionPool pool = new ConnectionPool(database.getUrl(), settings)) {
+            PooledConnection first = pool.borrow();
+            first.close();
+            try (PooledConnection second = pool.borrow()) {
+                first.close();
+                assertEquals(0, pool.idleCount());
+                assertThrows(SQLTimeoutException.class, pool::borrow);
+            }
+            assertEquals(1, pool.idleCount());
+        }
+    }
+
+    @Test
+    @DisplayName("#borrow > When every connection is in use > Throw a timeout exception")
+    void borrowWhenEveryConnectionIsInUseThrowATimeoutException() throws SQLException {
+        ConnectionPoolSettings settings = ConnectionPoolSettings.builder()
+                .maxSize(1)
+                .borrowTimeout(Duration.ofMillis(50))
+                .build();
+        try (ConnectionPool pool = new ConnectionPool(database.getUrl(), settings);
+             PooledConnection ignored = pool.borrow()) {
+            assertThrows(SQLTimeoutException.class, pool::borrow);
+        }
+    }
+
+    @Test
+    @DisplayName("#borrow > When the idle connection expired > Open a new connection")
+    void borrowWhenTheIdleConnectionExpiredOpenANewConnection() throws SQLException {
+        ConnectionPoolSettings settings = ConnectionPoolSettings.builder()
+                .idleTimeout(Duration.ZERO)
+                .build();
+        try (ConnectionPool pool = new ConnectionPool(database.getUrl(), settings)) {
+            Connection first;
+            try (PooledConnection connection = pool.borrow()) {
+                first = connection.getConnection();
+            }
+            try (PooledConnection connection = pool.borrow()) {
+                assertNotSame(first, connection.getConnection());
+            }
+            assertTrue(first.isClosed());
+        }
+    }
+
+    @Test
+    @DisplayName("#borrow > When the idle connection is no longer valid > Open a new connection")
+    void borrowWhenTheIdleConnectionIsNoLongerValidOpenANewConnection() throws SQLException {
+        ConnectionPoolSettings settings = ConnectionPoolSettings.builder()
+                .validationInterval(Duration.ZERO)
+                .build();
+        try (ConnectionPool pool = new ConnectionPool(database.getUrl(), settings)) {
+            Connection first;
+            try (PooledConnection connection = pool.borrow()) {
+                first = connection.getConnection();
+            }
+            // Simulate the server dropping the idle connection
+            first.close();
+            try (PooledConnection connection = pool.borrow()) {
+                assertNotSame(first, connection.getConnection());
+                assertTrue(connection.getConnection().isValid(1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("#prepareStatement > When the same SQL is prepared twice > Reuse the statement")
+    void prepareStatementWhenTheSameSqlIsPreparedTwiceReuseTheStatement() throws SQLException {
+        try (ConnectionPool pool = new ConnectionPool(database.getUrl(), ConnectionPoolSettings.defaults());
+             PooledConnection connection = pool.borrow()) {
+            assertSame(connection.prepareStatement(ChoreBook.INSERT_CHORE),
+                    connection.prepareStatement(ChoreBook.INSERT_CHORE));
+        }
+    }
+
+    @Test
+    @DisplayName("#close > When the pool is closed > Close idle connections and refuse to borrow")
+    void closeWhenThePoolIsClosedCloseIdleConnectionsAndRefuseToBorrow() throws SQLException {
+        ConnectionPool pool = new ConnectionPool(database.getUrl(), ConnectionPoolSettings.defaults());
+        Connection first;
+        try (PooledConnection connection = pool.borrow()) {
+            first = connection.getConnection();
+        }
+        pool.close();
+        assertTrue(first.isClosed());
+        assertThrows(SQLException.class, pool::borrow);
+    }
+}
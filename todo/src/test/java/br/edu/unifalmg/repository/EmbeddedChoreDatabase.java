@@ -0,0 +1,101 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.Repository.Chores.book.ChoreBook;
+import br.edu.unifalmg.domain.Chore;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-memory H2 database running in MySQL mode with the same tododb.chore
+ * table the application uses, so MySQLChoreRepository can run offline in
+ * tests and benchmarks.
+ */
+public class EmbeddedChoreDatabase implements AutoCloseable {
+
+    private static final String CREATE_SCHEMA = "CREATE SCHEMA IF NOT EXISTS tododb";
+
+    private static final String CREATE_TABLE = "CREATE TABLE tododb.chore ("
+            + " `choreID` BIGINT AUTO_INCREMENT PRIMARY KEY,"
+            + " `description` VARCHAR(255) NOT NULL,"
+            + " `isCompleted` BOOLEAN NOT NULL,"
+            + " `deadline` DATE NOT NULL)";
+
+    private final String url;
+    private final Connection keepAlive;
+
+    public EmbeddedChoreDatabase() throws SQLException {
+        url = "jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        keepAlive = DriverManager.getConnection(url);
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute(CREATE_SCHEMA);
+            statement.execute(CREATE_TABLE);
+        }
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void insert(List<Chore> chores) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url);
+             PreparedStatement preparedStatement = connection.prepareStatement(ChoreBook.INSERT_CHORE)) {
+            connection.setAutoCommit(false);
+            int pending = 0;
+            for (Chore chore : chores) {
+                preparedStatement.setString(1, chore.getDescription());
+                preparedStatement.setBoolean(2, chore.getIsCompleted());
+                preparedStatement.setDate(3, Date.valueOf(chore.getDeadline()));
+                preparedStatement.addBatch();
+                if (++pending == 1000) {
+                    preparedStatement.executeBatch();
+                    pending = 0;
+                }
+            }
+            preparedStatement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    /**
+     * Insert count chores named "Chore #1" to "Chore #count" in one
+     * statement, which is much faster than batches for large tables.
+     */
+    public void insertGenerated(int count) throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("INSERT INTO tododb.chore (`description`, `isCompleted`, `deadline`)"
+                    + " SELECT CONCAT('Chore #', n), MOD(n, 3) = 0, DATEADD(DAY, MOD(n, 365), CURRENT_DATE)"
+                    + " FROM SYSTEM_RANGE(1, " + count + ") AS numbers(n)");
+        }
+    }
+
+    public long count() throws SQLException {
+        try (Statement statement = keepAlive.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM tododb.chore")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    public void truncate() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("TRUNCATE TABLE tododb.chore");
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        keepAlive.close();
+    }
+}
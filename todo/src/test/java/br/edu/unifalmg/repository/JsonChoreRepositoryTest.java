@@ -2,6 +2,7 @@ package br.edu.unifalmg.repository;
 
 import br.edu.unifalmg.Repository.Chores.impl.JsonChoreRepository;
 import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.DescriptionDictionary;
 import br.edu.unifalmg.service.ChoreService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -17,11 +19,23 @@ import org.mockito.MockitoAnnotations;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class JsonChoreRepositoryTest {
     @InjectMocks
@@ -77,24 +91,319 @@ public class JsonChoreRepositoryTest {
 
     @Test
     @DisplayName("#save > When fails to save file > Return false")
-    void saveWhenFailsToSaveFileReturnFalse() throws IOException {
+    void saveWhenFailsToSaveFileReturnFalse(@TempDir Path directory) throws IOException {
         ChoreService service = new ChoreService();
-        Mockito.doThrow(IOException.class).when(mapper).writeValue(new File("chores.json"), service.getChores());
+        repository.setFile(directory.resolve("chores.json").toFile());
+        Mockito.doThrow(IOException.class).when(mapper)
+                .writeValue(Mockito.any(OutputStream.class), Mockito.eq(service.getChores()));
         boolean response =  repository.saveAll(service.getChores());
         Assertions.assertFalse(response);
     }
 
     @Test
     @DisplayName("#save > When able to save file > Return true")
-    void saveWhenAbleToSaveReturnTrue() throws IOException {
+    void saveWhenAbleToSaveReturnTrue(@TempDir Path directory) throws IOException {
         ChoreService service = new ChoreService();
+        repository.setFile(directory.resolve("chores.json").toFile());
         service.getChores().add(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
         service.getChores().add(new Chore("Chore #02", Boolean.FALSE, LocalDate.now().plusDays(1)));
-        Mockito.doNothing().when(mapper).writeValue(new File("chores.json"), service.getChores());
+        Mockito.doNothing().when(mapper)
+                .writeValue(Mockito.any(OutputStream.class), Mockito.eq(service.getChores()));
         boolean response =  repository.saveAll(service.getChores());
         Assertions.assertTrue(response);
     }
 
+    @Test
+    @DisplayName("#stream > When the file is found > Stream the chores in order")
+    void streamWhenTheFileIsFoundStreamTheChoresInOrder() throws IOException {
+        Path file = Files.createTempFile("chores", ".json");
+        Files.writeString(file, """
+                [
+                  {"description": "First Chore", "isCompleted": true, "deadline": [2023, 10, 7]},
+                  {"description": "Second Chore", "isCompleted": false, "deadline": [2023, 10, 11]}
+                ]
+                """);
+        JsonChoreRepository repository = new JsonChoreRepository();
+        repository.setFile(file.toFile());
+
+        List<Chore> chores;
+        try (Stream<Chore> stream = repository.stream()) {
+            chores = stream.toList();
+        } finally {
+            Files.delete(file);
+        }
+        assertAll(
+                () -> assertEquals(2, chores.size()),
+                () -> assertEquals("First Chore", chores.get(0).getDescription()),
+                () -> assertEquals(Boolean.TRUE, chores.get(0).getIsCompleted()),
+                () -> assertEquals(LocalDate.of(2023, 10, 11), chores.get(1).getDeadline())
+        );
+    }
+
+    @Test
+    @DisplayName("#stream > When the file is not found > Return an empty stream")
+    void streamWhenTheFileIsNotFoundReturnAnEmptyStream() {
+        JsonChoreRepository repository = new JsonChoreRepository();
+        repository.setFile(new File("does-not-exist.json"));
+        try (Stream<Chore> stream = repository.stream()) {
+            Assertions.assertEquals(0, stream.count());
+        }
+    }
+
+    @Test
+    @DisplayName("#stream > When the chores were saved > Stream the same chores")
+    void streamWhenTheChoresWereSavedStreamTheSameChores() throws IOException {
+        Path file = Files.createTempFile("chores", ".json");
+        JsonChoreRepository repository = new JsonChoreRepository();
+        repository.setFile(file.toFile());
+        repository.saveAll(List.of(
+                new Chore("Chore #01", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.TRUE, LocalDate.now().plusDays(1))
+        ));
+
+        try (Stream<Chore> stream = repository.stream()) {
+            assertEquals(List.of("Chore #01", "Chore #02"), stream.map(Chore::getDescription).toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    @DisplayName("#save/#update/#delete > When the file is loaded again > Replay the journal into the same chores")
+    void saveUpdateDeleteWhenTheFileIsLoadedAgainReplayTheJournalIntoTheSameChores(@TempDir Path directory) {
+        JsonChoreRepository repository = repositoryAt(directory);
+        repository.saveAll(new ArrayList<>(List.of(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()))));
+        Chore second = new Chore("Chore #02", Boolean.FALSE, LocalDate.now());
+        Chore third = new Chore("Chore #03", Boolean.FALSE, LocalDate.now());
+        assertTrue(repository.save(second));
+        assertTrue(repository.save(third));
+        second.setIsCompleted(Boolean.TRUE);
+        second.setDescription("Chore #02 edited");
+        assertTrue(repository.update(second));
+        assertTrue(repository.delete(third));
+
+        List<Chore> chores = repositoryAt(directory).load();
+        assertAll(
+                () -> assertEquals(List.of("Chore #01", "Chore #02 edited"),
+                        chores.stream().map(Chore::getDescription).toList()),
+                () -> assertEquals(second.getId(), chores.get(1).getId()),
+                () -> assertEquals(Boolean.TRUE, chores.get(1).getIsCompleted()),
+                () -> assertTrue(Files.exists(directory.resolve("chores.json.journal")))
+        );
+    }
+
+    @Test
+    @DisplayName("#stream > When the journal has changes > Lay them over the file as it streams")
+    void streamWhenTheJournalHasChangesLayThemOverTheFileAsItStreams(@TempDir Path directory) {
+        JsonChoreRepository repository = repositoryAt(directory);
+        Chore first = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        Chore second = new Chore("Chore #02", Boolean.FALSE, LocalDate.now());
+        repository.saveAll(new ArrayList<>(List.of(first, second, new Chore("Chore #03", Boolean.FALSE, LocalDate.now()))));
+        first.setIsCompleted(Boolean.TRUE);
+        assertTrue(repository.update(first));
+        assertTrue(repository.delete(second));
+        assertTrue(repository.save(new Chore("Chore #04", Boolean.FALSE, LocalDate.now())));
+
+        List<Chore> streamed;
+        try (Stream<Chore> chores = repositoryAt(directory).stream()) {
+            streamed = chores.toList();
+        }
+        List<Chore> loaded = repositoryAt(directory).load();
+        assertAll(
+                () -> assertEquals(List.of("Chore #01", "Chore #03", "Chore #04"),
+                        streamed.stream().map(Chore::getDescription).toList()),
+                () -> assertEquals(Boolean.TRUE, streamed.get(0).getIsCompleted()),
+                () -> assertEquals(loaded.stream().map(Chore::getId).toList(),
+                        streamed.stream().map(Chore::getId).toList())
+        );
+    }
 
+    @Test
+    @DisplayName("#stream > When the file has chores without ids > Give them the ids load gives them")
+    void streamWhenTheFileHasChoresWithoutIdsGiveThemTheIdsLoadGivesThem(@TempDir Path directory) throws IOException {
+        Files.writeString(directory.resolve("chores.json"), """
+                [
+                  {"description": "First Chore", "isCompleted": false, "deadline": [2023, 10, 7]},
+                  {"id": 7, "description": "Second Chore", "isCompleted": false, "deadline": [2023, 10, 8]},
+                  {"description": "Third Chore", "isCompleted": false, "deadline": [2023, 10, 9]}
+                ]
+                """);
+        JsonChoreRepository repository = repositoryAt(directory);
+        Chore first = repository.load().get(0);
+        first.setIsCompleted(Boolean.TRUE);
+        assertTrue(repository.update(first));
+
+        JsonChoreRepository reopened = repositoryAt(directory);
+        List<Chore> streamed;
+        try (Stream<Chore> chores = reopened.stream()) {
+            streamed = chores.toList();
+        }
+        Chore found = reopened.find("Third Chore", LocalDate.of(2023, 10, 9));
+        assertAll(
+                () -> assertEquals(List.of(8L, 7L, 9L), streamed.stream().map(Chore::getId).toList()),
+                () -> assertEquals(Boolean.TRUE, streamed.get(0).getIsCompleted()),
+                () -> assertEquals(9L, found.getId()),
+                () -> assertTrue(reopened.delete(found)),
+                () -> assertEquals(List.of("First Chore", "Second Chore"),
+                        repositoryAt(directory).load().stream().map(Chore::getDescription).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("#save > When the journal reaches the threshold > Compact it into the file")
+    void saveWhenTheJournalReachesTheThresholdCompactItIntoTheFile(@TempDir Path directory) throws IOException {
+        JsonChoreRepository repository = repositoryAt(directory);
+        repository.setCompactionThreshold(3);
+        repository.save(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        repository.save(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+        assertTrue(Files.exists(directory.resolve("chores.json.journal")));
+
+        repository.save(new Chore("Chore #03", Boolean.FALSE, LocalDate.now()));
+
+        assertFalse(Files.exists(directory.resolve("chores.json.journal")));
+        Chore[] snapshot = new ObjectMapper().findAndRegisterModules()
+                .readValue(directory.resolve("chores.json").toFile(), Chore[].class);
+        assertEquals(3, snapshot.length);
+        assertEquals(List.of(1L, 2L, 3L), Arrays.stream(snapshot).map(Chore::getId).toList());
+    }
+
+    @Test
+    @DisplayName("#load > When a crash truncated the journal > Replay the complete entries and drop the tail")
+    void loadWhenACrashTruncatedTheJournalReplayTheCompleteEntriesAndDropTheTail(@TempDir Path directory) throws IOException {
+        JsonChoreRepository repository = repositoryAt(directory);
+        repository.save(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        repository.save(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+        Path journal = directory.resolve("chores.json.journal");
+        long completeLength = Files.size(journal);
+        repository.save(new Chore("Chore #03", Boolean.FALSE, LocalDate.now()));
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(journal) - 7);
+        }
+
+        JsonChoreRepository recovered = repositoryAt(directory);
+        List<Chore> chores = recovered.load();
+        assertEquals(List.of("Chore #01", "Chore #02"), chores.stream().map(Chore::getDescription).toList());
+        assertEquals(completeLength, Files.size(journal));
+
+        recovered.save(new Chore("Chore #04", Boolean.FALSE, LocalDate.now()));
+        assertEquals(List.of("Chore #01", "Chore #02", "Chore #04"),
+                repositoryAt(directory).load().stream().map(Chore::getDescription).toList());
+    }
+
+    @Test
+    @DisplayName("#load > When a compacted journal was left behind > Replaying it again changes nothing")
+    void loadWhenACompactedJournalWasLeftBehindReplayingItAgainChangesNothing(@TempDir Path directory) throws IOException {
+        JsonChoreRepository repository = repositoryAt(directory);
+        repository.save(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        Chore second = new Chore("Chore #02", Boolean.FALSE, LocalDate.now());
+        repository.save(second);
+        repository.delete(second);
+        Path journal = directory.resolve("chores.json.journal");
+        byte[] leftover = Files.readAllBytes(journal);
+
+        assertTrue(repository.compact());
+        // Crash between writing the file and removing the journal
+        Files.write(journal, leftover);
+
+        assertEquals(List.of("Chore #01"),
+                repositoryAt(directory).load().stream().map(Chore::getDescription).toList());
+    }
+
+    @Test
+    @DisplayName("#update > When the journal was written before the first load > Count its entries towards the threshold")
+    void updateWhenTheJournalWasWrittenBeforeTheFirstLoadCountItsEntriesTowardsTheThreshold(@TempDir Path directory) {
+        JsonChoreRepository previous = repositoryAt(directory);
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        previous.save(chore);
+        previous.save(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+
+        JsonChoreRepository repository = repositoryAt(directory);
+        repository.setCompactionThreshold(3);
+        chore.setIsCompleted(Boolean.TRUE);
+        assertTrue(repository.update(chore));
+
+        assertAll(
+                () -> assertFalse(Files.exists(directory.resolve("chores.json.journal"))),
+                () -> assertEquals(Boolean.TRUE, repositoryAt(directory).load().get(0).getIsCompleted())
+        );
+    }
+
+    @Test
+    @DisplayName("#compact > When the file cannot be read > Keep the journal")
+    void compactWhenTheFileCannotBeReadKeepTheJournal(@TempDir Path directory) throws IOException {
+        JsonChoreRepository repository = repositoryAt(directory);
+        repository.save(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        Path journal = directory.resolve("chores.json.journal");
+        byte[] entries = Files.readAllBytes(journal);
+        Files.writeString(directory.resolve("chores.json"), "[{\"description\": \"Chore #0");
+
+        assertFalse(repository.compact());
+        assertArrayEquals(entries, Files.readAllBytes(journal));
+    }
+
+    @Test
+    @DisplayName("#saveAll > When the write fails halfway > Keep the previous file intact")
+    void saveAllWhenTheWriteFailsHalfwayKeepThePreviousFileIntact(@TempDir Path directory) throws IOException {
+        JsonChoreRepository previous = repositoryAt(directory);
+        previous.saveAll(new ArrayList<>(List.of(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()))));
+        byte[] before = Files.readAllBytes(directory.resolve("chores.json"));
+
+        repository.setFile(directory.resolve("chores.json").toFile());
+        Mockito.doAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(0);
+            output.write("[{\"description\": \"Chore #0".getBytes());
+            output.flush();
+            throw new IOException("Disk full");
+        }).when(mapper).writeValue(Mockito.any(OutputStream.class), Mockito.any());
+
+        assertFalse(repository.saveAll(new ArrayList<>(List.of(
+                new Chore("Chore #02", Boolean.FALSE, LocalDate.now())))));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of("chores.json"), files.map(file -> file.getFileName().toString()).toList());
+        }
+        assertArrayEquals(before, Files.readAllBytes(directory.resolve("chores.json")));
+        assertEquals(List.of("Chore #01"),
+                repositoryAt(directory).load().stream().map(Chore::getDescription).toList());
+    }
+
+    @Test
+    @DisplayName("#saveAll > When durability is off > Write the same file")
+    void saveAllWhenDurabilityIsOffWriteTheSameFile(@TempDir Path directory) {
+        JsonChoreRepository repository = repositoryAt(directory);
+        repository.setDurable(false);
+        assertTrue(repository.saveAll(new ArrayList<>(List.of(new Chore("Chore #01", Boolean.FALSE, LocalDate.now())))));
+        assertEquals(List.of("Chore #01"),
+                repositoryAt(directory).load().stream().map(Chore::getDescription).toList());
+    }
+
+    @Test
+    @DisplayName("#load > When descriptions repeat > Share one instance per description")
+    void loadWhenDescriptionsRepeatShareOneInstancePerDescription(@TempDir Path directory) {
+        repositoryAt(directory).saveAll(new ArrayList<>(List.of(
+                new Chore("Water the plants", Boolean.FALSE, LocalDate.now()),
+                new Chore("Water the plants", Boolean.FALSE, LocalDate.now().plusDays(1)),
+                new Chore("Take out the trash", Boolean.FALSE, LocalDate.now()))));
+
+        JsonChoreRepository repository = repositoryAt(directory);
+        repository.setDictionary(new DescriptionDictionary(10));
+        List<Chore> loaded = repository.load();
+        List<Chore> streamed;
+        try (Stream<Chore> chores = repository.stream()) {
+            streamed = chores.toList();
+        }
+
+        assertAll(
+                () -> assertSame(loaded.get(0).getDescription(), loaded.get(1).getDescription()),
+                () -> assertSame(loaded.get(0).getDescription(), streamed.get(1).getDescription()),
+                () -> assertEquals("Take out the trash", loaded.get(2).getDescription())
+        );
+    }
+
+    private static JsonChoreRepository repositoryAt(Path directory) {
+        JsonChoreRepository repository = new JsonChoreRepository();
+        repository.setFile(directory.resolve("chores.json").toFile());
+        return repository;
+    }
 
 }
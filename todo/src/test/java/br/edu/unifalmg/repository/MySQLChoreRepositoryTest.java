@@ -0,0 +1,330 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.DescriptionDictionary;
+import br.edu.unifalmg.exception.ChorePersistenceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MySQLChoreRepositoryTest {
+
+    private EmbeddedChoreDatabase database;
+    private MySQLChoreRepository repository;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        database = new EmbeddedChoreDatabase();
+        repository = new MySQLChoreRepository(database.getUrl());
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        repository.close();
+        database.close();
+    }
+
+    @Test
+    @DisplayName("#save > When the chore is saved > Load it back")
+    void saveWhenTheChoreIsSavedLoadItBack() {
+        assertTrue(repository.save(new Chore("Chore #01", Boolean.TRUE, LocalDate.now())));
+
+        List<Chore> chores = repository.load();
+        assertAll(
+                () -> assertEquals(1, chores.size()),
+                () -> assertNotNull(chores.get(0).getId()),
+                () -> assertEquals("Chore #01", chores.get(0).getDescription()),
+                () -> assertEquals(Boolean.TRUE, chores.get(0).getIsCompleted()),
+                () -> assertEquals(LocalDate.now(), chores.get(0).getDeadline())
+        );
+    }
+
+    @Test
+    @DisplayName("#load > When descriptions repeat > Share one instance per description")
+    void loadWhenDescriptionsRepeatShareOneInstancePerDescription() {
+        repository.setDictionary(new DescriptionDictionary(10));
+        repository.save(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        repository.save(new Chore("Chore #01", Boolean.FALSE, LocalDate.now().plusDays(1)));
+
+        List<Chore> chores = repository.load();
+        assertSame(chores.get(0).getDescription(), chores.get(1).getDescription());
+    }
+
+    @Test
+    @DisplayName("#loadPage > When pages are read by the last id > Return each chore once, in id order")
+    void loadPageWhenPagesAreReadByTheLastIdReturnEachChoreOnceInIdOrder() throws SQLException {
+        database.insertGenerated(10);
+        List<Chore> first = repository.loadPage(0, 4);
+        List<Chore> second = repository.loadPage(first.get(3).getId(), 4);
+        List<Chore> last = repository.loadPage(second.get(3).getId(), 4);
+
+        assertAll(
+                () -> assertEquals(List.of("Chore #1", "Chore #2", "Chore #3", "Chore #4"),
+                        first.stream().map(Chore::getDescription).toList()),
+                () -> assertEquals("Chore #5", second.get(0).getDescription()),
+                () -> assertEquals(List.of("Chore #9", "Chore #10"),
+                        last.stream().map(Chore::getDescription).toList()),
+                () -> assertEquals(List.of(), repository.loadPage(last.get(1).getId(), 4))
+        );
+    }
+
+    @Test
+    @DisplayName("#stream > When the table has 1M rows > Read every row once, in id order, one page at a time")
+    void streamWhenTheTableHas1MRowsReadEveryRowOnceInIdOrderOnePageAtATime() throws SQLException {
+        database.insertGenerated(1_000_000);
+        repository.setPageSize(10_000);
+
+        long count = 0;
+        long lastId = 0;
+        try (Stream<Chore> chores = repository.stream()) {
+            for (Chore chore : (Iterable<Chore>) chores::iterator) {
+                assertTrue(chore.getId() > lastId);
+                lastId = chore.getId();
+                count++;
+            }
+        }
+
+        assertEquals(1_000_000, count);
+        assertEquals("Chore #1", repository.stream().findFirst().orElseThrow().getDescription());
+    }
+
+    @Test
+    @DisplayName("#update > When the chore exists > Update description and deadline")
+    void updateWhenTheChoreExistsUpdateDescriptionAndDeadline() {
+        repository.save(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        Chore chore = repository.load().get(0);
+        chore.setDescription("Chore edited");
+        chore.setDeadline(LocalDate.now().plusDays(1));
+
+        assertTrue(repository.update(chore));
+
+        Chore updated = repository.load().get(0);
+        assertAll(
+                () -> assertEquals("Chore edited", updated.getDescription()),
+                () -> assertEquals(LocalDate.now().plusDays(1), updated.getDeadline())
+        );
+    }
+
+    @Test
+    @DisplayName("#update > When the chore was toggled > Update the status")
+    void updateWhenTheChoreWasToggledUpdateTheStatus() {
+        repository.save(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        Chore chore = repository.load().get(0);
+        chore.setIsCompleted(Boolean.TRUE);
+
+        assertTrue(repository.update(chore));
+        assertEquals(Boolean.TRUE, repository.load().get(0).getIsCompleted());
+    }
+
+    @Test
+    @DisplayName("#find, #count > When chores are stored > Query the table")
+    void findCountWhenChoresAreStoredQueryTheTable() throws SQLException {
+        database.insertGenerated(5);
+        assertAll(
+                () -> assertEquals(5, repository.count()),
+                () -> assertEquals("Chore #3", repository.find("Chore #3", LocalDate.now().plusDays(3)).getDescription()),
+                () -> assertNull(repository.find("Chore #3", LocalDate.now())),
+                () -> assertNull(repository.find("Chore #3", null))
+        );
+    }
+
+    @Test
+    @DisplayName("#count, #stream > When the database cannot be reached > Throw instead of reporting no chores")
+    void countStreamWhenTheDatabaseCannotBeReachedThrowInsteadOfReportingNoChores() {
+        MySQLChoreRepository unreachable = new MySQLChoreRepository("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+        try {
+            assertAll(
+                    () -> assertThrows(ChorePersistenceException.class, unreachable::count),
+                    () -> assertThrows(ChorePersistenceException.class, () -> {
+                        try (Stream<Chore> chores = unreachable.stream()) {
+                            chores.count();
+                        }
+                    })
+            );
+        } finally {
+            unreachable.close();
+        }
+    }
+
+    @Test
+    @DisplayName("#update > When the chore does not exist > Return false")
+    void updateWhenTheChoreDoesNotExistReturnFalse() {
+        Chore chore = new Chore(42L, "Chore #01", Boolean.FALSE, LocalDate.now());
+        assertFalse(repository.update(chore));
+    }
+
+    @Test
+    @DisplayName("#save > When the chore is saved > Write the generated id back")
+    void saveWhenTheChoreIsSavedWriteTheGeneratedIdBack() {
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        repository.save(chore);
+        assertEquals(repository.load().get(0).getId(), chore.getId());
+    }
+
+    @Test
+    @DisplayName("#delete > When the chore exists > Remove it")
+    void deleteWhenTheChoreExistsRemoveIt() throws SQLException {
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        repository.save(chore);
+
+        assertTrue(repository.delete(chore));
+        assertEquals(0, database.count());
+        assertFalse(repository.delete(chore));
+    }
+
+    @Test
+    @DisplayName("#deleteAll > When some chores are stored > Remove them in batches and report the others")
+    void deleteAllWhenSomeChoresAreStoredRemoveThemInBatchesAndReportTheOthers() throws SQLException {
+        repository.setBatchSize(3);
+        List<Chore> chores = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            chores.add(new Chore("Chore #" + i, Boolean.FALSE, LocalDate.now().plusDays(i)));
+        }
+        repository.saveAll(chores);
+
+        assertTrue(repository.deleteAll(chores.subList(0, 7)));
+        assertEquals(3, database.count());
+        assertFalse(repository.deleteAll(List.of(chores.get(7), new Chore("Chore #10", Boolean.FALSE, LocalDate.now()))));
+        assertEquals(2, database.count());
+    }
+
+    @Test
+    @DisplayName("#saveAll > When the chores are new > Insert them in batches and write the ids back")
+    void saveAllWhenTheChoresAreNewInsertThemInBatchesAndWriteTheIdsBack() throws SQLException {
+        repository.setBatchSize(3);
+        List<Chore> chores = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            chores.add(new Chore("Chore #" + i, i % 2 == 0, LocalDate.now().plusDays(i)));
+        }
+
+        assertTrue(repository.saveAll(chores));
+
+        assertEquals(10, database.count());
+        Map<Long, String> descriptions = repository.load().stream()
+                .collect(Collectors.toMap(Chore::getId, Chore::getDescription));
+        for (Chore chore : chores) {
+            assertEquals(chore.getDescription(), descriptions.get(chore.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("#saveAll > When some chores already exist > Update them and insert the others")
+    void saveAllWhenSomeChoresAlreadyExistUpdateThemAndInsertTheOthers() throws SQLException {
+        repository.save(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        Chore existing = repository.load().get(0);
+        existing.setDescription("Chore #01 edited");
+        existing.setIsCompleted(Boolean.TRUE);
+        Chore added = new Chore("Chore #02", Boolean.FALSE, LocalDate.now());
+
+        assertTrue(repository.saveAll(List.of(existing, added)));
+
+        assertEquals(2, database.count());
+        Map<Long, Chore> chores = repository.load().stream()
+                .collect(Collectors.toMap(Chore::getId, chore -> chore));
+        assertAll(
+                () -> assertEquals("Chore #01 edited", chores.get(existing.getId()).getDescription()),
+                () -> assertEquals(Boolean.TRUE, chores.get(existing.getId()).getIsCompleted()),
+                () -> assertEquals("Chore #02", chores.get(added.getId()).getDescription())
+        );
+    }
+
+    @Test
+    @DisplayName("#saveAll > When a chore cannot be persisted > Roll everything back")
+    void saveAllWhenAChoreCannotBePersistedRollEverythingBack() throws SQLException {
+        repository.setBatchSize(2);
+        Chore first = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        Chore second = new Chore("Chore #02", Boolean.FALSE, LocalDate.now());
+        Chore invalid = new Chore(null, Boolean.FALSE, LocalDate.now());
+
+        assertFalse(repository.saveAll(List.of(first, second, invalid)));
+
+        assertAll(
+                () -> assertEquals(0, database.count()),
+                () -> assertNull(first.getId()),
+                () -> assertNull(second.getId())
+        );
+        assertTrue(repository.saveAll(List.of(first, second)));
+        assertEquals(2, database.count());
+    }
+
+    @Test
+    @DisplayName("#saveAll > When a chore with an id is not stored > Roll everything back")
+    void saveAllWhenAChoreWithAnIdIsNotStoredRollEverythingBack() throws SQLException {
+        Chore missing = new Chore(999L, "Chore #01", Boolean.FALSE, LocalDate.now());
+        Chore added = new Chore("Chore #02", Boolean.FALSE, LocalDate.now());
+
+        assertFalse(repository.saveAll(List.of(missing, added)));
+
+        assertAll(
+                () -> assertEquals(0, database.count()),
+                () -> assertNull(added.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("#load/#save/#update > When 64 threads share the repository > No write is lost")
+    void loadSaveUpdateWhen64ThreadsShareTheRepositoryNoWriteIsLost() throws Exception {
+        int threads = 64;
+        int rounds = 50;
+        for (int thread = 0; thread < threads; thread++) {
+            repository.save(new Chore("Thread #" + thread, Boolean.FALSE, LocalDate.now()));
+        }
+        Map<String, Chore> owned = repository.load().stream()
+                .collect(Collectors.toMap(Chore::getDescription, chore -> chore));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            Chore chore = owned.get("Thread #" + thread);
+            int id = thread;
+            results.add(executor.submit(() -> {
+                start.await();
+                boolean succeeded = true;
+                for (int round = 0; round < rounds; round++) {
+                    succeeded &= repository.save(
+                            new Chore("Saved by #" + id + " round " + round, Boolean.FALSE, LocalDate.now()));
+                    chore.setDescription("Thread #" + id + " round " + round);
+                    succeeded &= repository.update(chore);
+                    if (round % 10 == 0) {
+                        succeeded &= Objects.nonNull(repository.load());
+                    }
+                }
+                return succeeded;
+            }));
+        }
+        start.countDown();
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(2, TimeUnit.MINUTES));
+        }
+        executor.shutdown();
+
+        List<Chore> chores = repository.load();
+        assertEquals(threads + (long) threads * rounds, database.count());
+        assertEquals(threads + threads * rounds, chores.size());
+        Map<Long, String> descriptions = chores.stream()
+                .collect(Collectors.toMap(Chore::getId, Chore::getDescription));
+        for (int thread = 0; thread < threads; thread++) {
+            Chore chore = owned.get("Thread #" + thread);
+            assertEquals("Thread #" + thread + " round " + (rounds - 1), descriptions.get(chore.getId()));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.Repository.Chores.impl.ShardedJsonChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreSharding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedJsonChoreRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 10);
+
+    @Test
+    @DisplayName("#load > When the chores were saved in shards > Read every shard in parallel")
+    void loadWhenTheChoresWereSavedInShardsReadEveryShardInParallel(@TempDir Path directory) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ShardedJsonChoreRepository repository = repository(directory, ChoreSharding.DESCRIPTION_HASH, 8);
+            repository.setPool(pool);
+            List<Chore> chores = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                chores.add(new Chore("Chore #" + i, i % 3 == 0, DAY.plusDays(i % 90)));
+            }
+            assertTrue(repository.saveAll(chores));
+
+            List<Chore> loaded = repository(directory, ChoreSharding.DESCRIPTION_HASH, 8).load();
+            loaded.sort(Comparator.comparing(Chore::getId));
+            assertAll(
+                    () -> assertEquals(8, shardFiles(directory).size()),
+                    () -> assertEquals(1000, loaded.size()),
+                    () -> assertEquals("Chore #999", loaded.get(999).getDescription()),
+                    () -> assertTrue(loaded.get(999).getIsCompleted()),
+                    () -> assertEquals(DAY.plusDays(999 % 90), loaded.get(999).getDeadline())
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("#saveAll > When only some shards changed > Write only those and delete emptied ones")
+    void saveAllWhenOnlySomeShardsChangedWriteOnlyThoseAndDeleteEmptiedOnes(@TempDir Path directory) throws IOException {
+        ShardedJsonChoreRepository repository = repository(directory, ChoreSharding.DEADLINE_MONTH, 0);
+        List<Chore> chores = new ArrayList<>(List.of(
+                new Chore("Chore #01", Boolean.FALSE, DAY),
+                new Chore("Chore #02", Boolean.FALSE, DAY.plusMonths(1)),
+                new Chore("Chore #03", Boolean.FALSE, DAY.plusMonths(2))));
+        repository.saveAll(chores);
+        FileTime old = FileTime.fromMillis(0);
+        for (Path file : shardFiles(directory)) {
+            Files.setLastModifiedTime(file, old);
+        }
+
+        chores.get(0).setIsCompleted(Boolean.TRUE);
+        chores.remove(2);
+        assertTrue(repository.saveAll(chores));
+
+        assertAll(
+                () -> assertEquals(List.of("chores-2030-01.json", "chores-2030-02.json"),
+                        shardFiles(directory).stream().map(file -> file.getFileName().toString()).toList()),
+                () -> assertNotEquals(old, Files.getLastModifiedTime(directory.resolve("chores-2030-01.json"))),
+                () -> assertEquals(old, Files.getLastModifiedTime(directory.resolve("chores-2030-02.json")))
+        );
+    }
+
+    @Test
+    @DisplayName("#load, #saveAll > When the loaded chores are saved unchanged > Share their descriptions and write no shard")
+    void loadSaveAllWhenTheLoadedChoresAreSavedUnchangedShareTheirDescriptionsAndWriteNoShard(@TempDir Path directory) throws IOException {
+        List<Chore> chores = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            chores.add(new Chore("Chore #" + i % 10, Boolean.FALSE, DAY.plusDays(i)));
+        }
+        repository(directory, ChoreSharding.DEADLINE_MONTH, 0).saveAll(chores);
+        FileTime old = FileTime.fromMillis(0);
+        for (Path file : shardFiles(directory)) {
+            Files.setLastModifiedTime(file, old);
+        }
+
+        ShardedJsonChoreRepository repository = repository(directory, ChoreSharding.DEADLINE_MONTH, 0);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<Chore> loaded;
+        try {
+            repository.setPool(pool);
+            loaded = repository.load();
+            assertTrue(repository.saveAll(loaded));
+        } finally {
+            pool.shutdown();
+        }
+
+        // Chore #0 is due in every month, so it was read from every shard
+        List<String> descriptions = loaded.stream().map(Chore::getDescription).filter("Chore #0"::equals).toList();
+        assertTrue(shardFiles(directory).size() > 1);
+        assertTrue(descriptions.stream().allMatch(description -> description == descriptions.get(0)));
+        for (Path file : shardFiles(directory)) {
+            assertEquals(old, Files.getLastModifiedTime(file));
+        }
+    }
+
+    @Test
+    @DisplayName("#saveChanges, #deleteAll > When a chore moves to another shard > Keep a single copy of it")
+    void saveChangesAndDeleteAllWhenAChoreMovesToAnotherShardKeepASingleCopyOfIt(@TempDir Path directory) {
+        ShardedJsonChoreRepository repository = repository(directory, ChoreSharding.DEADLINE_MONTH, 0);
+        Chore first = new Chore("Chore #01", Boolean.FALSE, DAY);
+        Chore second = new Chore("Chore #02", Boolean.FALSE, DAY);
+        assertTrue(repository.saveChanges(List.of(first, second)));
+
+        first.setDeadline(DAY.plusMonths(3));
+        second.setIsCompleted(Boolean.TRUE);
+        Chore third = new Chore("Chore #03", Boolean.FALSE, DAY.plusMonths(3));
+        assertTrue(repository.saveChanges(List.of(first, second, third)));
+
+        List<Chore> loaded = repository.load();
+        assertAll(
+                () -> assertEquals(3, loaded.size()),
+                () -> assertEquals(List.of(1L, 2L, 3L), loaded.stream().map(Chore::getId).sorted().toList()),
+                () -> assertEquals(first.getId(), repository.find("Chore #01", DAY.plusMonths(3)).getId()),
+                () -> assertNull(repository.find("Chore #01", DAY)),
+                () -> assertTrue(repository.find("Chore #02", DAY).getIsCompleted())
+        );
+
+        // Deleted through a stale key, so it is looked for in every shard
+        Chore stale = new Chore(first.getId(), "Chore #01", Boolean.FALSE, DAY);
+        assertTrue(repository.deleteAll(List.of(stale, second)));
+        assertTrue(repository.delete(third));
+        assertFalse(repository.delete(third));
+        assertTrue(repository.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("#load > When a move to another shard was cut short > Finish it before reading")
+    void loadWhenAMoveToAnotherShardWasCutShortFinishItBeforeReading(@TempDir Path directory) throws IOException {
+        ShardedJsonChoreRepository repository = repository(directory, ChoreSharding.DEADLINE_MONTH, 0);
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, DAY);
+        repository.saveChanges(List.of(chore));
+        // The state a crash leaves after the new shard was written but
+        // before the chore was removed from the old one
+        Chore moved = new Chore(chore.getId(), "Chore #01", Boolean.TRUE, DAY.plusMonths(1));
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+        Files.write(directory.resolve("chores-2030-02.json"), mapper.writeValueAsBytes(List.of(moved)));
+        Files.write(directory.resolve("pending-changes.json"),
+                mapper.writeValueAsBytes(Map.of("saved", List.of(moved), "deleted", List.of())));
+
+        List<Chore> loaded = repository(directory, ChoreSharding.DEADLINE_MONTH, 0).load();
+        assertAll(
+                () -> assertEquals(1, loaded.size()),
+                () -> assertEquals(DAY.plusMonths(1), loaded.get(0).getDeadline()),
+                () -> assertTrue(loaded.get(0).getIsCompleted()),
+                () -> assertEquals(List.of("chores-2030-02.json"),
+                        shardFiles(directory).stream().map(file -> file.getFileName().toString()).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("#load > When a chore is stored in two shards > Return it once")
+    void loadWhenAChoreIsStoredInTwoShardsReturnItOnce(@TempDir Path directory) throws IOException {
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+        Files.write(directory.resolve("chores-2030-01.json"),
+                mapper.writeValueAsBytes(List.of(new Chore(1L, "Chore #01", Boolean.FALSE, DAY))));
+        Files.write(directory.resolve("chores-2030-02.json"), mapper.writeValueAsBytes(List.of(
+                new Chore(1L, "Chore #01", Boolean.FALSE, DAY.plusMonths(1)),
+                new Chore(2L, "Chore #02", Boolean.FALSE, DAY.plusMonths(1)))));
+
+        List<Chore> loaded = repository(directory, ChoreSharding.DEADLINE_MONTH, 0).load();
+        assertAll(
+                () -> assertEquals(List.of(1L, 2L), loaded.stream().map(Chore::getId).toList()),
+                () -> assertEquals(DAY, loaded.get(0).getDeadline())
+        );
+    }
+
+    private static ShardedJsonChoreRepository repository(Path directory, ChoreSharding sharding, int shards) {
+        ShardedJsonChoreRepository repository = new ShardedJsonChoreRepository(directory, sharding, shards);
+        repository.setDurable(false);
+        return repository;
+    }
+
+    private static List<Path> shardFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package br.edu.unifalmg.repository;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.Repository.Chores.impl.WriteBehindChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteBehindChoreRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 10);
+
+    @Test
+    @DisplayName("#flush > When chores were saved > Persist them and set their ids")
+    void flushWhenChoresWereSavedPersistThemAndSetTheirIds() throws Exception {
+        try (EmbeddedChoreDatabase database = new EmbeddedChoreDatabase();
+             WriteBehindChoreRepository repository = new WriteBehindChoreRepository(
+                     new MySQLChoreRepository(database.getUrl()))) {
+            Chore chore = new Chore("Chore #01", Boolean.FALSE, DAY);
+            assertTrue(repository.save(chore));
+            repository.save(new Chore("Chore #02", Boolean.TRUE, DAY));
+
+            assertTrue(repository.flush());
+            assertAll(
+                    () -> assertEquals(2, database.count()),
+                    () -> assertNotNull(chore.getId()),
+                    () -> assertEquals("Chore #01", repository.find("Chore #01", DAY).getDescription())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("#close > When writes are queued > Persist them and refuse later writes")
+    void closeWhenWritesAreQueuedPersistThemAndRefuseLaterWrites() throws Exception {
+        try (EmbeddedChoreDatabase database = new EmbeddedChoreDatabase()) {
+            WriteBehindChoreRepository repository = new WriteBehindChoreRepository(
+                    new MySQLChoreRepository(database.getUrl()), 10, 3);
+            for (int i = 0; i < 50; i++) {
+                repository.save(new Chore("Chore #" + i, Boolean.FALSE, DAY));
+            }
+
+            repository.close();
+            assertAll(
+                    () -> assertEquals(50, database.count()),
+                    () -> assertFalse(repository.save(new Chore("Chore #50", Boolean.FALSE, DAY)))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("#update > When a chore changes while the writer is busy > Write only its latest state")
+    void updateWhenAChoreChangesWhileTheWriterIsBusyWriteOnlyItsLatestState() throws Exception {
+        BlockingRepository blocking = new BlockingRepository();
+        ChoresRepository wrapped = blocking.repository;
+        try (WriteBehindChoreRepository repository = new WriteBehindChoreRepository(wrapped, 100, 100)) {
+            repository.save(new Chore("Chore #01", Boolean.FALSE, DAY));
+            assertTrue(blocking.entered.await(5, TimeUnit.SECONDS));
+
+            Chore chore = new Chore("Chore #02", Boolean.FALSE, DAY);
+            repository.save(chore);
+            chore.setIsCompleted(Boolean.TRUE);
+            repository.update(chore);
+            chore.setDescription("Chore #03");
+            repository.update(chore);
+            Chore removed = new Chore("Chore #04", Boolean.FALSE, DAY);
+            repository.save(removed);
+            repository.delete(removed);
+            blocking.release.countDown();
+
+            assertTrue(repository.flush());
+            assertAll(
+                    () -> assertEquals(2, blocking.batches.size()),
+                    () -> assertEquals(1, blocking.batches.get(1).size()),
+                    () -> assertEquals("Chore #03", blocking.batches.get(1).get(0).getDescription()),
+                    () -> assertTrue(blocking.batches.get(1).get(0).getIsCompleted()),
+                    () -> assertEquals(2L, chore.getId()),
+                    () -> assertNull(removed.getId())
+            );
+            Mockito.verify(wrapped, Mockito.never()).delete(Mockito.any());
+        }
+    }
+
+    @Test
+    @DisplayName("#save > When the queue is full > Wait for the writer")
+    void saveWhenTheQueueIsFullWaitForTheWriter() throws Exception {
+        BlockingRepository blocking = new BlockingRepository();
+        try (WriteBehindChoreRepository repository = new WriteBehindChoreRepository(blocking.repository, 1, 10)) {
+            repository.save(new Chore("Chore #01", Boolean.FALSE, DAY));
+            assertTrue(blocking.entered.await(5, TimeUnit.SECONDS));
+            repository.save(new Chore("Chore #02", Boolean.FALSE, DAY));
+
+            CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(
+                    () -> repository.save(new Chore("Chore #03", Boolean.FALSE, DAY)));
+            Thread.sleep(100);
+            assertFalse(waiting.isDone());
+
+            blocking.release.countDown();
+            assertTrue(waiting.get(5, TimeUnit.SECONDS));
+            assertTrue(repository.flush());
+        }
+    }
+
+    @Test
+    @DisplayName("#flush > When the repository fails > Keep the writes and retry them")
+    void flushWhenTheRepositoryFailsKeepTheWritesAndRetryThem() throws Exception {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        ChoresRepository wrapped = Mockito.mock(ChoresRepository.class);
+        Mockito.when(wrapped.saveChanges(Mockito.any())).thenAnswer(invocation -> {
+            if (failing.get()) {
+                return false;
+            }
+            invocation.<List<Chore>>getArgument(0).forEach(chore -> chore.setId(7L));
+            return true;
+        });
+        try (WriteBehindChoreRepository repository = new WriteBehindChoreRepository(wrapped)) {
+            Chore chore = new Chore("Chore #01", Boolean.FALSE, DAY);
+            repository.save(chore);
+
+            assertFalse(repository.flush());
+            assertNull(chore.getId());
+            failing.set(false);
+            assertTrue(repository.flush());
+            assertEquals(7L, chore.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("#delete > When the chore was saved in an earlier batch > Delete it by its id")
+    void deleteWhenTheChoreWasSavedInAnEarlierBatchDeleteItByItsId() throws Exception {
+        ChoresRepository wrapped = Mockito.mock(ChoresRepository.class);
+        Mockito.when(wrapped.saveChanges(Mockito.any())).thenAnswer(invocation -> {
+            invocation.<List<Chore>>getArgument(0).forEach(chore -> chore.setId(7L));
+            return true;
+        });
+        Mockito.when(wrapped.delete(Mockito.any())).thenReturn(true);
+        try (WriteBehindChoreRepository repository = new WriteBehindChoreRepository(wrapped)) {
+            Chore chore = new Chore("Chore #01", Boolean.FALSE, DAY);
+            repository.save(chore);
+            repository.flush();
+            repository.delete(chore);
+
+            assertTrue(repository.flush());
+            ArgumentCaptor<Chore> deleted = ArgumentCaptor.forClass(Chore.class);
+            Mockito.verify(wrapped).delete(deleted.capture());
+            assertEquals(7L, deleted.getValue().getId());
+        }
+    }
+
+    @Test
+    @DisplayName("#save > When a write keeps failing > Refuse new writes until it is written")
+    void saveWhenAWriteKeepsFailingRefuseNewWritesUntilItIsWritten() throws Exception {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        ChoresRepository wrapped = Mockito.mock(ChoresRepository.class);
+        Mockito.when(wrapped.saveChanges(Mockito.any())).thenAnswer(invocation -> {
+            if (failing.get()) {
+                throw new IllegalStateException("Unavailable");
+            }
+            return true;
+        });
+        try (WriteBehindChoreRepository repository = new WriteBehindChoreRepository(wrapped)) {
+            repository.setMaxAttempts(2);
+            assertTrue(repository.save(new Chore("Chore #01", Boolean.FALSE, DAY)));
+
+            assertFalse(repository.flush());
+            assertFalse(repository.flush());
+            assertFalse(repository.save(new Chore("Chore #02", Boolean.FALSE, DAY)));
+
+            failing.set(false);
+            assertTrue(repository.flush());
+            assertTrue(repository.save(new Chore("Chore #02", Boolean.FALSE, DAY)));
+            assertTrue(repository.flush());
+        }
+    }
+
+    @Test
+    @DisplayName("#flush > When the writer is stuck > Give up after awaitTimeout")
+    void flushWhenTheWriterIsStuckGiveUpAfterAwaitTimeout() throws Exception {
+        BlockingRepository blocking = new BlockingRepository();
+        try (WriteBehindChoreRepository repository = new WriteBehindChoreRepository(blocking.repository)) {
+            repository.setAwaitTimeout(Duration.ofMillis(200));
+            repository.save(new Chore("Chore #01", Boolean.FALSE, DAY));
+            assertTrue(blocking.entered.await(5, TimeUnit.SECONDS));
+
+            long start = System.nanoTime();
+            assertFalse(repository.flush());
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+            blocking.release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("#close > When writes race the close > Persist every write that was accepted")
+    void closeWhenWritesRaceTheClosePersistEveryWriteThatWasAccepted() throws Exception {
+        RecordingRepository wrapped = new RecordingRepository();
+        WriteBehindChoreRepository repository = new WriteBehindChoreRepository(wrapped, 100, 10);
+        Set<String> accepted = ConcurrentHashMap.newKeySet();
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            threads.add(new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 10_000; i++) {
+                    String description = "Chore #" + thread + "-" + i;
+                    if (repository.save(new Chore(description, Boolean.FALSE, DAY))) {
+                        accepted.add(description);
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        started.await();
+        Thread.sleep(20);
+
+        repository.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(accepted, wrapped.persisted);
+    }
+
+    @Test
+    @DisplayName("#delete > When a copy of the chore has no id > Delete the stored chore with its description and deadline")
+    void deleteWhenACopyOfTheChoreHasNoIdDeleteTheStoredChoreWithItsDescriptionAndDeadline() throws Exception {
+        ChoresRepository wrapped = Mockito.mock(ChoresRepository.class);
+        Mockito.when(wrapped.find("Chore #01", DAY)).thenReturn(new Chore(7L, "Chore #01", Boolean.FALSE, DAY));
+        Mockito.when(wrapped.delete(Mockito.any())).thenReturn(true);
+        try (WriteBehindChoreRepository repository = new WriteBehindChoreRepository(wrapped)) {
+            repository.delete(new Chore("Chore #01", Boolean.FALSE, DAY));
+            repository.delete(new Chore("Chore #02", Boolean.FALSE, DAY));
+
+            assertTrue(repository.flush());
+            ArgumentCaptor<Chore> deleted = ArgumentCaptor.forClass(Chore.class);
+            Mockito.verify(wrapped).delete(deleted.capture());
+            assertEquals(7L, deleted.getValue().getId());
+        }
+    }
+
+    /**
+     * Records the descriptions of the chores it saves.
+     */
+    private static class RecordingRepository implements ChoresRepository {
+
+        private final Set<String> persisted = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public List<Chore> load() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public boolean saveAll(List<Chore> chores) {
+            return saveChanges(chores);
+        }
+
+        @Override
+        public boolean save(Chore chore) {
+            return persisted.add(chore.getDescription());
+        }
+
+        @Override
+        public boolean update(Chore chore) {
+            return save(chore);
+        }
+
+        @Override
+        public boolean saveChanges(List<Chore> chores) {
+            chores.forEach(this::save);
+            return true;
+        }
+    }
+
+    /**
+     * A mocked repository whose first saveChanges waits for release, so the
+     * test can queue writes while the writer is busy. Gives ids from 1.
+     */
+    private static class BlockingRepository {
+
+        private final ChoresRepository repository = Mockito.mock(ChoresRepository.class);
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<List<Chore>> batches = new ArrayList<>();
+        private final AtomicLong nextId = new AtomicLong(1);
+
+        private BlockingRepository() {
+            Mockito.when(repository.saveChanges(Mockito.any())).thenAnswer(invocation -> {
+                List<Chore> chores = invocation.getArgument(0);
+                batches.add(new ArrayList<>(chores));
+                entered.countDown();
+                release.await();
+                chores.forEach(chore -> chore.setId(nextId.getAndIncrement()));
+                return true;
+            });
+        }
+    }
+}
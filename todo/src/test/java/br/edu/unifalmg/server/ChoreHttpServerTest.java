@@ -0,0 +1,186 @@
+package br.edu.unifalmg.server;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import br.edu.unifalmg.service.ChoreService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChoreHttpServerTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(1);
+
+    @Mock
+    private ChoresRepository repository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private ChoreService service;
+    private ChoreHttpServer server;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        AtomicLong ids = new AtomicLong(1);
+        Mockito.when(repository.save(Mockito.any())).thenAnswer(invocation -> {
+            invocation.<Chore>getArgument(0).setId(ids.getAndIncrement());
+            return true;
+        });
+        Mockito.when(repository.update(Mockito.any())).thenReturn(true);
+        Mockito.when(repository.delete(Mockito.any())).thenReturn(true);
+        service = new ChoreService(repository, ChoreStoreMode.CONCURRENT);
+        server = new ChoreHttpServer(service, new InetSocketAddress("localhost", 0), 8);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("#handle > When every endpoint is called > Apply each command to the service")
+    void handleWhenEveryEndpointIsCalledApplyEachCommandToTheService() throws Exception {
+        HttpResponse<String> added = send("POST", "/chores", "{\"description\":\"Chore #01\",\"deadline\":\"" + DAY + "\"}");
+        send("POST", "/chores", "{\"description\":\"Chore #02\",\"deadline\":\"" + DAY + "\"}");
+        HttpResponse<String> toggled = send("POST", "/chores/toggle", "{\"description\":\"Chore #01\",\"deadline\":\"" + DAY + "\"}");
+        HttpResponse<String> edited = send("PUT", "/chores", "{\"description\":\"Chore #02\",\"deadline\":\"" + DAY
+                + "\",\"newDescription\":\"Chore #02 edited\",\"newDeadline\":\"" + DAY.plusDays(1) + "\"}");
+        HttpResponse<String> completed = send("GET", "/chores?filter=completed", null);
+        HttpResponse<String> deleted = send("DELETE", "/chores?description=Chore+%2301&deadline=" + DAY, null);
+        HttpResponse<String> all = send("GET", "/chores", null);
+
+        JsonNode addedChore = mapper.readTree(added.body());
+        assertAll(
+                () -> assertEquals(201, added.statusCode()),
+                () -> assertEquals(1L, addedChore.get("id").asLong()),
+                () -> assertEquals(DAY.toString(), addedChore.get("deadline").asText()),
+                () -> assertTrue(mapper.readTree(toggled.body()).get("isCompleted").asBoolean()),
+                () -> assertEquals("Chore #02 edited", mapper.readTree(edited.body()).get("description").asText()),
+                () -> assertEquals("Chore #01", mapper.readTree(completed.body()).get(0).get("description").asText()),
+                () -> assertEquals(204, deleted.statusCode()),
+                () -> assertEquals(1, mapper.readTree(all.body()).size()),
+                () -> assertEquals(1, service.getChores().size())
+        );
+        Mockito.verify(repository, Mockito.times(2)).update(Mockito.any());
+        Mockito.verify(repository).delete(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("#handle > When the service rejects the request > Answer with the matching status")
+    void handleWhenTheServiceRejectsTheRequestAnswerWithTheMatchingStatus() throws Exception {
+        send("POST", "/chores", "{\"description\":\"Chore #01\",\"deadline\":\"" + DAY + "\"}");
+
+        HttpResponse<String> duplicated = send("POST", "/chores", "{\"description\":\"Chore #01\",\"deadline\":\"" + DAY + "\"}");
+        HttpResponse<String> invalid = send("POST", "/chores", "{\"description\":\"\",\"deadline\":\"" + DAY + "\"}");
+        HttpResponse<String> malformed = send("POST", "/chores", "{\"description\":");
+        HttpResponse<String> missing = send("POST", "/chores/toggle", "{\"description\":\"Chore #02\",\"deadline\":\"" + DAY + "\"}");
+        HttpResponse<String> unknown = send("GET", "/chores/unknown", null);
+        assertAll(
+                () -> assertEquals(409, duplicated.statusCode()),
+                () -> assertEquals("The given chore already exists.", mapper.readTree(duplicated.body()).get("error").asText()),
+                () -> assertEquals(400, invalid.statusCode()),
+                () -> assertEquals(400, malformed.statusCode()),
+                () -> assertEquals(404, missing.statusCode()),
+                () -> assertEquals(404, unknown.statusCode())
+        );
+    }
+
+    @Test
+    @DisplayName("#handle > When the repository fails > Answer with an internal error")
+    void handleWhenTheRepositoryFailsAnswerWithAnInternalError() throws Exception {
+        send("POST", "/chores", "{\"description\":\"Chore #01\",\"deadline\":\"" + DAY + "\"}");
+        Mockito.when(repository.update(Mockito.any())).thenReturn(false);
+
+        HttpResponse<String> toggled = send("POST", "/chores/toggle", "{\"description\":\"Chore #01\",\"deadline\":\"" + DAY + "\"}");
+        assertAll(
+                () -> assertEquals(500, toggled.statusCode()),
+                () -> assertEquals("Unable to handle the request", mapper.readTree(toggled.body()).get("error").asText()),
+                () -> assertFalse(service.getChores().get(0).getIsCompleted())
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, names = {"DEFAULT", "COLUMNAR", "LAZY"})
+    @DisplayName("#new > When the service is not thread-safe > Throw an exception")
+    void newWhenTheServiceIsNotThreadSafeThrowAnException(ChoreStoreMode mode) {
+        ChoreService unsafe = new ChoreService(repository, mode);
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChoreHttpServer(unsafe, new InetSocketAddress("localhost", 0), 8));
+    }
+
+    @Test
+    @DisplayName("#handle > When the list did not change > Answer not modified until it does")
+    void handleWhenTheListDidNotChangeAnswerNotModifiedUntilItDoes() throws Exception {
+        send("POST", "/chores", "{\"description\":\"Chore #01\",\"deadline\":\"" + DAY + "\"}");
+        HttpResponse<String> first = send("GET", "/chores", null);
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> unchanged = client.send(HttpRequest.newBuilder(uri("/chores"))
+                .header("If-None-Match", etag).build(), HttpResponse.BodyHandlers.ofString());
+        send("POST", "/chores/toggle", "{\"description\":\"Chore #01\",\"deadline\":\"" + DAY + "\"}");
+        HttpResponse<String> changed = client.send(HttpRequest.newBuilder(uri("/chores"))
+                .header("If-None-Match", etag).build(), HttpResponse.BodyHandlers.ofString());
+        assertAll(
+                () -> assertEquals(200, first.statusCode()),
+                () -> assertEquals(304, unchanged.statusCode()),
+                () -> assertTrue(unchanged.body().isEmpty()),
+                () -> assertEquals(200, changed.statusCode()),
+                () -> assertNotEquals(etag, changed.headers().firstValue("ETag").orElseThrow()),
+                () -> assertTrue(mapper.readTree(changed.body()).get(0).get("isCompleted").asBoolean())
+        );
+    }
+
+    @Test
+    @DisplayName("#handle > When the server is restarted > Answer with the chores rather than not modified")
+    void handleWhenTheServerIsRestartedAnswerWithTheChoresRatherThanNotModified() throws Exception {
+        send("POST", "/chores", "{\"description\":\"Chore #01\",\"deadline\":\"" + DAY + "\"}");
+        String etag = send("GET", "/chores", null).headers().firstValue("ETag").orElseThrow();
+        server.close();
+
+        // A new service over other chores, at the same version as the old one
+        service = new ChoreService(repository, ChoreStoreMode.CONCURRENT);
+        server = new ChoreHttpServer(service, new InetSocketAddress("localhost", 0), 8);
+        server.start();
+        send("POST", "/chores", "{\"description\":\"Chore #02\",\"deadline\":\"" + DAY + "\"}");
+        HttpResponse<String> restarted = client.send(HttpRequest.newBuilder(uri("/chores"))
+                .header("If-None-Match", etag).build(), HttpResponse.BodyHandlers.ofString());
+        assertAll(
+                () -> assertEquals(200, restarted.statusCode()),
+                () -> assertNotEquals(etag, restarted.headers().firstValue("ETag").orElseThrow()),
+                () -> assertEquals("Chore #02", mapper.readTree(restarted.body()).get(0).get("description").asText())
+        );
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body);
+        return client.send(HttpRequest.newBuilder(uri(path)).method(method, publisher).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
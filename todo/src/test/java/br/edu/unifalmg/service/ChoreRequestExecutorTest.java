@@ -0,0 +1,200 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.ChoreRequest;
+import br.edu.unifalmg.enumerator.ChoreCommand;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
+import br.edu.unifalmg.exception.ChorePersistenceException;
+import br.edu.unifalmg.exception.DuplicatedChoreException;
+import br.edu.unifalmg.repository.EmbeddedChoreDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChoreRequestExecutorTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(1);
+
+    @Mock
+    private ChoresRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        AtomicLong ids = new AtomicLong(1);
+        Mockito.when(repository.save(Mockito.any())).thenAnswer(invocation -> {
+            invocation.<Chore>getArgument(0).setId(ids.getAndIncrement());
+            return true;
+        });
+        Mockito.when(repository.update(Mockito.any())).thenReturn(true);
+        Mockito.when(repository.delete(Mockito.any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("#submit > When every command is sent > Apply and persist each of them")
+    void submitWhenEveryCommandIsSentApplyAndPersistEachOfThem() throws Exception {
+        ChoreService service = new ChoreService(repository, ChoreStoreMode.CONCURRENT);
+        try (ChoreRequestExecutor executor = new ChoreRequestExecutor(service, 4)) {
+            Chore added = executor.submit(request(ChoreCommand.ADD, "Chore #01")).get().get(0);
+            executor.submit(request(ChoreCommand.ADD, "Chore #02")).get();
+            Chore toggled = executor.submit(request(ChoreCommand.TOGGLE, "Chore #01")).get().get(0);
+            Chore edited = executor.submit(ChoreRequest.builder().command(ChoreCommand.EDIT)
+                    .description("Chore #02").deadline(DAY)
+                    .newDescription("Chore #02 edited").newDeadline(DAY.plusDays(1)).build()).get().get(0);
+            List<Chore> completed = executor.submit(ChoreRequest.builder()
+                    .command(ChoreCommand.FILTER).filter(ChoreFilter.COMPLETED).build()).get();
+            List<Chore> deleted = executor.submit(request(ChoreCommand.DELETE, "Chore #01")).get();
+
+            assertAll(
+                    () -> assertEquals(1L, added.getId()),
+                    () -> assertTrue(toggled.getIsCompleted()),
+                    () -> assertEquals("Chore #02 edited", edited.getDescription()),
+                    () -> assertEquals(List.of("Chore #01"), completed.stream().map(Chore::getDescription).toList()),
+                    () -> assertTrue(deleted.isEmpty()),
+                    () -> assertEquals(1, service.getChores().size())
+            );
+            Mockito.verify(repository, Mockito.times(2)).save(Mockito.any());
+            Mockito.verify(repository, Mockito.times(2)).update(Mockito.any());
+            Mockito.verify(repository, Mockito.times(1)).delete(Mockito.any());
+        }
+    }
+
+    @Test
+    @DisplayName("#submit > When the service rejects the request > Complete with its exception")
+    void submitWhenTheServiceRejectsTheRequestCompleteWithItsException() throws Exception {
+        ChoreService service = new ChoreService(repository, ChoreStoreMode.CONCURRENT);
+        try (ChoreRequestExecutor executor = new ChoreRequestExecutor(service, 4)) {
+            executor.submit(request(ChoreCommand.ADD, "Chore #01")).get();
+
+            CompletableFuture<List<Chore>> duplicated = executor.submit(request(ChoreCommand.ADD, "Chore #01"));
+            CompletionException exception = assertThrows(CompletionException.class, duplicated::join);
+            assertInstanceOf(DuplicatedChoreException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("#submit > When the repository cannot update the chore > Leave it unchanged and complete with the error")
+    void submitWhenTheRepositoryCannotUpdateTheChoreLeaveItUnchangedAndCompleteWithTheError() throws Exception {
+        ChoreService service = new ChoreService(repository, ChoreStoreMode.CONCURRENT);
+        try (ChoreRequestExecutor executor = new ChoreRequestExecutor(service, 4)) {
+            executor.submit(request(ChoreCommand.ADD, "Chore #01")).get();
+            Mockito.when(repository.update(Mockito.any())).thenReturn(false);
+
+            CompletionException toggle = assertThrows(CompletionException.class,
+                    executor.submit(request(ChoreCommand.TOGGLE, "Chore #01"))::join);
+            CompletionException edit = assertThrows(CompletionException.class,
+                    executor.submit(ChoreRequest.builder().command(ChoreCommand.EDIT)
+                            .description("Chore #01").deadline(DAY)
+                            .newDescription("Chore #01 edited").newDeadline(DAY).build())::join);
+            assertAll(
+                    () -> assertInstanceOf(ChorePersistenceException.class, toggle.getCause()),
+                    () -> assertInstanceOf(ChorePersistenceException.class, edit.getCause()),
+                    () -> assertFalse(service.findChore("Chore #01", DAY).getIsCompleted()),
+                    () -> assertNull(service.findChore("Chore #01 edited", DAY))
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, names = {"CONCURRENT", "COPY_ON_WRITE"})
+    @DisplayName("#submit > When the repository cannot delete the chore > Keep it and complete with the error")
+    void submitWhenTheRepositoryCannotDeleteTheChoreKeepItAndCompleteWithTheError(ChoreStoreMode mode) throws Exception {
+        ChoreService service = new ChoreService(repository, mode);
+        try (ChoreRequestExecutor executor = new ChoreRequestExecutor(service, 4)) {
+            executor.submit(request(ChoreCommand.ADD, "Chore #01")).get();
+            Mockito.when(repository.delete(Mockito.any())).thenReturn(false);
+
+            CompletionException delete = assertThrows(CompletionException.class,
+                    executor.submit(request(ChoreCommand.DELETE, "Chore #01"))::join);
+            assertAll(
+                    () -> assertInstanceOf(ChorePersistenceException.class, delete.getCause()),
+                    () -> assertNotNull(service.findChore("Chore #01", DAY)),
+                    () -> assertEquals(1, service.getChores().size())
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, names = {"DEFAULT", "COLUMNAR", "LAZY"})
+    @DisplayName("#new > When the service is not thread-safe > Throw an exception")
+    void newWhenTheServiceIsNotThreadSafeThrowAnException(ChoreStoreMode mode) {
+        ChoreService service = new ChoreService(repository, mode);
+        assertThrows(IllegalArgumentException.class, () -> new ChoreRequestExecutor(service, 4));
+    }
+
+    @Test
+    @DisplayName("#submit > When more requests arrive than the limit > Run at most the limit at a time")
+    void submitWhenMoreRequestsArriveThanTheLimitRunAtMostTheLimitAtATime() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            release.await(10, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return true;
+        }).when(repository).save(Mockito.any());
+        ChoreService service = new ChoreService(repository, ChoreStoreMode.CONCURRENT);
+        try (ChoreRequestExecutor executor = new ChoreRequestExecutor(service, 2,
+                Executors.newVirtualThreadPerTaskExecutor())) {
+            List<CompletableFuture<List<Chore>>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(request(ChoreCommand.ADD, "Chore #" + i)));
+            }
+            Thread.sleep(200);
+            assertEquals(2, running.get());
+
+            release.countDown();
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+            assertAll(
+                    () -> assertEquals(2, peak.get()),
+                    () -> assertEquals(10, service.getChores().size())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("#submit > When many clients add chores at once > Store every chore in the database")
+    void submitWhenManyClientsAddChoresAtOnceStoreEveryChoreInTheDatabase() throws Exception {
+        try (EmbeddedChoreDatabase database = new EmbeddedChoreDatabase();
+             MySQLChoreRepository mysql = new MySQLChoreRepository(database.getUrl())) {
+            ChoreService service = new ChoreService(mysql, ChoreStoreMode.CONCURRENT);
+            try (ChoreRequestExecutor executor = new ChoreRequestExecutor(service, 32)) {
+                List<CompletableFuture<List<Chore>>> results = new ArrayList<>();
+                for (int i = 0; i < 2000; i++) {
+                    results.add(executor.submit(request(ChoreCommand.ADD, "Chore #" + i)));
+                }
+                CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(1, TimeUnit.MINUTES);
+            }
+            assertAll(
+                    () -> assertEquals(2000, database.count()),
+                    () -> assertEquals(2000, service.getChores().size())
+            );
+        }
+    }
+
+    private static ChoreRequest request(ChoreCommand command, String description) {
+        return ChoreRequest.builder().command(command).description(description).deadline(DAY).build();
+    }
+}
@@ -0,0 +1,133 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChoreSearchIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 10);
+
+    private final Chore report = new Chore("Gestão de contas", Boolean.FALSE, DAY);
+    private final Chore laterReport = new Chore("Gestão de contas", Boolean.TRUE, DAY.plusDays(7));
+    private final Chore meeting = new Chore("Reunião de gestão financeira", Boolean.FALSE, DAY);
+    private final Chore gesture = new Chore("Gestures class", Boolean.FALSE, DAY);
+    private final Chore dishes = new Chore("Wash the dishes", Boolean.FALSE, null);
+    private final Chore notes = new Chore("Gest notes", Boolean.FALSE, DAY);
+
+    private ChoreStore store() {
+        return new IndexedChoreList(List.of(laterReport, report, meeting, gesture, dishes, notes));
+    }
+
+    private ChoreSearchIndex index(boolean concurrent) {
+        return new ChoreSearchIndex(concurrent, List.of(laterReport, report, meeting, gesture, dishes, notes));
+    }
+
+    @Test
+    @DisplayName("#tokenize > When the text has accents, case and punctuation > Return plain lower-case words")
+    void tokenizeWhenTheTextHasAccentsCaseAndPunctuationReturnPlainLowerCaseWords() {
+        assertArrayEquals(new String[]{"gestao", "de", "acoes", "2024"},
+                ChoreSearchIndex.tokenize("Gestão de AÇÕES, 2024 (de)"));
+    }
+
+    @Test
+    @DisplayName("#search > When the query has no accents > Match the accented descriptions")
+    void searchWhenTheQueryHasNoAccentsMatchTheAccentedDescriptions() {
+        assertEquals(List.of(report, laterReport, meeting),
+                index(false).search("GESTAO", Integer.MAX_VALUE, store()));
+    }
+
+    @Test
+    @DisplayName("#search > When the query is a prefix > Rank whole word matches first, then shorter descriptions")
+    void searchWhenTheQueryIsAPrefixRankWholeWordMatchesFirstThenShorterDescriptions() {
+        ChoreStore store = store();
+        ChoreSearchIndex index = index(true);
+        assertAll(
+                () -> assertEquals(List.of(notes, gesture, report, laterReport, meeting),
+                        index.search("gest", Integer.MAX_VALUE, store)),
+                () -> assertEquals(List.of(report, laterReport, meeting),
+                        index.search("de gest", Integer.MAX_VALUE, store)),
+                () -> assertEquals(List.of(notes, gesture), index.search("gest", 2, store))
+        );
+    }
+
+    @Test
+    @DisplayName("#search > When the query has many words > Return the chores matching all of them")
+    void searchWhenTheQueryHasManyWordsReturnTheChoresMatchingAllOfThem() {
+        assertAll(
+                () -> assertEquals(List.of(meeting), index(false).search("gest fin", Integer.MAX_VALUE, store())),
+                () -> assertEquals(List.of(dishes), index(false).search("dish wash", Integer.MAX_VALUE, store())),
+                () -> assertEquals(List.of(), index(false).search("gest dish", Integer.MAX_VALUE, store())),
+                () -> assertEquals(List.of(), index(false).search(" - ", Integer.MAX_VALUE, store())),
+                () -> assertEquals(List.of(), index(false).search(null, Integer.MAX_VALUE, store()))
+        );
+    }
+
+    @Test
+    @DisplayName("#remove > When the last deadline of a description is removed > Stop finding the description")
+    void removeWhenTheLastDeadlineOfADescriptionIsRemovedStopFindingTheDescription() {
+        for (boolean concurrent : new boolean[]{false, true}) {
+            ChoreSearchIndex index = index(concurrent);
+            index.remove(report.getDescription(), report.getDeadline());
+            assertEquals(List.of(laterReport), index.search("contas", Integer.MAX_VALUE, store()));
+            index.remove(laterReport.getDescription(), laterReport.getDeadline());
+            index.remove(dishes.getDescription(), null);
+            assertAll(
+                    () -> assertEquals(List.of(), index.search("contas", Integer.MAX_VALUE, store())),
+                    () -> assertEquals(List.of(), index.search("dishes", Integer.MAX_VALUE, store()))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("#search > When the store no longer has the chore > Skip it")
+    void searchWhenTheStoreNoLongerHasTheChoreSkipIt() {
+        ChoreStore store = store();
+        store.remove(report.getDescription(), report.getDeadline());
+        assertEquals(List.of(laterReport), index(false).search("contas", Integer.MAX_VALUE, store));
+    }
+
+    @Test
+    @DisplayName("#search > When the best match has no stored chore > Fill the limit with the next ones")
+    void searchWhenTheBestMatchHasNoStoredChoreFillTheLimitWithTheNextOnes() {
+        ChoreStore store = store();
+        store.remove(notes.getDescription(), notes.getDeadline());
+        assertEquals(List.of(gesture), index(false).search("gest", 1, store));
+    }
+
+    @Test
+    @DisplayName("#removed > When a racing add stored the key again > Keep the chore searchable")
+    void removedWhenARacingAddStoredTheKeyAgainKeepTheChoreSearchable() {
+        ConcurrentChoreStore store = new ConcurrentChoreStore(List.of(report));
+        ChoreSearchIndex index = new ChoreSearchIndex(true, List.of(report));
+        Chore again = new Chore(report.getDescription(), Boolean.FALSE, report.getDeadline());
+
+        // A delete and an add of the same key, with the add finishing first
+        store.remove(report.getDescription(), report.getDeadline());
+        store.addIfAbsent(again);
+        index.added(again.getDescription(), again.getDeadline(), store);
+        index.removed(report.getDescription(), report.getDeadline(), store);
+
+        assertEquals(List.of(again), index.search("contas", Integer.MAX_VALUE, store));
+    }
+
+    @Test
+    @DisplayName("#removed > When no description uses a word any more > Drop the word")
+    void removedWhenNoDescriptionUsesAWordAnyMoreDropTheWord() {
+        for (boolean concurrent : new boolean[]{false, true}) {
+            ChoreSearchIndex index = index(concurrent);
+            int words = index.wordCount();
+            ChoreStore store = store();
+            store.remove(dishes.getDescription(), null);
+            index.removed(dishes.getDescription(), null, store);
+
+            // "wash", "the" and "dishes" are only used by that description
+            assertEquals(words - 3, index.wordCount());
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package br.edu.unifalmg.service;
 
 import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.Repository.Chores.impl.MySQLChoreRepository;
+import br.edu.unifalmg.Repository.Chores.impl.WriteBehindChoreRepository;
 import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.domain.ChoreBatchResult;
+import br.edu.unifalmg.domain.DescriptionDictionary;
 import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.enumerator.ChoreStoreMode;
 import br.edu.unifalmg.exception.*;
+import br.edu.unifalmg.repository.EmbeddedChoreDatabase;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -21,6 +29,16 @@ import java.time.LocalDate;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -57,6 +75,25 @@ public class ChoreServiceTest {
         );
     }
 
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, names = {"DEFAULT", "CONCURRENT", "COPY_ON_WRITE"})
+    @DisplayName("#addChore/#editChore > When descriptions repeat > Share one instance per description")
+    void addChoreEditChoreWhenDescriptionsRepeatShareOneInstancePerDescription(ChoreStoreMode mode) {
+        ChoreService service = new ChoreService(repository, mode);
+        service.setDictionary(new DescriptionDictionary(10));
+        Mockito.when(repository.save(Mockito.any())).thenReturn(Boolean.TRUE);
+        service.addChore(new String("Water the plants"), LocalDate.now().plusDays(1));
+        service.addChore(new String("Water the plants"), LocalDate.now().plusDays(2));
+        service.addChore("Take out the trash", LocalDate.now().plusDays(1));
+        service.editChore(service.getChores().get(2), new String("Water the plants"), LocalDate.now().plusDays(3));
+
+        List<Chore> chores = service.getChores();
+        assertAll(
+                () -> assertSame(chores.get(0).getDescription(), chores.get(1).getDescription()),
+                () -> assertSame(chores.get(0).getDescription(), chores.get(2).getDescription())
+        );
+    }
+
     @Test
     @DisplayName("#addChore > When the deadline is invalid > Throw an exception")
     void addChoreWhenTheDeadlineIsInvalidThrowAnException() {
@@ -403,6 +440,153 @@ public class ChoreServiceTest {
     }
 
 
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, mode = EnumSource.Mode.EXCLUDE, names = "LAZY")
+    @DisplayName("#loadChoresInPages > When the repository has many pages > Load every chore once")
+    void loadChoresInPagesWhenTheRepositoryHasManyPagesLoadEveryChoreOnce(ChoreStoreMode mode) throws Exception {
+        List<Chore> stored = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            stored.add(new Chore(id, "Chore #" + id, Boolean.FALSE, LocalDate.now()));
+        }
+        Mockito.when(repository.loadPage(Mockito.anyLong(), Mockito.anyInt())).thenAnswer(invocation ->
+                stored.stream().filter(chore -> chore.getId() > (long) invocation.getArgument(0))
+                        .limit((int) invocation.getArgument(1)).toList());
+        ChoreService service = new ChoreService(repository, mode);
+
+        service.loadChoresInPages(3).get(10, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertEquals(descriptions(stored), descriptions(service.getChores())),
+                () -> assertEquals(1, service.search("chore 7").size())
+        );
+        Mockito.verify(repository, Mockito.times(3)).loadPage(Mockito.anyLong(), Mockito.eq(3));
+    }
+
+    @Test
+    @DisplayName("#LAZY > When the service is used > Read chores as needed and write every change through")
+    void lazyWhenTheServiceIsUsedReadChoresAsNeededAndWriteEveryChangeThrough() throws Exception {
+        try (EmbeddedChoreDatabase database = new EmbeddedChoreDatabase();
+             MySQLChoreRepository repository = new MySQLChoreRepository(database.getUrl())) {
+            database.insertGenerated(5000);
+            ChoreService service = new ChoreService(repository, ChoreStoreMode.LAZY);
+            service.loadChores();
+
+            assertEquals("Chore #1", service.getChores().get(0).getDescription());
+            assertEquals(5000, service.getChores().size());
+
+            LocalDate deadline = LocalDate.now().plusDays(1);
+            service.addChore("Chore #5001", deadline);
+            service.toggleChore("Chore #2", LocalDate.now().plusDays(2));
+            service.editChore(service.getChores().get(3), "Chore #4 edited", deadline);
+            service.deleteChore("Chore #5", LocalDate.now().plusDays(5));
+
+            ChoreService reloaded = new ChoreService(repository, ChoreStoreMode.LAZY);
+            assertAll(
+                    () -> assertEquals(5000, reloaded.getChores().size()),
+                    () -> assertEquals("Chore #5001", reloaded.getChores().get(4999).getDescription()),
+                    () -> assertEquals(Boolean.TRUE, reloaded.getChores().get(1).getIsCompleted()),
+                    () -> assertEquals("Chore #4 edited", reloaded.getChores().get(3).getDescription()),
+                    () -> assertEquals("Chore #6", reloaded.getChores().get(4).getDescription()),
+                    () -> assertEquals(List.of("Chore #4 edited"), descriptions(reloaded.search("edited"))),
+                    () -> assertEquals(1667, reloaded.countChores(ChoreFilter.COMPLETED)),
+                    () -> assertTrue(reloaded.saveChores())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("#close > When the repository writes behind > Persist every change before closing")
+    void closeWhenTheRepositoryWritesBehindPersistEveryChangeBeforeClosing() throws Exception {
+        try (EmbeddedChoreDatabase database = new EmbeddedChoreDatabase()) {
+            ChoreService service = new ChoreService(
+                    new WriteBehindChoreRepository(new MySQLChoreRepository(database.getUrl())));
+            LocalDate deadline = LocalDate.now().plusDays(1);
+            for (int i = 1; i <= 100; i++) {
+                service.addChore("Chore #" + i, deadline);
+            }
+            Chore chore = service.getChores().get(0);
+            chore.setIsCompleted(Boolean.TRUE);
+            service.updateChore(chore);
+
+            service.close();
+            try (MySQLChoreRepository repository = new MySQLChoreRepository(database.getUrl())) {
+                ChoreService reloaded = new ChoreService(repository);
+                reloaded.loadChores();
+                assertAll(
+                        () -> assertEquals(100, reloaded.getChores().size()),
+                        () -> assertEquals(1, reloaded.countChores(ChoreFilter.COMPLETED)),
+                        () -> assertNotNull(chore.getId())
+                );
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, mode = EnumSource.Mode.EXCLUDE, names = "LAZY")
+    @DisplayName("#deleteChore, #deleteAll > When the repository writes behind > Delete the chores even before they are written")
+    void deleteChoreAndDeleteAllWhenTheRepositoryWritesBehindDeleteTheChoresEvenBeforeTheyAreWritten(ChoreStoreMode mode) throws Exception {
+        List<Chore> stored = new CopyOnWriteArrayList<>();
+        AtomicLong nextId = new AtomicLong(1);
+        ChoresRepository wrapped = Mockito.mock(ChoresRepository.class);
+        Mockito.when(wrapped.saveChanges(Mockito.any())).thenAnswer(invocation -> {
+            for (Chore chore : invocation.<List<Chore>>getArgument(0)) {
+                if (Objects.isNull(chore.getId())) {
+                    chore.setId(nextId.getAndIncrement());
+                }
+                stored.removeIf(other -> other.getId().equals(chore.getId()));
+                stored.add(chore);
+            }
+            return true;
+        });
+        Mockito.when(wrapped.delete(Mockito.any())).thenAnswer(invocation ->
+                stored.removeIf(other -> other.getId().equals(invocation.<Chore>getArgument(0).getId())));
+        Mockito.when(wrapped.find(Mockito.any(), Mockito.any())).thenAnswer(invocation -> stored.stream()
+                .filter(chore -> chore.getDescription().equals(invocation.getArgument(0)))
+                .findFirst().orElse(null));
+        LocalDate deadline = LocalDate.now().plusDays(1);
+
+        try (WriteBehindChoreRepository repository = new WriteBehindChoreRepository(wrapped)) {
+            ChoreService service = new ChoreService(repository, mode);
+            service.addChore("Chore #01", deadline);
+            service.addChore("Chore #02", deadline);
+            service.addChore("Chore #03", deadline);
+            service.deleteChore("Chore #01", deadline);
+            service.deleteAll(chore -> chore.getDescription().equals("Chore #02"));
+
+            assertTrue(service.flush());
+            assertEquals(List.of("Chore #03"), stored.stream().map(Chore::getDescription).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("#loadChoresInPages > When the mode is CONCURRENT > Serve the first page while the rest loads")
+    void loadChoresInPagesWhenTheModeIsConcurrentServeTheFirstPageWhileTheRestLoads() throws Exception {
+        CountDownLatch secondPage = new CountDownLatch(1);
+        Mockito.when(repository.loadPage(0L, 2)).thenReturn(List.of(
+                new Chore(1L, "Chore #01", Boolean.FALSE, LocalDate.now()),
+                new Chore(2L, "Chore #02", Boolean.FALSE, LocalDate.now())));
+        Mockito.when(repository.loadPage(2L, 2)).thenAnswer(invocation -> {
+            secondPage.await(10, TimeUnit.SECONDS);
+            return List.of(new Chore(3L, "Chore #03", Boolean.FALSE, LocalDate.now()));
+        });
+        ChoreService service = new ChoreService(repository, ChoreStoreMode.CONCURRENT);
+
+        CompletableFuture<Void> loading = service.loadChoresInPages(2);
+        assertAll(
+                () -> assertFalse(loading.isDone()),
+                () -> assertEquals(List.of("Chore #01", "Chore #02"), descriptions(service.getChores()))
+        );
+        service.toggleChore("Chore #01", LocalDate.now());
+
+        secondPage.countDown();
+        loading.get(10, TimeUnit.SECONDS);
+        assertAll(
+                () -> assertEquals(List.of("Chore #01", "Chore #02", "Chore #03"), descriptions(service.getChores())),
+                () -> assertEquals(1, service.countChores(ChoreFilter.COMPLETED)),
+                () -> assertEquals(List.of("Chore #03"), descriptions(service.search("03")))
+        );
+    }
+
     @Test
     @DisplayName("#saveChores > When the list is not empty > Save chores ")
     void saveChoresWhenListNotEmptyReturnTrue() {
@@ -440,4 +624,447 @@ public class ChoreServiceTest {
         Boolean result = service.updateChore(null);
         assertFalse(result);
     }
+
+    @Test
+    @DisplayName("#getChores > After add, edit, toggle, delete and load > The index matches the list")
+    void getChoresAfterEveryOperationTheIndexMatchesTheList() {
+        service.addChore("Chore #01", LocalDate.now());
+        service.addChore("Chore #02", LocalDate.now().plusDays(1));
+        service.addChore("Chore #03", LocalDate.now().plusDays(2));
+        assertIndexMatchesList();
+
+        service.editChore(service.getChores().get(0), "Chore #01 edited", LocalDate.now().plusDays(3));
+        assertIndexMatchesList();
+
+        service.toggleChore("Chore #02", LocalDate.now().plusDays(1));
+        assertIndexMatchesList();
+
+        service.deleteChore("Chore #03", LocalDate.now().plusDays(2));
+        assertIndexMatchesList();
+        assertDoesNotThrow(() -> service.addChore("Chore #01", LocalDate.now()));
+
+        Mockito.when(repository.load()).thenReturn(new ArrayList<>(){
+            {
+                add(new Chore("Chore #04", Boolean.FALSE, LocalDate.now()));
+            }
+        });
+        service.loadChores();
+        assertIndexMatchesList();
+        assertThrows(DuplicatedChoreException.class, () -> service.addChore("Chore #04", LocalDate.now()));
+    }
+
+    @Test
+    @DisplayName("#deleteChore > When another chore shares the description or the deadline > Delete only the given chore")
+    void deleteChoreWhenAnotherChoreSharesTheDescriptionOrTheDeadlineDeleteOnlyTheGivenChore() {
+        ChoreService service = new ChoreService();
+        service.getChores().add(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        service.getChores().add(new Chore("Chore #01", Boolean.FALSE, LocalDate.now().plusDays(1)));
+        service.getChores().add(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+
+        service.deleteChore("Chore #01", LocalDate.now());
+
+        assertAll(
+                () -> assertEquals(2, service.getChores().size()),
+                () -> assertEquals(LocalDate.now().plusDays(1), service.getChores().get(0).getDeadline()),
+                () -> assertEquals("Chore #02", service.getChores().get(1).getDescription())
+        );
+    }
+
+    @Test
+    @DisplayName("#toggleChore > When another chore shares the description or the deadline > Toggle only the given chore")
+    void toggleChoreWhenAnotherChoreSharesTheDescriptionOrTheDeadlineToggleOnlyTheGivenChore() {
+        ChoreService service = new ChoreService();
+        service.getChores().add(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        service.getChores().add(new Chore("Chore #01", Boolean.FALSE, LocalDate.now().plusDays(1)));
+        service.getChores().add(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+
+        service.toggleChore("Chore #01", LocalDate.now());
+
+        assertAll(
+                () -> assertTrue(service.getChores().get(0).getIsCompleted()),
+                () -> assertFalse(service.getChores().get(1).getIsCompleted()),
+                () -> assertFalse(service.getChores().get(2).getIsCompleted())
+        );
+    }
+
+    @Test
+    @DisplayName("#countStoredChores > When the repository has chores > Count them by filter without loading them")
+    void countStoredChoresWhenTheRepositoryHasChoresCountThemByFilterWithoutLoadingThem() {
+        Mockito.when(repository.stream()).thenAnswer(invocation -> Stream.of(
+                new Chore("Chore #01", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.TRUE, LocalDate.now()),
+                new Chore("Chore #03", Boolean.TRUE, LocalDate.now())
+        ));
+        assertAll(
+                () -> assertEquals(3, service.countStoredChores(ChoreFilter.ALL)),
+                () -> assertEquals(2, service.countStoredChores(ChoreFilter.COMPLETED)),
+                () -> assertEquals(1, service.countStoredChores(ChoreFilter.UNCOMPLETED)),
+                () -> assertTrue(service.getChores().isEmpty())
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, names = {"CONCURRENT", "COPY_ON_WRITE"})
+    @DisplayName("#getChores > When the mode is thread-safe > Return a snapshot that later changes do not touch")
+    void getChoresWhenTheModeIsThreadSafeReturnASnapshotThatLaterChangesDoNotTouch(ChoreStoreMode mode) {
+        ChoreService service = new ChoreService(repository, mode);
+        service.addChore("Chore #01", LocalDate.now());
+        List<Chore> snapshot = service.getChores();
+
+        service.toggleChore("Chore #01", LocalDate.now());
+        service.addChore("Chore #02", LocalDate.now());
+
+        assertAll(
+                () -> assertEquals(1, snapshot.size()),
+                () -> assertFalse(snapshot.get(0).getIsCompleted()),
+                () -> assertTrue(service.getChores().get(0).getIsCompleted()),
+                () -> assertEquals(2, service.getChores().size()),
+                () -> assertThrows(UnsupportedOperationException.class,
+                        () -> snapshot.add(new Chore("Chore #03", Boolean.FALSE, LocalDate.now())))
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, names = {"CONCURRENT", "COPY_ON_WRITE"})
+    @DisplayName("#editChore > When the mode is thread-safe > Store an edited copy under the new key")
+    void editChoreWhenTheModeIsThreadSafeStoreAnEditedCopyUnderTheNewKey(ChoreStoreMode mode) {
+        ChoreService service = new ChoreService(repository, mode);
+        Chore chore = service.addChore("Chore #01", LocalDate.now());
+        service.addChore("Chore #02", LocalDate.now());
+
+        assertThrows(DuplicatedChoreException.class,
+                () -> service.editChore(chore, "Chore #02", LocalDate.now()));
+        Chore edited = service.editChore(chore, "Chore #01 edited", LocalDate.now().plusDays(1));
+        service.updateChore(edited);
+
+        assertAll(
+                () -> assertEquals("Chore #01", chore.getDescription()),
+                () -> assertSame(edited, service.getChores().get(0)),
+                () -> assertEquals("Chore #01 edited", edited.getDescription()),
+                () -> Mockito.verify(repository).update(Mockito.argThat(updated ->
+                        updated.getDescription().equals("Chore #01 edited"))),
+                () -> assertThrows(ChoreNotFoundException.class,
+                        () -> service.editChore(chore, "Chore #01 again", LocalDate.now().plusDays(2))),
+                () -> assertEquals(List.of("Chore #01 edited"),
+                        service.search("chore #01").stream().map(Chore::getDescription).toList()),
+                () -> assertThrows(ChoreNotFoundException.class,
+                        () -> service.toggleChore("Chore #01", LocalDate.now())),
+                () -> assertDoesNotThrow(() -> service.toggleChore("Chore #01 edited", LocalDate.now().plusDays(1)))
+        );
+    }
+
+    @Test
+    @DisplayName("#filterChores > When the mode is COPY_ON_WRITE > Share the filtered snapshot until the next write")
+    void filterChoresWhenTheModeIsCopyOnWriteShareTheFilteredSnapshotUntilTheNextWrite() {
+        ChoreService service = new ChoreService(repository, ChoreStoreMode.COPY_ON_WRITE);
+        service.addChore("Chore #01", LocalDate.now());
+        service.addChore("Chore #02", LocalDate.now());
+        service.toggleChore("Chore #02", LocalDate.now());
+
+        List<Chore> completed = service.filterChores(ChoreFilter.COMPLETED);
+        assertSame(completed, service.filterChores(ChoreFilter.COMPLETED));
+        assertSame(service.getChores(), service.filterChores(ChoreFilter.ALL));
+
+        service.toggleChore("Chore #01", LocalDate.now());
+
+        assertAll(
+                () -> assertEquals(1, completed.size()),
+                () -> assertEquals(2, service.filterChores(ChoreFilter.COMPLETED).size()),
+                () -> assertTrue(service.filterChores(ChoreFilter.UNCOMPLETED).isEmpty()),
+                () -> assertThrows(UnsupportedOperationException.class,
+                        () -> service.filterChores(ChoreFilter.ALL).clear())
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, mode = EnumSource.Mode.EXCLUDE, names = "LAZY")
+    @DisplayName("#countChores > After add, toggle, edit, delete and load > Count every filter")
+    void countChoresAfterAddToggleEditDeleteAndLoadCountEveryFilter(ChoreStoreMode mode) {
+        ChoreService service = new ChoreService(repository, mode);
+        service.addChore("Chore #01", LocalDate.now());
+        service.addChore("Chore #02", LocalDate.now());
+        service.addChore("Chore #03", LocalDate.now());
+        assertCounts(service, 3, 0);
+
+        service.toggleChore("Chore #01", LocalDate.now());
+        service.toggleChore("Chore #02", LocalDate.now());
+        assertCounts(service, 1, 2);
+
+        service.toggleChore("Chore #02", LocalDate.now());
+        assertCounts(service, 2, 1);
+
+        service.editChore(service.filterChores(ChoreFilter.COMPLETED).get(0), "Chore #01 edited", LocalDate.now());
+        assertCounts(service, 2, 1);
+        assertEquals("Chore #01 edited", service.filterChores(ChoreFilter.COMPLETED).get(0).getDescription());
+
+        service.deleteChore("Chore #01 edited", LocalDate.now());
+        assertCounts(service, 2, 0);
+        service.deleteChore("Chore #02", LocalDate.now());
+        assertCounts(service, 1, 0);
+
+        Mockito.when(repository.load()).thenReturn(List.of(
+                new Chore("Chore #04", Boolean.TRUE, LocalDate.now()),
+                new Chore("Chore #05", Boolean.FALSE, LocalDate.now())
+        ));
+        service.loadChores();
+        assertCounts(service, 1, 1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, mode = EnumSource.Mode.EXCLUDE, names = "LAZY")
+    @DisplayName("#search > After load, add, toggle, edit and delete > Find the current chores")
+    void searchAfterLoadAddToggleEditAndDeleteFindTheCurrentChores(ChoreStoreMode mode) {
+        LocalDate today = LocalDate.now();
+        Mockito.when(repository.load()).thenReturn(List.of(
+                new Chore("Gestão de contas", Boolean.FALSE, today),
+                new Chore("Lavar a louça", Boolean.FALSE, today)
+        ));
+        ChoreService service = new ChoreService(repository, mode);
+        service.loadChores();
+        assertEquals(List.of("Gestão de contas"), descriptions(service.search("gestao")));
+
+        service.addChore("Reunião de gestão", today.plusDays(1));
+        service.addChore("Gestão de contas", today.plusDays(2));
+        service.toggleChore("Gestão de contas", today);
+        List<Chore> found = service.search("GEST");
+        assertAll(
+                () -> assertEquals(List.of("Gestão de contas", "Gestão de contas", "Reunião de gestão"), descriptions(found)),
+                () -> assertEquals(List.of(true, false, false), found.stream().map(Chore::getIsCompleted).toList()),
+                () -> assertEquals(List.of("Lavar a louça"), descriptions(service.search("louca lav")))
+        );
+
+        service.editChore(service.search("lavar").get(0), "Lavar o carro", today.plusDays(3));
+        service.deleteChore("Gestão de contas", today);
+        assertAll(
+                () -> assertEquals(List.of(), service.search("louca")),
+                () -> assertEquals(List.of("Lavar o carro"), descriptions(service.search("carro"))),
+                () -> assertEquals(List.of(today.plusDays(2)),
+                        service.search("contas").stream().map(Chore::getDeadline).toList()),
+                () -> assertEquals(1, service.search("gest", 1).size())
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, mode = EnumSource.Mode.EXCLUDE, names = "LAZY")
+    @DisplayName("#findDueBetween, #findOverdue, #nextDue > After load, add, toggle, edit and delete > Follow the deadlines")
+    void deadlineQueriesAfterLoadAddToggleEditAndDeleteFollowTheDeadlines(ChoreStoreMode mode) {
+        LocalDate today = LocalDate.now();
+        Mockito.when(repository.load()).thenReturn(List.of(
+                new Chore("Late", Boolean.FALSE, today.minusDays(3)),
+                new Chore("Done late", Boolean.TRUE, today.minusDays(2)),
+                new Chore("Today", Boolean.FALSE, today)
+        ));
+        ChoreService service = new ChoreService(repository, mode);
+        service.loadChores();
+        service.addChore("In a week", today.plusDays(7));
+        service.addChore("Tomorrow", today.plusDays(1));
+        service.addChore("Also tomorrow", today.plusDays(1));
+
+        assertAll(
+                () -> assertEquals(List.of("Late"), descriptions(service.findOverdue(today))),
+                () -> assertEquals(List.of("Done late", "Today", "Tomorrow", "Also tomorrow"),
+                        descriptions(service.findDueBetween(today.minusDays(2), today.plusDays(1)))),
+                () -> assertEquals(List.of("Today", "Tomorrow"), descriptions(service.nextDue(2))),
+                () -> assertTrue(service.findDueBetween(today.plusDays(1), today).isEmpty()),
+                () -> assertTrue(service.nextDue(0).isEmpty()),
+                () -> assertThrows(InvalidDeadlineException.class, () -> service.findDueBetween(null, today)),
+                () -> assertThrows(InvalidDeadlineException.class, () -> service.findOverdue(null))
+        );
+
+        service.toggleChore("Today", today);
+        service.editChore(service.findDueBetween(today.plusDays(7), today.plusDays(7)).get(0), "In two days", today.plusDays(2));
+        service.deleteChore("Tomorrow", today.plusDays(1));
+
+        assertAll(
+                () -> assertEquals(List.of("Also tomorrow", "In two days"), descriptions(service.nextDue(5))),
+                () -> assertEquals(List.of("Late"), descriptions(service.findOverdue(today.plusDays(1)))),
+                () -> assertTrue(service.findDueBetween(today.plusDays(3), today.plusDays(30)).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("#addChore, #saveChores > When the mode is COLUMNAR > Store the ids given by the repository")
+    void addChoreAndSaveChoresWhenTheModeIsColumnarStoreTheIdsGivenByTheRepository() {
+        Mockito.when(repository.save(Mockito.any())).thenAnswer(invocation -> {
+            invocation.<Chore>getArgument(0).setId(1L);
+            return Boolean.TRUE;
+        });
+        Mockito.when(repository.load()).thenReturn(List.of(new Chore("Chore #02", Boolean.FALSE, LocalDate.now())));
+        Mockito.when(repository.saveAll(Mockito.any())).thenAnswer(invocation -> {
+            invocation.<List<Chore>>getArgument(0).forEach(chore -> chore.setId(2L));
+            return Boolean.TRUE;
+        });
+        ChoreService service = new ChoreService(repository, ChoreStoreMode.COLUMNAR);
+        service.loadChores();
+        service.addChore("Chore #01", LocalDate.now());
+        assertEquals(1L, service.getChores().get(1).getId());
+
+        assertTrue(service.saveChores());
+
+        assertEquals(2L, service.getChores().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("#addChore > When the repository fails to save > Do not keep the chore")
+    void addChoreWhenTheRepositoryFailsToSaveDoNotKeepTheChore() {
+        Mockito.when(repository.save(Mockito.any())).thenThrow(new RuntimeException("Unable to save"));
+        assertThrows(RuntimeException.class, () -> service.addChore("Chore #01", LocalDate.now()));
+        assertTrue(service.getChores().isEmpty());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, names = {"CONCURRENT", "COPY_ON_WRITE"})
+    @DisplayName("#addChore, #toggleChore, #deleteChore > When called from many threads in a thread-safe mode > Lose no update")
+    void choreOperationsWhenCalledFromManyThreadsInAThreadSafeModeLoseNoUpdate(ChoreStoreMode mode) throws Exception {
+        ChoreService service = new ChoreService(repository, mode);
+        int threads = 8;
+        int choresPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            tasks.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < choresPerThread; i++) {
+                    String description = "Chore #" + thread + "-" + i;
+                    service.addChore(description, LocalDate.now());
+                    service.toggleChore(description, LocalDate.now());
+                    if (i % 2 == 0) {
+                        service.deleteChore(description, LocalDate.now());
+                    }
+                    assertThrows(DuplicatedChoreException.class,
+                            () -> service.addChore("Chore #0-0", LocalDate.now().plusDays(1)));
+                }
+                return null;
+            }));
+        }
+        service.addChore("Chore #0-0", LocalDate.now().plusDays(1));
+        start.countDown();
+        for (Future<?> task : tasks) {
+            task.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<Chore> chores = service.getChores();
+        assertAll(
+                () -> assertEquals(threads * choresPerThread / 2 + 1, chores.size()),
+                () -> assertEquals(threads * choresPerThread / 2, service.filterChores(ChoreFilter.COMPLETED).size()),
+                () -> assertEquals(chores.size(), chores.stream()
+                        .map(chore -> chore.getDescription() + chore.getDeadline()).distinct().count())
+        );
+    }
+
+    @Test
+    @DisplayName("#getVersion > When a change fails or only reads > Keep the version")
+    void getVersionWhenAChangeFailsOrOnlyReadsKeepTheVersion() {
+        LocalDate deadline = LocalDate.now().plusDays(1);
+        long initial = service.getVersion();
+        service.addChore("Chore #01", deadline);
+        long added = service.getVersion();
+
+        service.filterChores(ChoreFilter.ALL);
+        assertThrows(DuplicatedChoreException.class, () -> service.addChore("Chore #01", deadline));
+        assertThrows(ChoreNotFoundException.class, () -> service.toggleChore("Chore #02", deadline));
+        assertEquals(added, service.getVersion());
+
+        service.toggleChore("Chore #01", deadline);
+        long toggled = service.getVersion();
+        service.deleteChore("Chore #01", deadline);
+        assertAll(
+                () -> assertTrue(initial < added),
+                () -> assertTrue(added < toggled),
+                () -> assertTrue(toggled < service.getVersion())
+        );
+    }
+
+    @Test
+    @DisplayName("#addAll > When some chores are invalid or duplicated > Add the others and report each failure")
+    void addAllWhenSomeChoresAreInvalidOrDuplicatedAddTheOthersAndReportEachFailure() {
+        LocalDate deadline = LocalDate.now().plusDays(1);
+        Mockito.when(repository.saveChanges(Mockito.any())).thenAnswer(invocation -> {
+            invocation.<List<Chore>>getArgument(0).forEach(chore -> chore.setId(1L));
+            return true;
+        });
+        service.addChore("Chore #01", deadline);
+
+        ChoreBatchResult result = service.addAll(List.of(
+                new Chore("Chore #01", Boolean.FALSE, deadline),
+                new Chore("Chore #02", Boolean.FALSE, deadline),
+                new Chore("", Boolean.FALSE, deadline),
+                new Chore("Chore #03", Boolean.FALSE, LocalDate.now().minusDays(1)),
+                new Chore("Chore #02", Boolean.FALSE, deadline),
+                new Chore("Chore #04", Boolean.FALSE, deadline)));
+
+        assertAll(
+                () -> assertEquals(List.of("Chore #02", "Chore #04"), descriptions(result.getApplied())),
+                () -> assertEquals(List.of(DuplicatedChoreException.class, InvalidDescriptionException.class,
+                                InvalidDeadlineException.class, DuplicatedChoreException.class),
+                        result.getFailures().stream().map(failure -> failure.getError().getClass()).toList()),
+                () -> assertTrue(result.isPersisted()),
+                () -> assertFalse(result.isSuccessful()),
+                () -> assertEquals(3, service.getChores().size()),
+                () -> assertEquals(1L, service.findChore("Chore #04", deadline).getId())
+        );
+        Mockito.verify(repository).saveChanges(Mockito.argThat(chores -> chores.size() == 2));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChoreStoreMode.class, names = {"DEFAULT", "CONCURRENT", "COPY_ON_WRITE", "COLUMNAR"})
+    @DisplayName("#toggleAll, #deleteAll > When chores match > Change them in one batch and persist it at once")
+    void toggleAllAndDeleteAllWhenChoresMatchChangeThemInOneBatchAndPersistItAtOnce(ChoreStoreMode mode) {
+        LocalDate deadline = LocalDate.now().plusDays(1);
+        Mockito.when(repository.load()).thenReturn(new ArrayList<>(List.of(
+                new Chore(1L, "Chore #01", Boolean.FALSE, deadline),
+                new Chore(2L, "Chore #02", Boolean.TRUE, LocalDate.now().minusDays(1)),
+                new Chore(3L, "Chore #03", Boolean.FALSE, deadline.plusDays(1)))));
+        Mockito.when(repository.saveChanges(Mockito.any())).thenReturn(true);
+        Mockito.when(repository.deleteAll(Mockito.any())).thenReturn(true);
+        ChoreService service = new ChoreService(repository, mode);
+        service.loadChores();
+
+        ChoreBatchResult toggled = service.toggleAll(chore -> !chore.getDescription().equals("Chore #03"));
+        assertAll(
+                () -> assertEquals(List.of("Chore #01"), descriptions(toggled.getApplied())),
+                () -> assertEquals(1, toggled.getFailures().size()),
+                () -> assertEquals("Chore #02", toggled.getFailures().get(0).getDescription()),
+                () -> assertInstanceOf(ToggleChoreWithInvalidDeadlineException.class, toggled.getFailures().get(0).getError()),
+                () -> assertEquals(List.of("Chore #01", "Chore #02"), descriptions(service.filterChores(ChoreFilter.COMPLETED)))
+        );
+
+        ChoreBatchResult deleted = service.deleteAll(Chore::getIsCompleted);
+        assertAll(
+                () -> assertTrue(deleted.isSuccessful()),
+                () -> assertEquals(2, deleted.getApplied().size()),
+                () -> assertEquals(List.of("Chore #03"), descriptions(service.getChores())),
+                () -> assertTrue(service.search("Chore #01").isEmpty())
+        );
+        Mockito.verify(repository).saveChanges(Mockito.argThat(chores -> chores.size() == 1));
+        Mockito.verify(repository).deleteAll(Mockito.argThat(chores -> chores.size() == 2));
+        Mockito.verify(repository, Mockito.never()).delete(Mockito.any());
+    }
+
+    private static List<String> descriptions(List<Chore> chores) {
+        return chores.stream().map(Chore::getDescription).toList();
+    }
+
+    private static void assertCounts(ChoreService service, int uncompleted, int completed) {
+        assertAll(
+                () -> assertEquals(uncompleted + completed, service.countChores(ChoreFilter.ALL)),
+                () -> assertEquals(completed, service.countChores(ChoreFilter.COMPLETED)),
+                () -> assertEquals(uncompleted, service.countChores(ChoreFilter.UNCOMPLETED)),
+                () -> assertEquals(completed, service.filterChores(ChoreFilter.COMPLETED).size()),
+                () -> assertEquals(uncompleted, service.filterChores(ChoreFilter.UNCOMPLETED).size()),
+                () -> assertTrue(service.filterChores(ChoreFilter.COMPLETED).stream().allMatch(Chore::getIsCompleted)),
+                () -> assertTrue(service.filterChores(ChoreFilter.UNCOMPLETED).stream().noneMatch(Chore::getIsCompleted))
+        );
+    }
+
+    private void assertIndexMatchesList() {
+        IndexedChoreList chores = (IndexedChoreList) service.getChores();
+        assertEquals(chores.size(), chores.indexSize());
+        for (Chore chore : chores) {
+            assertSame(chore, chores.find(chore.getDescription(), chore.getDeadline()));
+        }
+    }
 }
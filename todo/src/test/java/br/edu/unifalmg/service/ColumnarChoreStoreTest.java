@@ -0,0 +1,204 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarChoreStoreTest {
+
+    private static void assertSameChores(List<Chore> expected, List<Chore> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Chore wanted = expected.get(i);
+            Chore chore = actual.get(i);
+            assertAll(
+                    () -> assertEquals(wanted.getId(), chore.getId()),
+                    () -> assertEquals(wanted.getDescription(), chore.getDescription()),
+                    () -> assertEquals(wanted.getIsCompleted(), chore.getIsCompleted()),
+                    () -> assertEquals(wanted.getDeadline(), chore.getDeadline())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("#new > When built from a collection > Keep every field of every chore")
+    void newWhenBuiltFromACollectionKeepEveryFieldOfEveryChore() {
+        List<Chore> chores = List.of(
+                new Chore(7L, "Lavar a louça", Boolean.TRUE, LocalDate.now()),
+                new Chore(null, "", Boolean.FALSE, LocalDate.now().minusYears(30)),
+                new Chore(Long.MAX_VALUE, "Chore #03", Boolean.FALSE, null)
+        );
+        ColumnarChoreStore store = new ColumnarChoreStore(chores);
+        assertSameChores(chores, store.list());
+        assertEquals("Lavar a louça", store.find("Lavar a louça", LocalDate.now()).getDescription());
+        assertNotNull(store.find("Chore #03", null));
+    }
+
+    @Test
+    @DisplayName("#list > When a returned chore is changed > Do not change the store")
+    void listWhenAReturnedChoreIsChangedDoNotChangeTheStore() {
+        ColumnarChoreStore store = new ColumnarChoreStore();
+        store.addIfAbsent(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+
+        store.list().get(0).setIsCompleted(Boolean.TRUE);
+
+        assertFalse(store.list().get(0).getIsCompleted());
+        assertThrows(UnsupportedOperationException.class,
+                () -> store.list().add(new Chore("Chore #02", Boolean.FALSE, LocalDate.now())));
+    }
+
+    @Test
+    @DisplayName("#update, #rekey > When the chore exists > Write the change back to the columns")
+    void updateAndRekeyWhenTheChoreExistsWriteTheChangeBackToTheColumns() {
+        ColumnarChoreStore store = new ColumnarChoreStore();
+        store.addIfAbsent(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        store.addIfAbsent(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+
+        store.update("Chore #01", LocalDate.now(), chore -> {
+            chore.setIsCompleted(Boolean.TRUE);
+            chore.setId(42L);
+        });
+        Chore edited = store.find("Chore #01", LocalDate.now());
+        assertNull(store.rekey(edited, "Chore #02", LocalDate.now()));
+        assertNotNull(store.rekey(edited, "Chore edited", LocalDate.now().plusDays(1)));
+
+        assertAll(
+                () -> assertEquals("Chore edited", edited.getDescription()),
+                () -> assertNull(store.find("Chore #01", LocalDate.now())),
+                () -> assertEquals(42L, store.find("Chore edited", LocalDate.now().plusDays(1)).getId()),
+                () -> assertEquals(1, store.count(ChoreFilter.COMPLETED)),
+                () -> assertEquals("Chore edited", store.filter(ChoreFilter.COMPLETED).get(0).getDescription()),
+                () -> assertEquals("Chore #02", store.filter(ChoreFilter.UNCOMPLETED).get(0).getDescription())
+        );
+    }
+
+    @Test
+    @DisplayName("#addIfAbsent, #remove > When mixed at random > Behave like the indexed list")
+    void addIfAbsentAndRemoveWhenMixedAtRandomBehaveLikeTheIndexedList() {
+        Random random = new Random(42);
+        ColumnarChoreStore store = new ColumnarChoreStore();
+        IndexedChoreList expected = new IndexedChoreList();
+        for (int i = 0; i < 5000; i++) {
+            String description = "Chore #" + random.nextInt(500);
+            LocalDate deadline = LocalDate.now().plusDays(random.nextInt(5));
+            if (random.nextInt(3) == 0) {
+                Chore removed = expected.remove(description, deadline);
+                Chore actual = store.remove(description, deadline);
+                assertEquals(removed == null, actual == null);
+            } else {
+                Chore chore = new Chore(description, random.nextBoolean(), deadline);
+                assertEquals(expected.addIfAbsent(chore), store.addIfAbsent(chore));
+            }
+        }
+
+        assertSameChores(expected, store.list());
+        assertSameChores(expected.filter(ChoreFilter.COMPLETED), store.filter(ChoreFilter.COMPLETED));
+        assertEquals(expected.count(ChoreFilter.UNCOMPLETED), store.count(ChoreFilter.UNCOMPLETED));
+        for (Chore chore : expected) {
+            assertNotNull(store.find(chore.getDescription(), chore.getDeadline()));
+        }
+        assertSameChores(expected.findDue(ChoreFilter.UNCOMPLETED, LocalDate.now().plusDays(1), LocalDate.now().plusDays(3), 50),
+                store.findDue(ChoreFilter.UNCOMPLETED, LocalDate.now().plusDays(1), LocalDate.now().plusDays(3), 50));
+    }
+
+    @Test
+    @DisplayName("#removeMatching > When many chores match > Remove them in one pass like the indexed list")
+    void removeMatchingWhenManyChoresMatchRemoveThemInOnePassLikeTheIndexedList() {
+        Random random = new Random(42);
+        ColumnarChoreStore store = new ColumnarChoreStore();
+        IndexedChoreList expected = new IndexedChoreList();
+        for (int i = 0; i < 2000; i++) {
+            Chore chore = new Chore(i % 7 == 0 ? null : "A somewhat long chore description #" + i,
+                    random.nextBoolean(), LocalDate.now().plusDays(i % 5));
+            expected.addIfAbsent(chore);
+            store.addIfAbsent(chore);
+        }
+
+        List<Chore> removed = store.removeMatching(chore -> chore.getIsCompleted() || Objects.isNull(chore.getDescription()));
+        List<Chore> wanted = expected.removeMatching(chore -> chore.getIsCompleted() || Objects.isNull(chore.getDescription()));
+        assertSameChores(wanted, removed);
+        assertSameChores(expected, store.list());
+        assertAll(
+                () -> assertEquals(0, store.count(ChoreFilter.COMPLETED)),
+                () -> assertEquals(expected.size(), store.count(ChoreFilter.UNCOMPLETED)),
+                () -> assertNull(store.find(removed.get(0).getDescription(), removed.get(0).getDeadline())),
+                () -> assertTrue(store.removeMatching(chore -> false).isEmpty())
+        );
+        for (Chore chore : expected) {
+            assertNotNull(store.find(chore.getDescription(), chore.getDeadline()));
+        }
+        Chore added = new Chore("Chore #new", Boolean.TRUE, LocalDate.now());
+        assertTrue(store.addIfAbsent(added));
+        assertAll(
+                () -> assertEquals(1, store.count(ChoreFilter.COMPLETED)),
+                () -> assertEquals("Chore #new", store.find("Chore #new", LocalDate.now()).getDescription())
+        );
+    }
+
+    @Test
+    @DisplayName("#removeMatching > When the predicate throws > Leave the store as it was")
+    void removeMatchingWhenThePredicateThrowsLeaveTheStoreAsItWas() {
+        List<Chore> chores = List.of(
+                new Chore(1L, "Chore #01", Boolean.TRUE, LocalDate.now()),
+                new Chore(2L, "Chore #02", Boolean.FALSE, LocalDate.now()),
+                new Chore(3L, "Chore #03", Boolean.TRUE, LocalDate.now())
+        );
+        ColumnarChoreStore store = new ColumnarChoreStore(chores);
+
+        assertThrows(IllegalStateException.class, () -> store.removeMatching(chore -> {
+            if (chore.getId() == 3L) {
+                throw new IllegalStateException();
+            }
+            return chore.getIsCompleted();
+        }));
+        assertSameChores(chores, store.list());
+        assertEquals(2, store.count(ChoreFilter.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("#remove > When most chores were removed > Keep the remaining descriptions readable")
+    void removeWhenMostChoresWereRemovedKeepTheRemainingDescriptionsReadable() {
+        ColumnarChoreStore store = new ColumnarChoreStore();
+        List<Chore> kept = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Chore chore = new Chore("A somewhat long chore description #" + i, Boolean.FALSE, LocalDate.now());
+            store.addIfAbsent(chore);
+            if (i % 10 == 0) {
+                kept.add(chore);
+            }
+        }
+        for (int i = 0; i < 2000; i++) {
+            if (i % 10 != 0) {
+                store.remove("A somewhat long chore description #" + i, LocalDate.now());
+            }
+        }
+        assertSameChores(kept, store.list());
+    }
+
+    @Test
+    @DisplayName("#addIfAbsent > When the arena shrank under a removed row > Append the new description")
+    void addIfAbsentWhenTheArenaShrankUnderARemovedRowAppendTheNewDescription() {
+        ColumnarChoreStore store = new ColumnarChoreStore();
+        store.addIfAbsent(new Chore("Chore #001", Boolean.FALSE, LocalDate.now()));
+        store.addIfAbsent(new Chore("x".repeat(1500), Boolean.FALSE, LocalDate.now()));
+        store.addIfAbsent(new Chore("Chore #003", Boolean.FALSE, LocalDate.now()));
+        store.remove("Chore #001", LocalDate.now());
+        store.remove("x".repeat(1500), LocalDate.now());
+
+        assertTrue(store.addIfAbsent(new Chore("Chore #004", Boolean.FALSE, LocalDate.now())));
+        assertAll(
+                () -> assertEquals(List.of("Chore #003", "Chore #004"),
+                        store.list().stream().map(Chore::getDescription).toList()),
+                () -> assertNotNull(store.find("Chore #004", LocalDate.now()))
+        );
+    }
+}
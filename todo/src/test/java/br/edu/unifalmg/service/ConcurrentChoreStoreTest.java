@@ -0,0 +1,193 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.exception.ChoreNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentChoreStoreTest {
+
+    @Test
+    @DisplayName("#new > When built from a collection > Keep the insertion order and skip duplicates")
+    void newWhenBuiltFromACollectionKeepTheInsertionOrderAndSkipDuplicates() {
+        ConcurrentChoreStore chores = new ConcurrentChoreStore(List.of(
+                new Chore("Chore #02", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #01", Boolean.TRUE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.TRUE, LocalDate.now())
+        ));
+        assertAll(
+                () -> assertEquals(2, chores.size()),
+                () -> assertEquals("Chore #02", chores.list().get(0).getDescription()),
+                () -> assertFalse(chores.list().get(0).getIsCompleted()),
+                () -> assertEquals("Chore #01", chores.list().get(1).getDescription())
+        );
+    }
+
+    @Test
+    @DisplayName("#update > When the change throws > Keep the stored chore as it was")
+    void updateWhenTheChangeThrowsKeepTheStoredChoreAsItWas() {
+        ConcurrentChoreStore chores = new ConcurrentChoreStore();
+        chores.addIfAbsent(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+
+        assertThrows(IllegalStateException.class, () -> chores.update("Chore #01", LocalDate.now(), chore -> {
+            chore.setIsCompleted(Boolean.TRUE);
+            throw new IllegalStateException();
+        }));
+
+        assertFalse(chores.find("Chore #01", LocalDate.now()).getIsCompleted());
+    }
+
+    @Test
+    @DisplayName("#update > When the chore exists > Publish a copy and keep it in place")
+    void updateWhenTheChoreExistsPublishACopyAndKeepItInPlace() {
+        ConcurrentChoreStore chores = new ConcurrentChoreStore();
+        Chore first = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        chores.addIfAbsent(first);
+        chores.addIfAbsent(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+
+        Chore updated = chores.update("Chore #01", LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE));
+
+        assertAll(
+                () -> assertNotSame(first, updated),
+                () -> assertFalse(first.getIsCompleted()),
+                () -> assertSame(updated, chores.list().get(0)),
+                () -> assertEquals(List.of(updated), chores.filter(ChoreFilter.COMPLETED)),
+                () -> assertNull(chores.update("Chore #03", LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE)))
+        );
+    }
+
+    @Test
+    @DisplayName("#rekey > When the new key is free > Move the chore and keep its position")
+    void rekeyWhenTheNewKeyIsFreeMoveTheChoreAndKeepItsPosition() {
+        ConcurrentChoreStore chores = new ConcurrentChoreStore();
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        chores.addIfAbsent(chore);
+        chores.addIfAbsent(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+
+        assertNull(chores.rekey(chore, "Chore #02", LocalDate.now()));
+        assertNotNull(chores.rekey(chore, "Chore edited", LocalDate.now().plusDays(1)));
+
+        assertAll(
+                () -> assertEquals(2, chores.size()),
+                () -> assertNull(chores.find("Chore #01", LocalDate.now())),
+                () -> assertEquals("Chore edited", chores.list().get(0).getDescription()),
+                () -> assertEquals("Chore #01", chore.getDescription())
+        );
+    }
+
+    @Test
+    @DisplayName("#rekey > When the old key is gone > Throw and leave the store as it was")
+    void rekeyWhenTheOldKeyIsGoneThrowAndLeaveTheStoreAsItWas() {
+        ConcurrentChoreStore chores = new ConcurrentChoreStore();
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        chores.addIfAbsent(chore);
+        chores.remove("Chore #01", LocalDate.now());
+
+        assertThrows(ChoreNotFoundException.class,
+                () -> chores.rekey(chore, "Chore edited", LocalDate.now().plusDays(1)));
+        assertAll(
+                () -> assertEquals(0, chores.size()),
+                () -> assertNull(chores.find("Chore edited", LocalDate.now().plusDays(1))),
+                () -> assertTrue(chores.list().isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("#filter > When chores are toggled, edited and removed > List each state in insertion order")
+    void filterWhenChoresAreToggledEditedAndRemovedListEachStateInInsertionOrder() {
+        ConcurrentChoreStore chores = new ConcurrentChoreStore();
+        for (int i = 1; i <= 4; i++) {
+            chores.addIfAbsent(new Chore("Chore #0" + i, Boolean.FALSE, LocalDate.now()));
+        }
+        chores.update("Chore #03", LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE));
+        chores.update("Chore #01", LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE));
+        chores.rekey(chores.find("Chore #03", LocalDate.now()), "Chore #03 edited", LocalDate.now());
+        chores.remove("Chore #04", LocalDate.now());
+
+        assertAll(
+                () -> assertEquals(List.of("Chore #01", "Chore #03 edited"),
+                        chores.filter(ChoreFilter.COMPLETED).stream().map(Chore::getDescription).toList()),
+                () -> assertEquals(List.of("Chore #02"),
+                        chores.filter(ChoreFilter.UNCOMPLETED).stream().map(Chore::getDescription).toList()),
+                () -> assertEquals(2, chores.count(ChoreFilter.COMPLETED))
+        );
+    }
+
+    @Test
+    @DisplayName("#findDue, #count > When chores are toggled meanwhile > Always see every chore exactly once")
+    void findDueCountWhenChoresAreToggledMeanwhileAlwaysSeeEveryChoreExactlyOnce() throws InterruptedException {
+        ConcurrentChoreStore chores = new ConcurrentChoreStore();
+        for (int i = 0; i < 100; i++) {
+            chores.addIfAbsent(new Chore("Chore #" + i, Boolean.FALSE, LocalDate.now().plusDays(i % 7)));
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        Thread toggler = new Thread(() -> {
+            for (int round = 0; !done.get(); round++) {
+                int i = round % 100;
+                chores.update("Chore #" + i, LocalDate.now().plusDays(i % 7),
+                        chore -> chore.setIsCompleted(!chore.getIsCompleted()));
+            }
+        });
+        toggler.start();
+        try {
+            for (int read = 0; read < 2_000; read++) {
+                assertEquals(100, chores.findDue(ChoreFilter.ALL, null, null, Integer.MAX_VALUE).size());
+                int completed = chores.filter(ChoreFilter.COMPLETED).size();
+                assertTrue(completed >= 0 && completed <= 100);
+                assertEquals(100, chores.count(ChoreFilter.ALL));
+            }
+        } finally {
+            done.set(true);
+            toggler.join();
+        }
+    }
+
+    @Test
+    @DisplayName("#update > When a write is persisting > Let writes to other chores go on")
+    void updateWhenAWriteIsPersistingLetWritesToOtherChoresGoOn() throws Exception {
+        ConcurrentChoreStore chores = new ConcurrentChoreStore(List.of(
+                new Chore("Chore #01", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.FALSE, LocalDate.now())));
+        CountDownLatch persisting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = new Thread(() -> chores.update("Chore #01", LocalDate.now(), chore -> {
+            persisting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            chore.setIsCompleted(Boolean.TRUE);
+        }));
+        slow.start();
+        try {
+            assertTrue(persisting.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Chore> other = CompletableFuture.supplyAsync(() -> chores.update("Chore #02",
+                    LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE)));
+            CompletableFuture<Boolean> added = CompletableFuture.supplyAsync(
+                    () -> chores.addIfAbsent(new Chore("Chore #03", Boolean.FALSE, LocalDate.now())));
+
+            assertTrue(other.get(5, TimeUnit.SECONDS).getIsCompleted());
+            assertTrue(added.get(5, TimeUnit.SECONDS));
+            assertFalse(chores.find("Chore #01", LocalDate.now()).getIsCompleted());
+        } finally {
+            release.countDown();
+            slow.join();
+        }
+        assertAll(
+                () -> assertTrue(chores.find("Chore #01", LocalDate.now()).getIsCompleted()),
+                () -> assertEquals(3, chores.size()),
+                () -> assertEquals(2, chores.count(ChoreFilter.COMPLETED))
+        );
+    }
+}
@@ -0,0 +1,180 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.exception.ChoreNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CopyOnWriteChoreStoreTest {
+
+    @Test
+    @DisplayName("#new > When built from a collection > Keep the insertion order and skip duplicates")
+    void newWhenBuiltFromACollectionKeepTheInsertionOrderAndSkipDuplicates() {
+        CopyOnWriteChoreStore chores = new CopyOnWriteChoreStore(List.of(
+                new Chore("Chore #02", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #01", Boolean.TRUE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.TRUE, LocalDate.now())
+        ));
+        assertAll(
+                () -> assertEquals(2, chores.size()),
+                () -> assertEquals("Chore #02", chores.list().get(0).getDescription()),
+                () -> assertFalse(chores.list().get(0).getIsCompleted()),
+                () -> assertEquals("Chore #01", chores.list().get(1).getDescription())
+        );
+    }
+
+    @Test
+    @DisplayName("#update > When the change throws > Keep the stored chore as it was")
+    void updateWhenTheChangeThrowsKeepTheStoredChoreAsItWas() {
+        CopyOnWriteChoreStore chores = new CopyOnWriteChoreStore();
+        chores.addIfAbsent(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+
+        assertThrows(IllegalStateException.class, () -> chores.update("Chore #01", LocalDate.now(), chore -> {
+            chore.setIsCompleted(Boolean.TRUE);
+            throw new IllegalStateException();
+        }));
+
+        assertFalse(chores.find("Chore #01", LocalDate.now()).getIsCompleted());
+    }
+
+    @Test
+    @DisplayName("#update > When the chore exists > Publish a new snapshot and leave the old one as it was")
+    void updateWhenTheChoreExistsPublishANewSnapshotAndLeaveTheOldOneAsItWas() {
+        CopyOnWriteChoreStore chores = new CopyOnWriteChoreStore();
+        Chore first = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        chores.addIfAbsent(first);
+        chores.addIfAbsent(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+        List<Chore> before = chores.list();
+
+        Chore updated = chores.update("Chore #01", LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE));
+
+        assertAll(
+                () -> assertNotSame(before, chores.list()),
+                () -> assertSame(first, before.get(0)),
+                () -> assertFalse(first.getIsCompleted()),
+                () -> assertSame(updated, chores.list().get(0)),
+                () -> assertEquals(List.of(updated), chores.filter(ChoreFilter.COMPLETED)),
+                () -> assertNull(chores.update("Chore #03", LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE)))
+        );
+    }
+
+    @Test
+    @DisplayName("#remove > When the chore exists > Drop it from the list and the index")
+    void removeWhenTheChoreExistsDropItFromTheListAndTheIndex() {
+        CopyOnWriteChoreStore chores = new CopyOnWriteChoreStore();
+        Chore first = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        chores.addIfAbsent(first);
+        chores.addIfAbsent(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+
+        assertSame(first, chores.remove("Chore #01", LocalDate.now()));
+
+        assertAll(
+                () -> assertNull(chores.remove("Chore #01", LocalDate.now())),
+                () -> assertNull(chores.find("Chore #01", LocalDate.now())),
+                () -> assertEquals(1, chores.size()),
+                () -> assertEquals("Chore #02", chores.list().get(0).getDescription())
+        );
+    }
+
+    @Test
+    @DisplayName("#rekey > When the new key is free > Move the chore and keep its position")
+    void rekeyWhenTheNewKeyIsFreeMoveTheChoreAndKeepItsPosition() {
+        CopyOnWriteChoreStore chores = new CopyOnWriteChoreStore();
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        chores.addIfAbsent(chore);
+        chores.addIfAbsent(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+
+        assertNull(chores.rekey(chore, "Chore #02", LocalDate.now()));
+        Chore edited = chores.rekey(chore, "Chore edited", LocalDate.now().plusDays(1));
+
+        assertAll(
+                () -> assertSame(edited, chores.list().get(0)),
+                () -> assertThrows(ChoreNotFoundException.class,
+                        () -> chores.rekey(chore, "Chore edited again", LocalDate.now().plusDays(2))),
+                () -> assertEquals(2, chores.size()),
+                () -> assertNull(chores.find("Chore #01", LocalDate.now())),
+                () -> assertEquals("Chore edited", chores.list().get(0).getDescription()),
+                () -> assertEquals("Chore #01", chore.getDescription())
+        );
+    }
+
+    @Test
+    @DisplayName("#addAllAbsent, #updateMatching, #removeMatching > When applied to a batch > Publish one snapshot per batch")
+    void bulkOperationsWhenAppliedToABatchPublishOneSnapshotPerBatch() {
+        CopyOnWriteChoreStore chores = new CopyOnWriteChoreStore(List.of(new Chore("Chore #01", Boolean.FALSE, LocalDate.now())));
+        List<Chore> before = chores.list();
+
+        List<Chore> added = chores.addAllAbsent(List.of(
+                new Chore("Chore #01", Boolean.TRUE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #03", Boolean.TRUE, LocalDate.now())));
+        List<Chore> failed = new ArrayList<>();
+        List<Chore> toggled = chores.updateMatching(chore -> !chore.getDescription().equals("Chore #03"), chore -> {
+            if (chore.getDescription().equals("Chore #02")) {
+                throw new IllegalStateException();
+            }
+            chore.setIsCompleted(!chore.getIsCompleted());
+        }, (chore, error) -> failed.add(chore));
+        List<Chore> removed = chores.removeMatching(Chore::getIsCompleted);
+
+        assertAll(
+                () -> assertEquals(List.of("Chore #02", "Chore #03"), added.stream().map(Chore::getDescription).toList()),
+                () -> assertEquals(List.of("Chore #01"), toggled.stream().map(Chore::getDescription).toList()),
+                () -> assertEquals(List.of("Chore #02"), failed.stream().map(Chore::getDescription).toList()),
+                () -> assertEquals(2, removed.size()),
+                () -> assertEquals(List.of("Chore #02"), chores.list().stream().map(Chore::getDescription).toList()),
+                () -> assertNull(chores.find("Chore #03", LocalDate.now())),
+                () -> assertEquals(0, chores.count(ChoreFilter.COMPLETED)),
+                () -> assertEquals(1, before.size())
+        );
+    }
+
+    @Test
+    @DisplayName("#update > When a write is persisting > Let writes to other chores go on")
+    void updateWhenAWriteIsPersistingLetWritesToOtherChoresGoOn() throws Exception {
+        CopyOnWriteChoreStore chores = new CopyOnWriteChoreStore(List.of(
+                new Chore("Chore #01", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.FALSE, LocalDate.now())));
+        CountDownLatch persisting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = new Thread(() -> chores.update("Chore #01", LocalDate.now(), chore -> {
+            persisting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            chore.setIsCompleted(Boolean.TRUE);
+        }));
+        slow.start();
+        try {
+            assertTrue(persisting.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Chore> other = CompletableFuture.supplyAsync(() -> chores.update("Chore #02",
+                    LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE)));
+            CompletableFuture<Boolean> added = CompletableFuture.supplyAsync(
+                    () -> chores.addIfAbsent(new Chore("Chore #03", Boolean.FALSE, LocalDate.now())));
+
+            assertTrue(other.get(5, TimeUnit.SECONDS).getIsCompleted());
+            assertTrue(added.get(5, TimeUnit.SECONDS));
+            assertFalse(chores.find("Chore #01", LocalDate.now()).getIsCompleted());
+        } finally {
+            release.countDown();
+            slow.join();
+        }
+        assertAll(
+                () -> assertTrue(chores.find("Chore #01", LocalDate.now()).getIsCompleted()),
+                () -> assertEquals(3, chores.size()),
+                () -> assertEquals(2, chores.count(ChoreFilter.COMPLETED))
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeadlineIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 10);
+
+    private final Chore late = new Chore("Late", Boolean.FALSE, DAY.minusDays(1));
+    private final Chore done = new Chore("Done", Boolean.TRUE, DAY);
+    private final Chore first = new Chore("First", Boolean.FALSE, DAY);
+    private final Chore second = new Chore("Second", Boolean.FALSE, DAY);
+    private final Chore later = new Chore("Later", Boolean.TRUE, DAY.plusDays(5));
+
+    private DeadlineIndex indexOf(Chore... chores) {
+        DeadlineIndex index = new DeadlineIndex(TreeMap::new);
+        for (int sequence = 0; sequence < chores.length; sequence++) {
+            index.add(sequence, chores[sequence]);
+        }
+        return index;
+    }
+
+    @Test
+    @DisplayName("#find > When the filter is ALL > Merge both states by deadline, then by sequence")
+    void findWhenTheFilterIsAllMergeBothStatesByDeadlineThenBySequence() {
+        DeadlineIndex index = indexOf(later, first, done, late, second);
+        assertAll(
+                () -> assertEquals(List.of(late, first, done, second, later),
+                        index.find(ChoreFilter.ALL, null, null, Integer.MAX_VALUE)),
+                () -> assertEquals(List.of(first, done, second),
+                        index.find(ChoreFilter.ALL, DAY, DAY, Integer.MAX_VALUE)),
+                () -> assertEquals(List.of(late, first),
+                        index.find(ChoreFilter.ALL, null, DAY, 2))
+        );
+    }
+
+    @Test
+    @DisplayName("#find > When the filter is a completion state > Return only that state")
+    void findWhenTheFilterIsACompletionStateReturnOnlyThatState() {
+        DeadlineIndex index = indexOf(later, first, done, late, second);
+        assertAll(
+                () -> assertEquals(List.of(done, later),
+                        index.find(ChoreFilter.COMPLETED, null, null, Integer.MAX_VALUE)),
+                () -> assertEquals(List.of(first, second),
+                        index.find(ChoreFilter.UNCOMPLETED, DAY, null, Integer.MAX_VALUE)),
+                () -> assertTrue(index.find(ChoreFilter.UNCOMPLETED, DAY, DAY.minusDays(1), Integer.MAX_VALUE).isEmpty()),
+                () -> assertTrue(index.find(ChoreFilter.ALL, null, null, 0).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("#remove > When given the state the chore was added with > Remove it even if the chore changed since")
+    void removeWhenGivenTheStateTheChoreWasAddedWithRemoveItEvenIfTheChoreChangedSince() {
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, DAY);
+        DeadlineIndex index = indexOf(chore, new Chore("Without deadline", Boolean.FALSE, null));
+        chore.setIsCompleted(Boolean.TRUE);
+        chore.setDeadline(DAY.plusDays(1));
+
+        index.remove(0, DAY, false);
+
+        assertTrue(index.find(ChoreFilter.ALL, null, null, Integer.MAX_VALUE).isEmpty());
+    }
+}
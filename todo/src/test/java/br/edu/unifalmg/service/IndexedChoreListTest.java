@@ -0,0 +1,325 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedChoreListTest {
+
+    private static void assertIndexMatchesList(IndexedChoreList chores) {
+        assertEquals(chores.size(), chores.indexSize());
+        for (Chore chore : chores) {
+            assertSame(chore, chores.find(chore.getDescription(), chore.getDeadline()));
+        }
+    }
+
+    private static void assertPartitionsMatchList(IndexedChoreList chores) {
+        assertAll(
+                () -> assertEquals(chores.stream().filter(Chore::getIsCompleted).toList(),
+                        List.copyOf(chores.filter(ChoreFilter.COMPLETED))),
+                () -> assertEquals(chores.stream().filter(chore -> !chore.getIsCompleted()).toList(),
+                        List.copyOf(chores.filter(ChoreFilter.UNCOMPLETED))),
+                () -> assertEquals(chores.size(), chores.count(ChoreFilter.ALL)),
+                () -> assertEquals(chores.filter(ChoreFilter.COMPLETED).size(), chores.count(ChoreFilter.COMPLETED)),
+                () -> assertEquals(chores.filter(ChoreFilter.UNCOMPLETED).size(), chores.count(ChoreFilter.UNCOMPLETED))
+        );
+    }
+
+    @Test
+    @DisplayName("#new > When built from a collection > Index every chore")
+    void newWhenBuiltFromACollectionIndexEveryChore() {
+        IndexedChoreList chores = new IndexedChoreList(List.of(
+                new Chore("Chore #01", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.TRUE, LocalDate.now().plusDays(1))
+        ));
+        assertEquals(2, chores.size());
+        assertIndexMatchesList(chores);
+    }
+
+    @Test
+    @DisplayName("#add > When adding chores > Keep the index in sync")
+    void addWhenAddingChoresKeepTheIndexInSync() {
+        IndexedChoreList chores = new IndexedChoreList();
+        chores.add(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        chores.add(0, new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+        chores.addAll(List.of(
+                new Chore("Chore #01", Boolean.FALSE, LocalDate.now().plusDays(1)),
+                new Chore("Chore #03", Boolean.FALSE, LocalDate.now().plusDays(1))
+        ));
+        assertEquals("Chore #02", chores.get(0).getDescription());
+        assertIndexMatchesList(chores);
+    }
+
+    @Test
+    @DisplayName("#remove > When removing chores > Keep the index in sync")
+    void removeWhenRemovingChoresKeepTheIndexInSync() {
+        IndexedChoreList chores = new IndexedChoreList();
+        Chore first = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        Chore second = new Chore("Chore #02", Boolean.FALSE, LocalDate.now());
+        Chore third = new Chore("Chore #03", Boolean.FALSE, LocalDate.now());
+        chores.addAll(List.of(first, second, third));
+
+        chores.remove(second);
+        assertNull(chores.find("Chore #02", LocalDate.now()));
+        assertIndexMatchesList(chores);
+
+        chores.remove(0);
+        assertNull(chores.find("Chore #01", LocalDate.now()));
+        assertIndexMatchesList(chores);
+
+        chores.clear();
+        assertEquals(0, chores.indexSize());
+    }
+
+    @Test
+    @DisplayName("#removeMatching > When some chores match > Remove them and keep the index and partitions in sync")
+    void removeMatchingWhenSomeChoresMatchRemoveThemAndKeepTheIndexAndPartitionsInSync() {
+        IndexedChoreList chores = new IndexedChoreList(List.of(
+                new Chore("Chore #01", Boolean.TRUE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #03", Boolean.TRUE, LocalDate.now().plusDays(1))
+        ));
+
+        List<Chore> removed = chores.removeMatching(Chore::getIsCompleted);
+        assertAll(
+                () -> assertEquals(2, removed.size()),
+                () -> assertEquals("Chore #02", chores.get(0).getDescription()),
+                () -> assertTrue(chores.findDue(ChoreFilter.ALL, null, null, 10).stream()
+                        .noneMatch(Chore::getIsCompleted))
+        );
+        assertIndexMatchesList(chores);
+        assertPartitionsMatchList(chores);
+    }
+
+    @Test
+    @DisplayName("#set > When replacing a chore > Move the index entry")
+    void setWhenReplacingAChoreMoveTheIndexEntry() {
+        IndexedChoreList chores = new IndexedChoreList();
+        chores.add(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        chores.set(0, new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+        assertNull(chores.find("Chore #01", LocalDate.now()));
+        assertIndexMatchesList(chores);
+    }
+
+    @Test
+    @DisplayName("#rekey > When the chore is in the list > Move the index entry")
+    void rekeyWhenTheChoreIsInTheListMoveTheIndexEntry() {
+        IndexedChoreList chores = new IndexedChoreList();
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        chores.add(chore);
+
+        chores.rekey(chore, "Chore edited", LocalDate.now().plusDays(1));
+
+        assertAll(
+                () -> assertEquals("Chore edited", chore.getDescription()),
+                () -> assertNull(chores.find("Chore #01", LocalDate.now())),
+                () -> assertSame(chore, chores.find("Chore edited", LocalDate.now().plusDays(1)))
+        );
+        assertIndexMatchesList(chores);
+    }
+
+    @Test
+    @DisplayName("#rekey > When the chore is not in the list > Do not index it")
+    void rekeyWhenTheChoreIsNotInTheListDoNotIndexIt() {
+        IndexedChoreList chores = new IndexedChoreList();
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+
+        chores.rekey(chore, "Chore edited", LocalDate.now().plusDays(1));
+
+        assertNull(chores.find("Chore edited", LocalDate.now().plusDays(1)));
+        assertEquals(0, chores.indexSize());
+    }
+
+    @Test
+    @DisplayName("#findOrReindex > When a chore was changed through its setters > Find the chore")
+    void findOrReindexWhenAChoreWasChangedThroughItsSettersFindTheChore() {
+        IndexedChoreList chores = new IndexedChoreList();
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        chores.add(chore);
+        chore.setDeadline(LocalDate.now().minusDays(1));
+
+        assertNull(chores.find("Chore #01", LocalDate.now()));
+        assertSame(chore, chores.findOrReindex("Chore #01", LocalDate.now().minusDays(1)));
+        assertIndexMatchesList(chores);
+    }
+
+    @Test
+    @DisplayName("#findOrReindex > When a chore read through a partition was changed through its setters > Find the chore")
+    void findOrReindexWhenAChoreReadThroughAPartitionWasChangedThroughItsSettersFindTheChore() {
+        IndexedChoreList chores = new IndexedChoreList();
+        for (int i = 0; i < 10; i++) {
+            chores.add(new Chore("Chore #" + i, Boolean.FALSE, LocalDate.now()));
+        }
+        assertNull(chores.findOrReindex("Chore #10", LocalDate.now()));
+
+        List<Chore> uncompleted = chores.filter(ChoreFilter.UNCOMPLETED);
+        uncompleted.get(7).setDescription("Chore #10");
+
+        assertEquals("Chore #10", chores.findOrReindex("Chore #10", LocalDate.now()).getDescription());
+        assertIndexMatchesList(chores);
+    }
+
+    @Test
+    @DisplayName("#findOrReindex > When the key is missing > Keep the index as it is")
+    void findOrReindexWhenTheKeyIsMissingKeepTheIndexAsItIs() {
+        IndexedChoreList chores = new IndexedChoreList();
+        chores.add(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        chores.add(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+
+        assertNull(chores.findOrReindex("Chore #03", LocalDate.now()));
+        assertNull(chores.findOrReindex("Chore #03", LocalDate.now()));
+        assertNull(chores.remove("Chore #03", LocalDate.now()));
+        assertIndexMatchesList(chores);
+    }
+
+    @Test
+    @DisplayName("#filter > When changes and positional reads interleave > Keep the partition order")
+    void filterWhenChangesAndPositionalReadsInterleaveKeepThePartitionOrder() {
+        IndexedChoreList chores = new IndexedChoreList();
+        List<Chore> uncompleted = chores.filter(ChoreFilter.UNCOMPLETED);
+        for (int i = 0; i < 40; i++) {
+            chores.add(new Chore("Chore #" + i, Boolean.FALSE, LocalDate.now()));
+            assertEquals("Chore #" + i, uncompleted.get(uncompleted.size() - 1).getDescription());
+        }
+
+        for (int i = 0; i < 40; i += 3) {
+            chores.update("Chore #" + i, LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE));
+            assertEquals("Chore #1", uncompleted.get(0).getDescription());
+        }
+        chores.update("Chore #0", LocalDate.now(), chore -> chore.setIsCompleted(Boolean.FALSE));
+        assertEquals("Chore #0", uncompleted.get(0).getDescription());
+        chores.remove("Chore #20", LocalDate.now());
+        assertPartitionsMatchList(chores);
+    }
+
+    @Test
+    @DisplayName("#new > When built from a collection > Split the chores by completion")
+    void newWhenBuiltFromACollectionSplitTheChoresByCompletion() {
+        IndexedChoreList chores = new IndexedChoreList(List.of(
+                new Chore("Chore #01", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #02", Boolean.TRUE, LocalDate.now()),
+                new Chore("Chore #03", Boolean.TRUE, LocalDate.now())
+        ));
+        assertEquals(2, chores.count(ChoreFilter.COMPLETED));
+        assertEquals("Chore #02", chores.filter(ChoreFilter.COMPLETED).get(0).getDescription());
+        assertPartitionsMatchList(chores);
+    }
+
+    @Test
+    @DisplayName("#add, #set > When adding or replacing chores > Put them in the partition of their completion")
+    void addAndSetWhenAddingOrReplacingChoresPutThemInThePartitionOfTheirCompletion() {
+        IndexedChoreList chores = new IndexedChoreList();
+        chores.add(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        chores.add(new Chore("Chore #02", Boolean.TRUE, LocalDate.now()));
+        assertPartitionsMatchList(chores);
+
+        chores.set(0, new Chore("Chore #03", Boolean.TRUE, LocalDate.now()));
+        assertEquals(0, chores.count(ChoreFilter.UNCOMPLETED));
+        assertPartitionsMatchList(chores);
+    }
+
+    @Test
+    @DisplayName("#update > When the completion changes > Move the chore to the other partition and keep the order")
+    void updateWhenTheCompletionChangesMoveTheChoreToTheOtherPartitionAndKeepTheOrder() {
+        IndexedChoreList chores = new IndexedChoreList();
+        chores.add(new Chore("Chore #01", Boolean.FALSE, LocalDate.now()));
+        chores.add(new Chore("Chore #02", Boolean.FALSE, LocalDate.now()));
+        chores.add(new Chore("Chore #03", Boolean.FALSE, LocalDate.now()));
+        List<Chore> completed = chores.filter(ChoreFilter.COMPLETED);
+
+        chores.update("Chore #03", LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE));
+        chores.update("Chore #01", LocalDate.now(), chore -> chore.setIsCompleted(Boolean.TRUE));
+        assertEquals("Chore #01", completed.get(0).getDescription());
+        assertEquals(2, completed.size());
+        assertPartitionsMatchList(chores);
+
+        chores.update("Chore #01", LocalDate.now(), chore -> chore.setIsCompleted(Boolean.FALSE));
+        assertEquals("Chore #01", chores.filter(ChoreFilter.UNCOMPLETED).get(0).getDescription());
+        assertPartitionsMatchList(chores);
+
+        chores.update("Chore #02", LocalDate.now(), chore -> chore.setDescription("Chore #02"));
+        assertPartitionsMatchList(chores);
+    }
+
+    @Test
+    @DisplayName("#remove, #clear > When removing chores > Drop them from their partition")
+    void removeAndClearWhenRemovingChoresDropThemFromTheirPartition() {
+        IndexedChoreList chores = new IndexedChoreList();
+        Chore first = new Chore("Chore #01", Boolean.TRUE, LocalDate.now());
+        chores.addAll(List.of(
+                first,
+                new Chore("Chore #02", Boolean.FALSE, LocalDate.now()),
+                new Chore("Chore #03", Boolean.TRUE, LocalDate.now()),
+                new Chore("Chore #04", Boolean.FALSE, LocalDate.now())
+        ));
+
+        chores.remove(first);
+        assertPartitionsMatchList(chores);
+        chores.remove(0);
+        assertPartitionsMatchList(chores);
+        chores.remove("Chore #03", LocalDate.now());
+        assertPartitionsMatchList(chores);
+        assertEquals(1, chores.count(ChoreFilter.UNCOMPLETED));
+
+        chores.clear();
+        assertEquals(0, chores.count(ChoreFilter.COMPLETED));
+        assertEquals(0, chores.count(ChoreFilter.UNCOMPLETED));
+    }
+
+    @Test
+    @DisplayName("#remove > When the chore was toggled through its setter > Drop it from its partition anyway")
+    void removeWhenTheChoreWasToggledThroughItsSetterDropItFromItsPartitionAnyway() {
+        IndexedChoreList chores = new IndexedChoreList();
+        Chore chore = new Chore("Chore #01", Boolean.FALSE, LocalDate.now());
+        chores.add(chore);
+        chore.setIsCompleted(Boolean.TRUE);
+
+        chores.remove(chore);
+
+        assertEquals(0, chores.count(ChoreFilter.UNCOMPLETED));
+        assertEquals(0, chores.count(ChoreFilter.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("#filter > When the partition is returned > Do not allow changes through it")
+    void filterWhenThePartitionIsReturnedDoNotAllowChangesThroughIt() {
+        IndexedChoreList chores = new IndexedChoreList();
+        chores.add(new Chore("Chore #01", Boolean.TRUE, LocalDate.now()));
+        List<Chore> completed = chores.filter(ChoreFilter.COMPLETED);
+        assertAll(
+                () -> assertThrows(UnsupportedOperationException.class,
+                        () -> completed.add(new Chore("Chore #02", Boolean.TRUE, LocalDate.now()))),
+                () -> assertThrows(UnsupportedOperationException.class, completed::clear),
+                () -> assertThrows(UnsupportedOperationException.class,
+                        () -> completed.iterator().remove())
+        );
+    }
+
+    @Test
+    @DisplayName("#findDue > After update, rekey, set and remove > Follow the deadlines")
+    void findDueAfterUpdateRekeySetAndRemoveFollowTheDeadlines() {
+        LocalDate today = LocalDate.now();
+        Chore first = new Chore("Chore #01", Boolean.FALSE, today);
+        Chore second = new Chore("Chore #02", Boolean.FALSE, today.plusDays(1));
+        IndexedChoreList chores = new IndexedChoreList(List.of(first, second));
+
+        chores.rekey(first, "Chore #01", today.plusDays(2));
+        assertEquals(List.of(second, first), chores.findDue(ChoreFilter.ALL, null, null, Integer.MAX_VALUE));
+
+        chores.update("Chore #02", today.plusDays(1), chore -> chore.setIsCompleted(Boolean.TRUE));
+        assertEquals(List.of(first), chores.findDue(ChoreFilter.UNCOMPLETED, null, null, Integer.MAX_VALUE));
+
+        Chore third = new Chore("Chore #03", Boolean.FALSE, today);
+        chores.set(1, third);
+        assertEquals(List.of(third, first), chores.findDue(ChoreFilter.ALL, null, null, Integer.MAX_VALUE));
+
+        chores.remove(first);
+        assertEquals(List.of(third), chores.findDue(ChoreFilter.ALL, today, today.plusDays(5), Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,274 @@
+package br.edu.unifalmg.service;
+
+import br.edu.unifalmg.Repository.Chores.ChoresRepository;
+import br.edu.unifalmg.domain.Chore;
+import br.edu.unifalmg.enumerator.ChoreFilter;
+import br.edu.unifalmg.exception.ChorePersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyChoreStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 10);
+
+    private MemoryRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        repository = new MemoryRepository();
+        for (int i = 1; i <= 10; i++) {
+            repository.save(new Chore("Chore #" + i, i % 2 == 0, DAY.plusDays(10 - i)));
+        }
+    }
+
+    @Test
+    @DisplayName("#new > When nothing is used yet > Read nothing from the repository")
+    void newWhenNothingIsUsedYetReadNothingFromTheRepository() {
+        new LazyChoreStore(repository, 3, 2);
+        assertEquals(0, repository.pagesRead);
+    }
+
+    @Test
+    @DisplayName("#list > When chores are read > Read only the pages reached, in id order")
+    void listWhenChoresAreReadReadOnlyThePagesReachedInIdOrder() {
+        LazyChoreStore store = new LazyChoreStore(repository, 3, 2);
+
+        assertEquals("Chore #1", store.list().get(0).getDescription());
+        assertEquals(1, repository.pagesRead);
+        assertEquals("Chore #3", store.list().get(2).getDescription());
+        assertEquals(1, repository.pagesRead);
+
+        List<String> descriptions = store.list().stream().map(Chore::getDescription).toList();
+        assertAll(
+                () -> assertEquals(10, descriptions.size()),
+                () -> assertEquals("Chore #10", descriptions.get(9)),
+                () -> assertEquals(4, repository.pagesRead),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> store.list().get(10)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> store.list().get(-1)),
+                () -> assertThrows(UnsupportedOperationException.class,
+                        () -> store.list().add(new Chore("Chore #11", Boolean.FALSE, DAY)))
+        );
+    }
+
+    @Test
+    @DisplayName("#list > When more pages are read than fit > Drop the least recently used")
+    void listWhenMorePagesAreReadThanFitDropTheLeastRecentlyUsed() {
+        LazyChoreStore store = new LazyChoreStore(repository, 3, 2);
+        store.list().get(0);
+        store.list().get(3);
+        store.list().get(0);
+        store.list().get(6);
+        assertEquals(3, repository.pagesRead);
+
+        // Page 0 was used last, so page 1 was dropped
+        store.list().get(1);
+        assertEquals(3, repository.pagesRead);
+        store.list().get(4);
+        assertEquals(4, repository.pagesRead);
+    }
+
+    @Test
+    @DisplayName("#find > When the chore is in a cached page > Do not ask the repository")
+    void findWhenTheChoreIsInACachedPageDoNotAskTheRepository() {
+        LazyChoreStore store = new LazyChoreStore(repository, 3, 2);
+        store.list().get(0);
+
+        assertSame(store.list().get(1), store.find("Chore #2", DAY.plusDays(8)));
+        assertEquals(0, repository.finds);
+        assertEquals("Chore #9", store.find("Chore #9", DAY.plusDays(1)).getDescription());
+        assertEquals(1, repository.finds);
+        assertNull(store.find("Chore #9", DAY));
+    }
+
+    @Test
+    @DisplayName("#remove, #update, #rekey > When chores change > Write them to the repository")
+    void removeUpdateRekeyWhenChoresChangeWriteThemToTheRepository() {
+        LazyChoreStore store = new LazyChoreStore(repository, 3, 2);
+        assertEquals(10, store.size());
+
+        assertNotNull(store.remove("Chore #1", DAY.plusDays(9)));
+        assertNull(store.remove("Chore #1", DAY.plusDays(9)));
+        Chore toggled = store.update("Chore #3", DAY.plusDays(7), chore -> chore.setIsCompleted(Boolean.TRUE));
+        Chore edited = store.list().get(0);
+        assertNotNull(store.rekey(edited, "Chore #2 edited", DAY));
+        assertNull(store.rekey(store.list().get(1), "Chore #2 edited", DAY));
+
+        assertAll(
+                () -> assertEquals(9, store.size()),
+                () -> assertEquals(9, repository.chores.size()),
+                () -> assertEquals(Boolean.TRUE, toggled.getIsCompleted()),
+                () -> assertEquals(Boolean.TRUE, repository.find("Chore #3", DAY.plusDays(7)).getIsCompleted()),
+                () -> assertEquals("Chore #2 edited", edited.getDescription()),
+                () -> assertEquals("Chore #2 edited", store.list().get(0).getDescription()),
+                () -> assertNotNull(repository.find("Chore #2 edited", DAY)),
+                () -> assertTrue(store.writesThrough())
+        );
+    }
+
+    @Test
+    @DisplayName("#update, #remove > When a chore changes > Read again only the pages it moved")
+    void updateRemoveWhenAChoreChangesReadAgainOnlyThePagesItMoved() {
+        LazyChoreStore store = new LazyChoreStore(repository, 3, 4);
+        store.list().get(0);
+        store.list().get(3);
+        store.list().get(6);
+        assertEquals(3, repository.pagesRead);
+
+        store.update("Chore #5", DAY.plusDays(5), chore -> chore.setIsCompleted(Boolean.TRUE));
+        store.list().get(0);
+        store.list().get(6);
+        assertEquals(3, repository.pagesRead);
+        assertEquals(Boolean.TRUE, store.list().get(4).getIsCompleted());
+        assertEquals(4, repository.pagesRead);
+
+        store.remove("Chore #5", DAY.plusDays(5));
+        assertEquals("Chore #1", store.list().get(0).getDescription());
+        assertEquals(4, repository.pagesRead);
+        assertAll(
+                () -> assertEquals("Chore #6", store.list().get(4).getDescription()),
+                () -> assertEquals("Chore #8", store.list().get(6).getDescription()),
+                () -> assertEquals(9, store.size()),
+                () -> assertEquals(6, repository.pagesRead)
+        );
+    }
+
+    @Test
+    @DisplayName("#remove, #update, #rekey > When the repository refuses the write > Throw a persistence exception")
+    void removeUpdateRekeyWhenTheRepositoryRefusesTheWriteThrowAPersistenceException() {
+        LazyChoreStore store = new LazyChoreStore(repository, 3, 2);
+        Chore chore = store.list().get(0);
+        repository.refuseWrites = true;
+
+        assertAll(
+                () -> assertThrows(ChorePersistenceException.class, () -> store.remove("Chore #1", DAY.plusDays(9))),
+                () -> assertThrows(ChorePersistenceException.class,
+                        () -> store.update("Chore #1", DAY.plusDays(9), toggled -> toggled.setIsCompleted(Boolean.TRUE))),
+                () -> assertThrows(ChorePersistenceException.class, () -> store.rekey(chore, "Chore #1 edited", DAY)),
+                () -> assertEquals("Chore #1", chore.getDescription()),
+                () -> assertEquals(Boolean.FALSE, store.find("Chore #1", DAY.plusDays(9)).getIsCompleted()),
+                () -> assertEquals(10, repository.chores.size())
+        );
+    }
+
+    @Test
+    @DisplayName("#addIfAbsent > When the key is stored > Return false without saving")
+    void addIfAbsentWhenTheKeyIsStoredReturnFalseWithoutSaving() {
+        LazyChoreStore store = new LazyChoreStore(repository, 3, 2);
+        assertFalse(store.addIfAbsent(new Chore("Chore #1", Boolean.FALSE, DAY.plusDays(9))));
+        assertTrue(store.addIfAbsent(new Chore("Chore #11", Boolean.FALSE, DAY)));
+        assertEquals(10, repository.chores.size());
+    }
+
+    @Test
+    @DisplayName("#filter, #count, #findDue > When asked > Stream the repository")
+    void filterCountFindDueWhenAskedStreamTheRepository() {
+        LazyChoreStore store = new LazyChoreStore(repository, 3, 2);
+        assertAll(
+                () -> assertEquals(5, store.filter(ChoreFilter.COMPLETED).size()),
+                () -> assertEquals(5, store.count(ChoreFilter.UNCOMPLETED)),
+                () -> assertEquals(10, store.count(ChoreFilter.ALL)),
+                () -> assertEquals(List.of("Chore #10", "Chore #8"),
+                        store.findDue(ChoreFilter.COMPLETED, null, DAY.plusDays(2), 10).stream()
+                                .map(Chore::getDescription).toList()),
+                () -> assertEquals(List.of("Chore #9"),
+                        store.findDue(ChoreFilter.ALL, DAY.plusDays(1), null, 1).stream()
+                                .map(Chore::getDescription).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("#size, #list > When the repository cannot be read > Throw without caching an empty result")
+    void sizeListWhenTheRepositoryCannotBeReadThrowWithoutCachingAnEmptyResult() {
+        LazyChoreStore store = new LazyChoreStore(repository, 3, 2);
+        repository.refuseReads = true;
+
+        assertAll(
+                () -> assertThrows(ChorePersistenceException.class, store::size),
+                () -> assertThrows(ChorePersistenceException.class, () -> store.list().get(0))
+        );
+        repository.refuseReads = false;
+
+        assertAll(
+                () -> assertEquals(10, store.size()),
+                () -> assertEquals("Chore #1", store.list().get(0).getDescription())
+        );
+    }
+
+    /**
+     * Keeps the chores by id and counts the reads, paging through the
+     * default ChoresRepository methods.
+     */
+    private static class MemoryRepository implements ChoresRepository {
+
+        private final Map<Long, Chore> chores = new TreeMap<>();
+        private long nextId = 1;
+        private int pagesRead;
+        private int finds;
+        private boolean refuseWrites;
+        private boolean refuseReads;
+
+        @Override
+        public List<Chore> load() {
+            List<Chore> copies = new ArrayList<>();
+            chores.values().forEach(chore -> copies.add(
+                    new Chore(chore.getId(), chore.getDescription(), chore.getIsCompleted(), chore.getDeadline())));
+            return copies;
+        }
+
+        @Override
+        public List<Chore> loadPage(long afterId, int size) {
+            pagesRead++;
+            return refuseReads ? null : ChoresRepository.super.loadPage(afterId, size);
+        }
+
+        @Override
+        public long count() {
+            if (refuseReads) {
+                throw new ChorePersistenceException("Unable to count the chores");
+            }
+            return ChoresRepository.super.count();
+        }
+
+        @Override
+        public Chore find(String description, LocalDate deadline) {
+            finds++;
+            return ChoresRepository.super.find(description, deadline);
+        }
+
+        @Override
+        public boolean saveAll(List<Chore> chores) {
+            throw new RuntimeException("Operation not supported yet");
+        }
+
+        @Override
+        public boolean save(Chore chore) {
+            chore.setId(nextId++);
+            return update(chore);
+        }
+
+        @Override
+        public boolean update(Chore chore) {
+            if (refuseWrites) {
+                return false;
+            }
+            chores.put(chore.getId(),
+                    new Chore(chore.getId(), chore.getDescription(), chore.getIsCompleted(), chore.getDeadline()));
+            return true;
+        }
+
+        @Override
+        public boolean delete(Chore chore) {
+            return !refuseWrites && Objects.nonNull(chores.remove(chore.getId()));
+        }
+    }
+}
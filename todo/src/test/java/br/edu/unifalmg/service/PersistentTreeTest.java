@@ -0,0 +1,82 @@
+package br.edu.unifalmg.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentTreeTest {
+
+    @Test
+    @DisplayName("#put, #remove > When keys are added and removed at random > Match a TreeMap")
+    void putRemoveWhenKeysAreAddedAndRemovedAtRandomMatchATreeMap() {
+        Random random = new Random(42);
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        PersistentTree<Integer, String> tree = PersistentTree.empty();
+        for (int i = 0; i < 5_000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextBoolean()) {
+                expected.put(key, "#" + i);
+                tree = tree.put(key, "#" + i);
+            } else {
+                expected.remove(key);
+                tree = tree.remove(key);
+            }
+        }
+
+        PersistentTree<Integer, String> result = tree;
+        assertAll(
+                () -> assertEquals(expected.size(), result.size()),
+                () -> assertEquals(new ArrayList<>(expected.values()), result.values()),
+                () -> assertEquals(expected.get(250), result.get(250)),
+                () -> assertEquals(expected.firstEntry().getValue(), result.valueAt(0)),
+                () -> assertEquals(expected.lastEntry().getValue(), result.valueAt(result.size() - 1))
+        );
+    }
+
+    @Test
+    @DisplayName("#put, #remove > When a new version is made > Leave the previous version as it was")
+    void putRemoveWhenANewVersionIsMadeLeaveThePreviousVersionAsItWas() {
+        PersistentTree<Integer, String> previous = PersistentTree.<Integer, String>empty()
+                .put(1, "One").put(2, "Two").put(3, "Three");
+
+        PersistentTree<Integer, String> next = previous.remove(2).put(4, "Four").put(1, "Uno");
+
+        assertAll(
+                () -> assertEquals(List.of("One", "Two", "Three"), previous.values()),
+                () -> assertEquals(List.of("Uno", "Three", "Four"), next.values()),
+                () -> assertSame(previous, previous.remove(5)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> next.values().add("Five"))
+        );
+    }
+
+    @Test
+    @DisplayName("#entries > When bounds are given > Return the entries between them in order")
+    void entriesWhenBoundsAreGivenReturnTheEntriesBetweenThemInOrder() {
+        PersistentTree<Integer, String> filled = PersistentTree.empty();
+        for (int key = 0; key < 100; key += 10) {
+            filled = filled.put(key, "#" + key);
+        }
+
+        PersistentTree<Integer, String> tree = filled;
+        assertAll(
+                () -> assertEquals(List.of(20, 30, 40), keys(tree.entries(15, 40))),
+                () -> assertEquals(List.of(0, 10), keys(tree.entries(null, 10))),
+                () -> assertEquals(List.of(90), keys(tree.entries(85, null))),
+                () -> assertEquals(List.of(), keys(tree.entries(41, 49)))
+        );
+    }
+
+    private static List<Integer> keys(Iterator<Map.Entry<Integer, String>> entries) {
+        List<Integer> keys = new ArrayList<>();
+        entries.forEachRemaining(entry -> keys.add(entry.getKey()));
+        return keys;
+    }
+}